@@ -0,0 +1,16 @@
+package com.br.codegroup.analytics;
+
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.domain.RiskClassification;
+
+import java.time.YearMonth;
+
+// Um grupo do resultado; dimensões fora do agrupamento ficam nulas
+public record ColumnGroup(
+        ProjectStatus status,
+        RiskClassification riskClassification,
+        Long managerId,
+        YearMonth startMonth,
+        long count,
+        long budgetCents) {
+}
@@ -0,0 +1,23 @@
+package com.br.codegroup.analytics;
+
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.domain.RiskClassification;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Filtros e agrupamento de uma consulta ao {@link ProjectColumnStore}. Conjuntos vazios ou
+ * nulos não filtram; risco nulo só é aceito quando nenhum filtro de risco é informado.
+ */
+public record ColumnQuery(
+        Set<ProjectStatus> statuses,
+        Set<RiskClassification> riskClassifications,
+        Set<Long> managerIds,
+        LocalDate startDateFrom,
+        LocalDate startDateTo,
+        boolean byStatus,
+        boolean byRisk,
+        boolean byManager,
+        boolean byStartMonth) {
+}
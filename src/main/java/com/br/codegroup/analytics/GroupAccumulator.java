@@ -0,0 +1,69 @@
+package com.br.codegroup.analytics;
+
+// Contagem e soma de orçamento (centavos) por chave de grupo, com endereçamento aberto
+final class GroupAccumulator {
+
+    private long[] keys = new long[64];
+    private long[] counts = new long[64];
+    private long[] sums = new long[64];
+    private boolean[] used = new boolean[64];
+    private int size;
+
+    void add(long key, long count, long cents) {
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        int i = slot(key, mask);
+        while (used[i] && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        if (!used[i]) {
+            used[i] = true;
+            keys[i] = key;
+            size++;
+        }
+        counts[i] += count;
+        sums[i] += cents;
+    }
+
+    GroupAccumulator merge(GroupAccumulator other) {
+        other.forEach(this::add);
+        return this;
+    }
+
+    void forEach(Visitor visitor) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                visitor.visit(keys[i], counts[i], sums[i]);
+            }
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldCounts = counts;
+        long[] oldSums = sums;
+        boolean[] oldUsed = used;
+        keys = new long[oldKeys.length * 2];
+        counts = new long[oldKeys.length * 2];
+        sums = new long[oldKeys.length * 2];
+        used = new boolean[oldKeys.length * 2];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                add(oldKeys[i], oldCounts[i], oldSums[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(long key, long count, long cents);
+    }
+}
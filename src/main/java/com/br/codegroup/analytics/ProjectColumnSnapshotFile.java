@@ -0,0 +1,178 @@
+package com.br.codegroup.analytics;
+
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.domain.RiskClassification;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Fotografia binária do {@link ProjectColumnStore} para a subida sem carga completa.
+ *
+ * Layout (little-endian): cabeçalho com assinatura, versão e marca d'água; nomes dos status
+ * e riscos na ordem dos ordinais gravados (a leitura traduz para os ordinais atuais, então
+ * reordenar os enums não invalida o arquivo); quantidade de linhas e de gerentes; as colunas
+ * em sequência; e um CRC32 de tudo o que vem antes. A gravação usa um arquivo temporário
+ * renomeado ao final, e a leitura mapeia o arquivo em memória e copia as colunas em bloco.
+ */
+public final class ProjectColumnSnapshotFile {
+
+    private static final int MAGIC = 0x43475053;
+    private static final int VERSION = 1;
+
+    public record Loaded(ProjectColumnStore store, LocalDateTime watermark) {
+    }
+
+    private ProjectColumnSnapshotFile() {
+    }
+
+    public static void write(ProjectColumnStore store, LocalDateTime watermark, Path path) throws IOException {
+        ProjectColumnStore.Columns columns = store.columns();
+        int rows = columns.ids().length;
+        byte[] statusNames = names(ProjectStatus.values());
+        byte[] riskNames = names(RiskClassification.values());
+
+        long size = 4 + 4 + 8 + 4 + statusNames.length + riskNames.length + 4 + 4
+                + rows * (8L + 8 + 1 + 1 + 4 + 4 + 4) + columns.managerIds().length * 8L + 8;
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                buffer.putInt(MAGIC).putInt(VERSION);
+                buffer.putLong(watermark.toEpochSecond(ZoneOffset.UTC)).putInt(watermark.getNano());
+                buffer.put(statusNames).put(riskNames);
+                buffer.putInt(rows).putInt(columns.managerIds().length);
+                buffer.asLongBuffer().put(columns.ids());
+                skip(buffer, rows * 8);
+                buffer.asLongBuffer().put(columns.budgetCents());
+                skip(buffer, rows * 8);
+                buffer.put(columns.statuses()).put(columns.risks());
+                buffer.asIntBuffer().put(columns.startDays());
+                skip(buffer, rows * 4);
+                buffer.asIntBuffer().put(columns.startMonths());
+                skip(buffer, rows * 4);
+                buffer.asIntBuffer().put(columns.managers());
+                skip(buffer, rows * 4);
+                buffer.asLongBuffer().put(columns.managerIds());
+                skip(buffer, columns.managerIds().length * 8);
+                buffer.putLong(checksum(buffer, buffer.position()));
+                buffer.force();
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    // Vazio quando o arquivo não existe, é de outra versão, está corrompido ou cita valores desconhecidos
+    public static Optional<Loaded> read(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            int end = buffer.limit() - 8;
+            if (end < 8 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+                    || buffer.getLong(end) != checksum(buffer, end)) {
+                return Optional.empty();
+            }
+
+            LocalDateTime watermark = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            byte[] statusMap = ordinalMap(buffer, ProjectStatus.class);
+            byte[] riskMap = ordinalMap(buffer, RiskClassification.class);
+            if (statusMap == null || riskMap == null) {
+                return Optional.empty();
+            }
+
+            int rows = buffer.getInt();
+            int managerCount = buffer.getInt();
+            long[] ids = new long[rows];
+            long[] budgetCents = new long[rows];
+            byte[] statuses = new byte[rows];
+            byte[] risks = new byte[rows];
+            int[] startDays = new int[rows];
+            int[] startMonths = new int[rows];
+            int[] managers = new int[rows];
+            long[] managerIds = new long[managerCount];
+
+            buffer.asLongBuffer().get(ids);
+            skip(buffer, rows * 8);
+            buffer.asLongBuffer().get(budgetCents);
+            skip(buffer, rows * 8);
+            buffer.get(statuses).get(risks);
+            buffer.asIntBuffer().get(startDays);
+            skip(buffer, rows * 4);
+            buffer.asIntBuffer().get(startMonths);
+            skip(buffer, rows * 4);
+            buffer.asIntBuffer().get(managers);
+            skip(buffer, rows * 4);
+            buffer.asLongBuffer().get(managerIds);
+
+            for (int i = 0; i < rows; i++) {
+                statuses[i] = statusMap[statuses[i]];
+                risks[i] = risks[i] < 0 ? -1 : riskMap[risks[i]];
+            }
+            return Optional.of(new Loaded(new ProjectColumnStore(new ProjectColumnStore.Columns(ids, budgetCents,
+                    statuses, risks, startDays, startMonths, managers, managerIds)), watermark));
+        } catch (RuntimeException e) {
+            // Arquivo truncado ou com contagens incoerentes
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] names(Enum<?>[] values) {
+        ByteBuffer buffer = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putShort((short) values.length);
+        for (Enum<?> value : values) {
+            byte[] name = value.name().getBytes(StandardCharsets.UTF_8);
+            buffer.putShort((short) name.length).put(name);
+        }
+        byte[] bytes = new byte[buffer.position()];
+        buffer.flip().get(bytes);
+        return bytes;
+    }
+
+    // Ordinal gravado -> ordinal atual; nulo se algum nome não existe mais
+    private static <E extends Enum<E>> byte[] ordinalMap(ByteBuffer buffer, Class<E> type) {
+        int count = buffer.getShort();
+        byte[] map = new byte[count];
+        for (int i = 0; i < count; i++) {
+            byte[] name = new byte[buffer.getShort()];
+            buffer.get(name);
+            try {
+                map[i] = (byte) Enum.valueOf(type, new String(name, StandardCharsets.UTF_8)).ordinal();
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return map;
+    }
+
+    private static long checksum(ByteBuffer buffer, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(0).limit(length));
+        return crc.getValue();
+    }
+
+    private static void skip(ByteBuffer buffer, int bytes) {
+        buffer.position(buffer.position() + bytes);
+    }
+}
@@ -0,0 +1,287 @@
+package com.br.codegroup.analytics;
+
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.domain.RiskClassification;
+import com.br.codegroup.repository.ProjectColumnRow;
+
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Projetos em colunas de tipos primitivos para agregações em memória: orçamento em
+ * centavos, status e risco como ordinais, datas em dias desde a época e gerente como
+ * índice de um dicionário. As linhas ficam contíguas (a exclusão move a última linha para
+ * a lacuna), então uma consulta é uma varredura sequencial dos arrays, dividida entre os
+ * núcleos a partir de {@code parallelThreshold} linhas. Escritas e leituras são
+ * coordenadas por um lock de leitura/escrita.
+ */
+public class ProjectColumnStore {
+
+    private static final ProjectStatus[] STATUSES = ProjectStatus.values();
+    private static final RiskClassification[] RISKS = RiskClassification.values();
+    private static final byte NO_RISK = -1;
+
+    // Posições de cada dimensão na chave de grupo
+    private static final int STATUS_SHIFT = 56;
+    private static final int RISK_SHIFT = 48;
+    private static final int MANAGER_SHIFT = 24;
+    private static final long MONTH_MASK = (1L << 24) - 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap rowById;
+    private final LongIntHashMap managerIndex = new LongIntHashMap(64);
+    private long[] managerIds = new long[64];
+
+    private long[] ids;
+    private long[] budgetCents;
+    private byte[] statuses;
+    private byte[] risks;
+    private int[] startDays;
+    private int[] startMonths;
+    private int[] managers;
+    private int size;
+
+    public ProjectColumnStore(int expectedSize) {
+        int capacity = Math.max(16, expectedSize);
+        rowById = new LongIntHashMap(capacity);
+        ids = new long[capacity];
+        budgetCents = new long[capacity];
+        statuses = new byte[capacity];
+        risks = new byte[capacity];
+        startDays = new int[capacity];
+        startMonths = new int[capacity];
+        managers = new int[capacity];
+    }
+
+    // Restaura as colunas lidas de uma fotografia em arquivo
+    ProjectColumnStore(Columns columns) {
+        this(columns.ids().length);
+        int rows = columns.ids().length;
+        System.arraycopy(columns.ids(), 0, ids, 0, rows);
+        System.arraycopy(columns.budgetCents(), 0, budgetCents, 0, rows);
+        System.arraycopy(columns.statuses(), 0, statuses, 0, rows);
+        System.arraycopy(columns.risks(), 0, risks, 0, rows);
+        System.arraycopy(columns.startDays(), 0, startDays, 0, rows);
+        System.arraycopy(columns.startMonths(), 0, startMonths, 0, rows);
+        System.arraycopy(columns.managers(), 0, managers, 0, rows);
+        for (int i = 0; i < rows; i++) {
+            rowById.put(ids[i], i);
+        }
+        for (long managerId : columns.managerIds()) {
+            managerIndexOf(managerId);
+        }
+        size = rows;
+    }
+
+    public void upsert(ProjectColumnRow row) {
+        lock.writeLock().lock();
+        try {
+            int index = rowById.get(row.id());
+            if (index == LongIntHashMap.MISSING) {
+                if (size == ids.length) {
+                    grow();
+                }
+                index = size++;
+                rowById.put(row.id(), index);
+            }
+            ids[index] = row.id();
+            budgetCents[index] = row.totalBudget().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            statuses[index] = (byte) row.status().ordinal();
+            risks[index] = row.riskClassification() != null ? (byte) row.riskClassification().ordinal() : NO_RISK;
+            startDays[index] = (int) row.startDate().toEpochDay();
+            startMonths[index] = row.startDate().getYear() * 12 + row.startDate().getMonthValue() - 1;
+            managers[index] = managerIndexOf(row.managerId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            int index = rowById.remove(id);
+            if (index == LongIntHashMap.MISSING) {
+                return;
+            }
+            int last = --size;
+            if (index != last) {
+                ids[index] = ids[last];
+                budgetCents[index] = budgetCents[last];
+                statuses[index] = statuses[last];
+                risks[index] = risks[last];
+                startDays[index] = startDays[last];
+                startMonths[index] = startMonths[last];
+                managers[index] = managers[last];
+                rowById.put(ids[index], index);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<ColumnGroup> aggregate(ColumnQuery query, int parallelThreshold) {
+        lock.readLock().lock();
+        try {
+            Scan scan = new Scan(query);
+            GroupAccumulator total;
+            if (size >= parallelThreshold && Runtime.getRuntime().availableProcessors() > 1) {
+                int parts = Runtime.getRuntime().availableProcessors();
+                int step = (size + parts - 1) / parts;
+                total = IntStream.range(0, parts).parallel()
+                        .mapToObj(part -> scan.run(part * step, Math.min(size, (part + 1) * step)))
+                        .reduce(GroupAccumulator::merge)
+                        .orElseGet(GroupAccumulator::new);
+            } else {
+                total = scan.run(0, size);
+            }
+
+            List<ColumnGroup> groups = new ArrayList<>();
+            total.forEach((key, count, cents) -> groups.add(decode(query, key, count, cents)));
+            return groups;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Cópia das colunas, sem a folga dos arrays, para a fotografia em arquivo
+    Columns columns() {
+        lock.readLock().lock();
+        try {
+            return new Columns(Arrays.copyOf(ids, size), Arrays.copyOf(budgetCents, size),
+                    Arrays.copyOf(statuses, size), Arrays.copyOf(risks, size), Arrays.copyOf(startDays, size),
+                    Arrays.copyOf(startMonths, size), Arrays.copyOf(managers, size),
+                    Arrays.copyOf(managerIds, managerIndex.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private ColumnGroup decode(ColumnQuery query, long key, long count, long cents) {
+        ProjectStatus status = query.byStatus() ? STATUSES[(int) (key >>> STATUS_SHIFT)] : null;
+        int risk = (int) (key >>> RISK_SHIFT & 0xFF) - 1;
+        RiskClassification riskClassification = query.byRisk() && risk >= 0 ? RISKS[risk] : null;
+        Long managerId = query.byManager() ? managerIds[(int) (key >>> MANAGER_SHIFT & 0xFFFFFF)] : null;
+        YearMonth startMonth = null;
+        if (query.byStartMonth()) {
+            int month = (int) (key & MONTH_MASK);
+            startMonth = YearMonth.of(month / 12, month % 12 + 1);
+        }
+        return new ColumnGroup(status, riskClassification, managerId, startMonth, count, cents);
+    }
+
+    private int managerIndexOf(long managerId) {
+        int index = managerIndex.get(managerId);
+        if (index == LongIntHashMap.MISSING) {
+            index = managerIndex.size();
+            if (index == managerIds.length) {
+                managerIds = Arrays.copyOf(managerIds, index * 2);
+            }
+            managerIds[index] = managerId;
+            managerIndex.put(managerId, index);
+        }
+        return index;
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        budgetCents = Arrays.copyOf(budgetCents, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        risks = Arrays.copyOf(risks, capacity);
+        startDays = Arrays.copyOf(startDays, capacity);
+        startMonths = Arrays.copyOf(startMonths, capacity);
+        managers = Arrays.copyOf(managers, capacity);
+    }
+
+    // Status e risco como ordinais dos enums atuais; risco -1 quando não classificado
+    record Columns(long[] ids, long[] budgetCents, byte[] statuses, byte[] risks, int[] startDays,
+                   int[] startMonths, int[] managers, long[] managerIds) {
+    }
+
+    // Filtros traduzidos para máscaras de bits e intervalos de inteiros antes da varredura
+    private final class Scan {
+
+        private final int statusMask;
+        private final int riskMask;
+        private final boolean[] allowedManagers;
+        private final int minDay;
+        private final int maxDay;
+        private final boolean byStatus;
+        private final boolean byRisk;
+        private final boolean byManager;
+        private final boolean byStartMonth;
+
+        private Scan(ColumnQuery query) {
+            statusMask = query.statuses() == null || query.statuses().isEmpty()
+                    ? -1
+                    : query.statuses().stream().mapToInt(status -> 1 << status.ordinal()).reduce(0, (a, b) -> a | b);
+            // Bit 0 representa projetos sem classificação de risco
+            riskMask = query.riskClassifications() == null || query.riskClassifications().isEmpty()
+                    ? -1
+                    : query.riskClassifications().stream().mapToInt(risk -> 1 << (risk.ordinal() + 1))
+                            .reduce(0, (a, b) -> a | b);
+            if (query.managerIds() == null || query.managerIds().isEmpty()) {
+                allowedManagers = null;
+            } else {
+                allowedManagers = new boolean[managerIndex.size()];
+                query.managerIds().forEach(managerId -> {
+                    int index = managerIndex.get(managerId);
+                    if (index != LongIntHashMap.MISSING) {
+                        allowedManagers[index] = true;
+                    }
+                });
+            }
+            minDay = query.startDateFrom() != null ? (int) query.startDateFrom().toEpochDay() : Integer.MIN_VALUE;
+            maxDay = query.startDateTo() != null ? (int) query.startDateTo().toEpochDay() : Integer.MAX_VALUE;
+            byStatus = query.byStatus();
+            byRisk = query.byRisk();
+            byManager = query.byManager();
+            byStartMonth = query.byStartMonth();
+        }
+
+        private GroupAccumulator run(int from, int to) {
+            GroupAccumulator accumulator = new GroupAccumulator();
+            for (int i = from; i < to; i++) {
+                if ((statusMask >>> statuses[i] & 1) == 0 || (riskMask >>> (risks[i] + 1) & 1) == 0) {
+                    continue;
+                }
+                int day = startDays[i];
+                if (day < minDay || day > maxDay) {
+                    continue;
+                }
+                if (allowedManagers != null && !allowedManagers[managers[i]]) {
+                    continue;
+                }
+                long key = 0;
+                if (byStatus) {
+                    key |= (long) statuses[i] << STATUS_SHIFT;
+                }
+                if (byRisk) {
+                    key |= (long) (risks[i] + 1) << RISK_SHIFT;
+                }
+                if (byManager) {
+                    key |= (long) managers[i] << MANAGER_SHIFT;
+                }
+                if (byStartMonth) {
+                    key |= startMonths[i] & MONTH_MASK;
+                }
+                accumulator.add(key, 1, budgetCents[i]);
+            }
+            return accumulator;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.br.codegroup.config;
+
+import com.br.codegroup.domain.ProjectStatus;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.analytics")
+public class AnalyticsProperties {
+
+    // Período padrão dos relatórios quando "from" não é informado
+    private int defaultDays = 90;
+
+    // Um dia só é consolidado depois desse intervalo, para incluir o histórico ainda na fila de gravação
+    private long rollupGraceMinutes = 5;
+
+    // Status em que projetos parados são listados como outliers
+    private Set<ProjectStatus> stuckStatuses = EnumSet.of(ProjectStatus.REVIEW_COMPLETED);
+
+    // Outlier: tempo no status atual acima de stuckFactor vezes a média do status no período
+    private double stuckFactor = 2.0;
+
+    private int stuckLimit = 20;
+
+    private Engine engine = new Engine();
+
+    @Data
+    public static class Engine {
+
+        // Mantém os projetos em colunas na memória para /api/projects/analytics/query
+        private boolean enabled = true;
+
+        // A partir dessa quantidade de projetos a varredura é dividida entre os núcleos
+        private int parallelThreshold = 200000;
+
+        // Recarga completa periódica, corrigindo eventuais atualizações perdidas (0 desativa)
+        private long reloadIntervalMinutes = 60;
+
+        // Fotografia binária local usada na subida para evitar a carga completa (vazio desativa)
+        private String snapshotFile = "";
+
+        // Intervalo de gravação da fotografia; ela também é gravada no encerramento
+        private long snapshotIntervalMinutes = 15;
+
+        // Na retomada, relê também o que mudou nesse intervalo antes da marca d'água
+        private long catchUpOverlapMinutes = 10;
+
+        // Exclusões ficam registradas por esse período; fotografias mais antigas são descartadas
+        private int tombstoneRetentionDays = 7;
+    }
+}
@@ -0,0 +1,21 @@
+package com.br.codegroup.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.auth.token")
+public class AuthTokenProperties {
+
+    // Chave HMAC-SHA256 com pelo menos 32 bytes. Vazia, uma chave aleatória é gerada na
+    // inicialização e os tokens emitidos deixam de valer a cada reinício
+    private String secret = "";
+
+    // Curto: um token de acesso não pode ser revogado antes de expirar
+    private long accessTokenMinutes = 15;
+
+    // Janela em que o cliente renova o acesso sem reenviar a senha
+    private long refreshTokenMinutes = 480;
+}
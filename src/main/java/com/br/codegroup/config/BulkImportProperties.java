@@ -0,0 +1,14 @@
+package com.br.codegroup.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.projects.bulk")
+public class BulkImportProperties {
+
+    // Quantidade de projetos gravados por lote de INSERT (e por transação, quando não é tudo-ou-nada)
+    private int chunkSize = 500;
+}
@@ -0,0 +1,20 @@
+package com.br.codegroup.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.member.cache")
+public class MemberCacheProperties {
+
+    // Desligado, toda busca de membro por ID vai ao banco
+    private boolean enabled = true;
+
+    // Membros mantidos em memória; acima disso os menos usados são descartados
+    private long maximumSize = 10000;
+
+    // Limite de permanência, para membros alterados fora da aplicação (ex.: scripts de carga)
+    private long expireAfterWriteMinutes = 30;
+}
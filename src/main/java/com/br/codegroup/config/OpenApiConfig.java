@@ -1,9 +1,12 @@
 package com.br.codegroup.config;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
 import io.swagger.v3.oas.annotations.info.Contact;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.info.License;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import io.swagger.v3.oas.annotations.servers.Server;
 
 @OpenAPIDefinition(
@@ -30,7 +33,15 @@ import io.swagger.v3.oas.annotations.servers.Server;
                         url = "https://api.empresa.com",
                         description = "Servidor de Produção"
                 )
-        }
+        },
+        security = @SecurityRequirement(name = "bearerAuth")
+)
+// Token obtido em POST /api/auth/login
+@SecurityScheme(
+        name = "bearerAuth",
+        type = SecuritySchemeType.HTTP,
+        scheme = "bearer",
+        bearerFormat = "JWT"
 )
 public class OpenApiConfig {
     // Configurações adicionais podem ser feitas aqui
@@ -0,0 +1,20 @@
+package com.br.codegroup.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.project.cache")
+public class ProjectCacheProperties {
+
+    // Desligado, cada leitura vai ao banco, mas o ETag continua sendo enviado
+    private boolean enabled = true;
+
+    // Projetos mantidos já serializados; acima disso os menos usados são descartados
+    private long maximumSize = 10000;
+
+    // Limite de permanência mesmo sem escrita, para alterações feitas fora da aplicação
+    private long expireAfterWriteMinutes = 10;
+}
@@ -0,0 +1,23 @@
+package com.br.codegroup.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.report.jobs")
+public class ReportJobProperties {
+
+    // Relatórios processados em paralelo
+    private int threads = 2;
+
+    // Relatórios aguardando execução; acima disso novos pedidos são recusados
+    private int queueCapacity = 20;
+
+    // Valor do Retry-After (segundos) no 503 devolvido com a fila cheia
+    private long retryAfterSeconds = 5;
+
+    // Tempo que o resultado de um job concluído fica disponível
+    private long ttlMinutes = 30;
+}
@@ -0,0 +1,24 @@
+package com.br.codegroup.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.report.snapshot")
+public class ReportSnapshotProperties {
+
+    private boolean enabled = true;
+
+    // Horário da captura diária; capturas repetidas no mesmo dia substituem a anterior
+    private LocalTime captureTime = LocalTime.of(23, 50);
+
+    // Período padrão da tendência quando "from" não é informado
+    private int defaultDays = 30;
+
+    // Maior período aceito em uma consulta de tendência
+    private int maxDays = 731;
+}
@@ -0,0 +1,21 @@
+package com.br.codegroup.config;
+
+import com.br.codegroup.domain.RiskPolicy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RiskConfig {
+
+    // Também ativa a política para a entidade Project, que não recebe injeção de dependências
+    @Bean
+    public RiskPolicy riskPolicy(RiskProperties riskProperties) {
+        RiskPolicy policy = new RiskPolicy(
+                riskProperties.getLowBudgetLimit(),
+                riskProperties.getMediumBudgetLimit(),
+                riskProperties.getLowMonthsLimit(),
+                riskProperties.getMediumMonthsLimit());
+        RiskPolicy.activate(policy);
+        return policy;
+    }
+}
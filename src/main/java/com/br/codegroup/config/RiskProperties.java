@@ -0,0 +1,36 @@
+package com.br.codegroup.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.risk")
+public class RiskProperties {
+
+    // Orçamento máximo (inclusive) das faixas de baixo e médio risco
+    private BigDecimal lowBudgetLimit = new BigDecimal("100000");
+    private BigDecimal mediumBudgetLimit = new BigDecimal("500000");
+
+    // Prazo máximo em meses (inclusive) das faixas de baixo e médio risco
+    private int lowMonthsLimit = 3;
+    private int mediumMonthsLimit = 6;
+
+    // Quantidade máxima de cenários por chamada de avaliação em lote
+    private int maxBatchSize = 10000;
+
+    private Recalculation recalculation = new Recalculation();
+
+    @Data
+    public static class Recalculation {
+
+        // Projetos lidos (e UPDATEs agrupados) por bloco
+        private int chunkSize = 1000;
+
+        // Pausa entre blocos para não competir com o tráfego transacional
+        private long pauseMs = 100;
+    }
+}
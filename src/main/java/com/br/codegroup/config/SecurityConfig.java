@@ -1,11 +1,19 @@
 package com.br.codegroup.config;
 
 
+import com.br.codegroup.service.AuthTokenService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -13,15 +21,19 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthTokenService authTokenService)
+            throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
+                // Sem sessão: cada requisição traz o token de acesso, conferido só pelo HMAC
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authz -> authz
                         // Documentação pública
                         .requestMatchers(
@@ -32,28 +44,52 @@ public class SecurityConfig {
                                 "/api-docs/**"
                         ).permitAll()
 
-                        // Autenticação pública
+                        // Autenticação pública (emissão e renovação de tokens)
                         .requestMatchers("/api/auth/**").permitAll()
 
                         // Relatórios - apenas admin e manager
                         .requestMatchers("/api/reports/**").hasAnyRole("ADMIN", "MANAGER")
 
+                        // Transição de status em lote compartilha a rota da busca por status
+                        .requestMatchers(HttpMethod.PATCH, "/api/projects/status").hasAnyRole("ADMIN", "MANAGER")
+
+                        // Avaliação de risco não grava nada: liberada para todos os perfis
+                        .requestMatchers(HttpMethod.POST, "/api/projects/risk/evaluate").hasAnyRole("ADMIN", "MANAGER", "USER")
+
                         // Projetos - leitura para todos, escrita para admin/manager
-                        .requestMatchers("/api/projects", "/api/projects/search", "/api/projects/status", "/api/projects/manager")
+                        .requestMatchers("/api/projects", "/api/projects/search", "/api/projects/status", "/api/projects/manager",
+                                "/api/projects/cursor")
                         .hasAnyRole("ADMIN", "MANAGER", "USER")
                         .requestMatchers("/api/projects/**").hasAnyRole("ADMIN", "MANAGER")
 
                         // Membros - apenas admin
                         .requestMatchers("/api/members/**").hasRole("ADMIN")
 
+                        // Métricas e saúde da aplicação - apenas admin
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // Todos os outros endpoints requerem autenticação
                         .anyRequest().authenticated()
                 )
-                .httpBasic(httpBasic -> {}); // HTTP Basic authentication
+                .addFilterBefore(new TokenAuthenticationFilter(authTokenService),
+                        UsernamePasswordAuthenticationFilter.class)
+                .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint((request, response, e) -> {
+                    response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+                }));
 
         return http.build();
     }
 
+    // Usado apenas no login (POST /api/auth/login), onde a senha é conferida com BCrypt
+    @Bean
+    public AuthenticationManager authenticationManager(UserDetailsService userDetailsService,
+                                                       PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        return new ProviderManager(provider);
+    }
+
     @Bean
     public UserDetailsService userDetailsService(PasswordEncoder passwordEncoder) {
         UserDetails admin = User.builder()
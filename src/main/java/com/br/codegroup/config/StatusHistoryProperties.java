@@ -0,0 +1,28 @@
+package com.br.codegroup.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.status-history")
+public class StatusHistoryProperties {
+
+    // Registros gravados por INSERT em batch; a fila também é descarregada ao atingir esse tamanho
+    private int batchSize = 500;
+
+    // Intervalo máximo entre descargas da fila
+    private long flushIntervalMs = 1000;
+
+    // Limite da fila em memória; acima dele a gravação é feita na própria requisição
+    private int queueCapacity = 10000;
+
+    // Espera antes de regravar um lote que falhou; dobra a cada nova falha até o limite
+    private long retryBackoffMs = 1000;
+
+    private long maxRetryBackoffMs = 60000;
+
+    // Tentativas por lote antes de descartá-lo (status.history.dropped)
+    private int maxAttempts = 10;
+}
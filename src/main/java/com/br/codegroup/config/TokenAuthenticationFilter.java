@@ -0,0 +1,56 @@
+package com.br.codegroup.config;
+
+import com.br.codegroup.service.AuthTokenService;
+import com.br.codegroup.service.AuthTokenService.TokenType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.stream.Collectors;
+
+/**
+ * Autentica a requisição pelo token de acesso em {@code Authorization: Bearer}. Token ausente
+ * ou recusado deixa a requisição anônima, e as regras do {@link SecurityConfig} decidem o acesso.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthTokenService authTokenService;
+
+    // Preserva a autenticação no despacho interno para /error (ex.: respostas 409 e 412)
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
+
+    public TokenAuthenticationFilter(AuthTokenService authTokenService) {
+        this.authTokenService = authTokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            authTokenService.verify(header.substring(BEARER_PREFIX.length()).trim(), TokenType.ACCESS)
+                    .ifPresent(claims -> {
+                        SecurityContext context = SecurityContextHolder.createEmptyContext();
+                        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                                claims.username(), null, claims.authorities().stream()
+                                        .map(SimpleGrantedAuthority::new)
+                                        .collect(Collectors.toList())));
+                        SecurityContextHolder.setContext(context);
+                        securityContextRepository.saveContext(context, request, response);
+                    });
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,69 @@
+package com.br.codegroup.controller;
+
+import com.br.codegroup.dto.LoginRequestDTO;
+import com.br.codegroup.dto.RefreshTokenRequestDTO;
+import com.br.codegroup.dto.TokenResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirements;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import jakarta.validation.Valid;
+
+@Tag(
+        name = "Auth",
+        description = "Emissão de tokens de acesso.\n\n" +
+                "🔑 **Fluxo**:\n" +
+                "- `POST /api/auth/login` confere usuário e senha uma única vez e devolve um token de acesso " +
+                "de curta duração e um refresh token\n" +
+                "- As demais requisições enviam `Authorization: Bearer <accessToken>`\n" +
+                "- Antes de o token de acesso expirar, `POST /api/auth/refresh` emite um novo par sem reenviar a senha"
+)
+@SecurityRequirements
+public interface AuthController {
+
+    @Operation(
+            summary = "Login",
+            description = "Confere as credenciais e emite o token de acesso e o refresh token.\n\n" +
+                    "⚡ **Performance**: a senha é verificada com BCrypt apenas aqui; nas requisições seguintes " +
+                    "o token é validado por uma assinatura HMAC-SHA256, sem sessão no servidor",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Usuário e senha",
+                    required = true
+            )
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Tokens emitidos",
+            content = @Content(schema = @Schema(implementation = TokenResponseDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "401",
+            description = "Usuário ou senha inválidos"
+    )
+    ResponseEntity<TokenResponseDTO> login(@Valid @RequestBody LoginRequestDTO loginRequestDTO);
+
+    @Operation(
+            summary = "Renovar tokens",
+            description = "Troca um refresh token válido por um novo par de tokens. Os perfis são relidos do " +
+                    "cadastro, então um usuário removido ou bloqueado não consegue renovar o acesso",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Refresh token recebido no login ou na última renovação",
+                    required = true
+            )
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Novo par de tokens emitido",
+            content = @Content(schema = @Schema(implementation = TokenResponseDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "401",
+            description = "Refresh token inválido ou expirado"
+    )
+    ResponseEntity<TokenResponseDTO> refresh(@Valid @RequestBody RefreshTokenRequestDTO refreshTokenRequestDTO);
+}
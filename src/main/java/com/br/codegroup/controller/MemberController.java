@@ -1,6 +1,8 @@
 package com.br.codegroup.controller;
 
 
+import com.br.codegroup.dto.CursorPageDTO;
+import com.br.codegroup.dto.MemberCursorRequestDTO;
 import com.br.codegroup.dto.MemberDTO;
 import com.br.codegroup.dto.MemberRequestDTO;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,6 +14,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -87,14 +91,74 @@ public interface MemberController {
                     "- Visualizar todos os recursos humanos disponíveis\n" +
                     "- Selecionar gerentes para projetos\n" +
                     "- Selecionar funcionários para equipes\n\n" +
-                    "🎯 **Exemplo de uso**: Listar todos os membros para composição de equipes de projeto"
+                    "🎯 **Exemplo de uso**: Listar todos os membros para composição de equipes de projeto\n\n" +
+                    "♻️ **Cache**: a resposta traz um ETag; reenvie-o em `If-None-Match` para receber 304 se nada mudou"
     )
     @ApiResponse(
             responseCode = "200",
             description = "Lista de membros recuperada com sucesso",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = MemberDTO.class)))
     )
-    ResponseEntity<List<MemberDTO>> getAllMembers();
+    @ApiResponse(
+            responseCode = "304",
+            description = "Nenhum membro incluído ou alterado desde o ETag informado"
+    )
+    ResponseEntity<List<MemberDTO>> getAllMembers(@Parameter(hidden = true) WebRequest request);
+
+    @Operation(
+            summary = "Listar membros com paginação por cursor",
+            description = "Percorre os membros em ordem de id com paginação por cursor (keyset), sem OFFSET e sem contagem total.\n\n" +
+                    "**Características**:\n" +
+                    "- O custo de cada página é constante, independente da profundidade\n" +
+                    "- `nextCursor` é um token opaco; envie-o em `cursor` para obter a próxima página\n" +
+                    "- O filtro por atribuição, se usado, deve ser repetido em todas as páginas\n" +
+                    "- ETag forte calculado pela quantidade de membros e pela última alteração: " +
+                    "com `If-None-Match` a resposta é 304 sem ler nem serializar a página\n\n" +
+                    "📌 **Cenários de Uso**:\n" +
+                    "- Sincronização periódica do diretório de membros",
+            parameters = {
+                    @Parameter(name = "cursor", description = "Token da próxima página", example = ""),
+                    @Parameter(name = "size", description = "Quantidade de itens por página (máx. 1000)", example = "100"),
+                    @Parameter(name = "assignment", description = "Filtro opcional: 'gerente' ou 'funcionario'")
+            }
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Página de membros recuperada com sucesso",
+            content = @Content(schema = @Schema(implementation = CursorPageDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "304",
+            description = "Nenhum membro incluído ou alterado desde o ETag informado"
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Cursor, tamanho de página ou atribuição inválidos"
+    )
+    ResponseEntity<CursorPageDTO<MemberDTO>> getMembersByCursor(
+            @Parameter(hidden = true) MemberCursorRequestDTO requestDTO,
+            @Parameter(hidden = true) WebRequest request);
+
+    @Operation(
+            summary = "Exportar todos os membros",
+            description = "Transmite todos os membros em CSV ou NDJSON, com os IDs dos projetos em que cada um está alocado.\n\n" +
+                    "**Observações**:\n" +
+                    "- Lido por cursor e escrito linha a linha: o uso de memória não depende da quantidade de membros\n" +
+                    "- Uma única transação de leitura: o arquivo reflete um único instante\n" +
+                    "- CSV com cabeçalho; projectIds separados por \";\". NDJSON com um objeto por linha",
+            parameters = {
+                    @Parameter(name = "format", description = "csv (padrão) ou ndjson", example = "csv")
+            }
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Arquivo transmitido"
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Formato inválido"
+    )
+    ResponseEntity<StreamingResponseBody> exportMembers(@RequestParam String format);
 
     @Operation(
             summary = "Listar membros por atribuição",
@@ -129,9 +193,14 @@ public interface MemberController {
             description = "Lista filtrada por atribuição",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = MemberDTO.class)))
     )
+    @ApiResponse(
+            responseCode = "304",
+            description = "Nenhum membro com a atribuição incluído ou alterado desde o ETag informado"
+    )
     @ApiResponse(
             responseCode = "400",
             description = "Atribuição inválida"
     )
-    ResponseEntity<List<MemberDTO>> getMembersByAssignment(@RequestParam String assignment);
+    ResponseEntity<List<MemberDTO>> getMembersByAssignment(@RequestParam String assignment,
+                                                           @Parameter(hidden = true) WebRequest request);
 }
\ No newline at end of file
@@ -1,21 +1,44 @@
 package com.br.codegroup.controller;
 
 
+import com.br.codegroup.dto.BulkImportResultDTO;
+import com.br.codegroup.dto.CursorPageDTO;
+import com.br.codegroup.dto.CycleTimeReportDTO;
+import com.br.codegroup.dto.FunnelReportDTO;
+import com.br.codegroup.dto.PortfolioAnalyticsQueryDTO;
+import com.br.codegroup.dto.PortfolioAnalyticsResultDTO;
+import com.br.codegroup.dto.PortfolioReconciliationDTO;
+import com.br.codegroup.dto.PortfolioReportFilterDTO;
+import com.br.codegroup.dto.PortfolioTrendPointDTO;
+import com.br.codegroup.dto.ProjectCursorRequestDTO;
 import com.br.codegroup.dto.ProjectDTO;
 import com.br.codegroup.dto.ProjectRequestDTO;
+import com.br.codegroup.dto.ReportJobDTO;
+import com.br.codegroup.dto.RiskEvaluationRequestDTO;
+import com.br.codegroup.dto.RiskEvaluationResultDTO;
+import com.br.codegroup.dto.RiskRecalculationStatusDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
 @Tag(
         name = "Projects",
         description = "API para gerenciamento completo do portfólio de projetos.\n\n" +
@@ -46,6 +69,12 @@ public interface ProjectController {
             "- Dashboard de projetos\n" +
             "- Análise de capacidade",
     parameters = {
+        @Parameter(
+                name = "fields",
+                description = "Campos a retornar, separados por vírgula (ex: id,name,status,riskClassification). " +
+                        "Sem o parâmetro, o projeto completo é retornado",
+                example = "id,name,status,riskClassification"
+        ),
         @Parameter(
                 name = "page",
                 description = "Número da página (0-based)",
@@ -68,7 +97,38 @@ public interface ProjectController {
             description = "Lista de projetos recuperada com sucesso",
             content = @Content(schema = @Schema(implementation = Page.class))
     )
-    ResponseEntity<Page<ProjectDTO>> getAllProjects(Pageable pageable);
+    ResponseEntity<Page<?>> getAllProjects(Pageable pageable, @RequestParam(required = false) String fields);
+
+    @Operation(
+            summary = "Listar projetos com paginação por cursor",
+            description = "Percorre o portfólio com paginação por cursor (keyset), sem OFFSET e sem contagem total.\n\n" +
+                    "**Características**:\n" +
+                    "- Ordenação por `id`, `name` ou `startDate` (campos indexados), sempre com `id` como desempate\n" +
+                    "- O custo de cada página é constante, independente da profundidade\n" +
+                    "- `nextCursor` é um token opaco; envie-o em `cursor` para obter a próxima página\n" +
+                    "- Filtros opcionais por nome, status e gerente devem ser repetidos em todas as páginas\n\n" +
+                    "📌 **Cenários de Uso**:\n" +
+                    "- Jobs de sincronização que percorrem todos os projetos\n" +
+                    "- Rolagem infinita em telas de listagem",
+            parameters = {
+                    @Parameter(name = "cursor", description = "Token da próxima página", example = ""),
+                    @Parameter(name = "sort", description = "Campo de ordenação: id, name ou startDate", example = "name"),
+                    @Parameter(name = "direction", description = "asc ou desc", example = "asc"),
+                    @Parameter(name = "size", description = "Quantidade de itens por página (máx. 1000)", example = "20"),
+                    @Parameter(name = "name", description = "Filtro parcial por nome"),
+                    @Parameter(name = "status", description = "Filtro por status"),
+                    @Parameter(name = "managerId", description = "Filtro por gerente"),
+                    @Parameter(name = "fields", description = "Campos a retornar, separados por vírgula")
+            }
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Página de projetos recuperada com sucesso",
+            content = @Content(schema = @Schema(implementation = CursorPageDTO.class))
+    )
+    ResponseEntity<CursorPageDTO<?>> getProjectsByCursor(
+            @Parameter(hidden = true) ProjectCursorRequestDTO requestDTO,
+            @RequestParam(required = false) String fields);
 
     @Operation(
             summary = "Buscar projeto por ID",
@@ -81,13 +141,21 @@ public interface ProjectController {
             "📌 **Cenários de Uso**:\n" +
             "- Edição de projetos\n" +
             "- Visualização de detalhes\n" +
-            "- Análise de projeto específico",
+            "- Análise de projeto específico\n\n" +
+            "♻️ **Cache**: o projeto completo é servido já serializado de um cache invalidado a cada escrita; " +
+            "a resposta traz um ETag e, com `If-None-Match`, retorna 304 se o projeto não mudou",
     parameters = {
         @Parameter(
                 name = "id",
                 description = "ID único do projeto",
                 required = true,
                 example = "1"
+        ),
+        @Parameter(
+                name = "fields",
+                description = "Campos a retornar, separados por vírgula (ex: id,name,status,riskClassification). " +
+                        "Sem o parâmetro, o projeto completo é retornado",
+                example = "id,name,status,riskClassification"
         )
     }
     )
@@ -100,7 +168,12 @@ public interface ProjectController {
             responseCode = "404",
             description = "Projeto não encontrado"
     )
-    ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id);
+    @ApiResponse(
+            responseCode = "304",
+            description = "Projeto não alterado desde o ETag informado em If-None-Match"
+    )
+    ResponseEntity<?> getProjectById(@PathVariable Long id, @RequestParam(required = false) String fields,
+                                     @Parameter(hidden = true) WebRequest request);
 
     @Operation(
             summary = "Criar novo projeto",
@@ -136,6 +209,40 @@ public interface ProjectController {
     )
     ResponseEntity<ProjectDTO> createProject(@Valid @RequestBody ProjectRequestDTO projectRequestDTO);
 
+    @Operation(
+            summary = "Importar projetos em lote",
+            description = "Importa vários projetos em uma única chamada.\n\n" +
+                    "**Formato**:\n" +
+                    "- `application/json`: array JSON de projetos\n" +
+                    "- `application/x-ndjson`: um projeto JSON por linha\n\n" +
+                    "**Comportamento**:\n" +
+                    "- O lote inteiro é validado com membros e capacidade pré-carregados\n" +
+                    "- Linhas válidas são gravadas com INSERTs em lote, em blocos configuráveis\n" +
+                    "- Cada linha tem seu próprio resultado; linhas inválidas não impedem as demais\n" +
+                    "- Com `allOrNothing=true`, nada é gravado se alguma linha for inválida\n\n" +
+                    "📌 **Cenários de Uso**:\n" +
+                    "- Carga de projetos vindos de ferramentas de planejamento",
+            parameters = {
+                    @Parameter(
+                            name = "allOrNothing",
+                            description = "Se verdadeiro, grava o lote somente se todas as linhas forem válidas",
+                            example = "false"
+                    )
+            }
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Resultado da importação por linha",
+            content = @Content(schema = @Schema(implementation = BulkImportResultDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Lote rejeitado no modo tudo-ou-nada ou corpo inválido"
+    )
+    ResponseEntity<BulkImportResultDTO> importProjects(
+            @Parameter(hidden = true) HttpServletRequest request,
+            @RequestParam(defaultValue = "false") boolean allOrNothing) throws IOException;
+
     @Operation(
             summary = "Atualizar projeto existente",
             description = "Atualiza os dados de um projeto existente com validações completas.\n\n" +
@@ -147,13 +254,20 @@ public interface ProjectController {
             "📌 **Cenários de Uso**:\n" +
             "- Atualização de informações do projeto\n" +
             "- Progressão de status\n" +
-            "- Realocação de recursos",
+            "- Realocação de recursos\n\n" +
+            "🔒 **Concorrência**: envie em `If-Match` o ETag obtido na leitura do projeto; " +
+            "se outra escrita alterou o projeto nesse meio tempo, a resposta é 412 em vez de sobrescrevê-la",
     parameters = {
         @Parameter(
                 name = "id",
                 description = "ID único do projeto a ser atualizado",
                 required = true,
                 example = "1"
+        ),
+        @Parameter(
+                name = "If-Match",
+                description = "ETag (versão) do projeto conhecida pelo cliente",
+                example = "\"3\""
         )
     },
     requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -175,9 +289,18 @@ public interface ProjectController {
             responseCode = "404",
             description = "Projeto, gerente ou membros não encontrados"
     )
+    @ApiResponse(
+            responseCode = "409",
+            description = "Projeto alterado concorrentemente durante a atualização (sem If-Match)"
+    )
+    @ApiResponse(
+            responseCode = "412",
+            description = "A versão informada em If-Match não é mais a versão atual do projeto"
+    )
     ResponseEntity<ProjectDTO> updateProject(
             @PathVariable Long id,
-            @Valid @RequestBody ProjectRequestDTO projectRequestDTO);
+            @Valid @RequestBody ProjectRequestDTO projectRequestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch);
 
     @Operation(
             summary = "Excluir projeto",
@@ -230,6 +353,12 @@ public interface ProjectController {
                 required = true,
                 example = "sistema"
         ),
+        @Parameter(
+                name = "fields",
+                description = "Campos a retornar, separados por vírgula (ex: id,name,status,riskClassification). " +
+                        "Sem o parâmetro, o projeto completo é retornado",
+                example = "id,name,status,riskClassification"
+        ),
         @Parameter(
                 name = "page",
                 description = "Número da página (0-based)",
@@ -252,9 +381,10 @@ public interface ProjectController {
             description = "Projetos filtrados por nome",
             content = @Content(schema = @Schema(implementation = Page.class))
     )
-    ResponseEntity<Page<ProjectDTO>> getProjectsByName(
+    ResponseEntity<Page<?>> getProjectsByName(
             @RequestParam String name,
-            Pageable pageable);
+            Pageable pageable,
+            @RequestParam(required = false) String fields);
 
     @Operation(
             summary = "Buscar projetos por status",
@@ -286,6 +416,12 @@ public interface ProjectController {
                         }
                 )
         ),
+        @Parameter(
+                name = "fields",
+                description = "Campos a retornar, separados por vírgula (ex: id,name,status,riskClassification). " +
+                        "Sem o parâmetro, o projeto completo é retornado",
+                example = "id,name,status,riskClassification"
+        ),
         @Parameter(
                 name = "page",
                 description = "Número da página (0-based)",
@@ -312,9 +448,10 @@ public interface ProjectController {
             responseCode = "400",
             description = "Status inválido"
     )
-    ResponseEntity<Page<ProjectDTO>> getProjectsByStatus(
+    ResponseEntity<Page<?>> getProjectsByStatus(
             @RequestParam String status,
-            Pageable pageable);
+            Pageable pageable,
+            @RequestParam(required = false) String fields);
 
     @Operation(
             summary = "Buscar projetos por gerente",
@@ -333,6 +470,12 @@ public interface ProjectController {
                 required = true,
                 example = "1"
         ),
+        @Parameter(
+                name = "fields",
+                description = "Campos a retornar, separados por vírgula (ex: id,name,status,riskClassification). " +
+                        "Sem o parâmetro, o projeto completo é retornado",
+                example = "id,name,status,riskClassification"
+        ),
         @Parameter(
                 name = "page",
                 description = "Número da página (0-based)",
@@ -359,7 +502,262 @@ public interface ProjectController {
             responseCode = "404",
             description = "Gerente não encontrado ou não é gerente"
     )
-    ResponseEntity<Page<ProjectDTO>> getProjectsByManager(
+    ResponseEntity<Page<?>> getProjectsByManager(
             @PathVariable Long managerId,
-            Pageable pageable);
-}
\ No newline at end of file
+            Pageable pageable,
+            @RequestParam(required = false) String fields);
+
+    @Operation(
+            summary = "Reconciliar estatísticas do portfólio",
+            description = "Recalcula a partir dos projetos as estatísticas usadas pelo relatório do portfólio " +
+                    "(quantidade e orçamento por status, duração dos encerrados e membros distintos) e informa " +
+                    "os valores que estavam divergentes.\n\n" +
+                    "**Comportamento**:\n" +
+                    "- As estatísticas são mantidas a cada escrita de projeto; a reconciliação só é necessária após " +
+                    "alterações feitas diretamente no banco\n" +
+                    "- Escritas concorrentes aguardam o fim do recálculo"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Divergências encontradas e relatório recalculado",
+            content = @Content(schema = @Schema(implementation = PortfolioReconciliationDTO.class))
+    )
+    ResponseEntity<PortfolioReconciliationDTO> reconcilePortfolioStats();
+
+    @Operation(
+            summary = "Exportar todos os projetos",
+            description = "Transmite todos os projetos em CSV ou NDJSON, com os IDs dos membros de cada projeto.\n\n" +
+                    "**Comportamento**:\n" +
+                    "- Lido por cursor e escrito linha a linha: o uso de memória não depende da quantidade de projetos\n" +
+                    "- Uma única transação de leitura: o arquivo reflete um único instante, mesmo com escritas concorrentes\n" +
+                    "- CSV com cabeçalho; memberIds separados por \";\". NDJSON com um objeto por linha",
+            parameters = {
+                    @Parameter(name = "format", description = "csv (padrão) ou ndjson", example = "ndjson")
+            }
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Arquivo transmitido"
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Formato inválido"
+    )
+    ResponseEntity<StreamingResponseBody> exportProjects(@RequestParam String format);
+
+    @Operation(
+            summary = "Tendência do portfólio",
+            description = "Série diária das métricas do relatório do portfólio (quantidade e orçamento por status, " +
+                    "duração média e membros distintos), lida das fotografias capturadas uma vez por dia.\n\n" +
+                    "**Comportamento**:\n" +
+                    "- Uma entrada por dia com fotografia, em ordem de data; dias sem captura não aparecem\n" +
+                    "- Período limitado a app.report.snapshot.max-days dias",
+            parameters = {
+                    @Parameter(name = "from", description = "Data inicial (inclusiva); padrão: últimos app.report.snapshot.default-days dias", example = "2025-01-01"),
+                    @Parameter(name = "to", description = "Data final (inclusiva); padrão: hoje", example = "2025-12-31")
+            }
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Série diária do portfólio",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = PortfolioTrendPointDTO.class)))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Período inválido ou acima do limite"
+    )
+    ResponseEntity<List<PortfolioTrendPointDTO>> getPortfolioTrend(
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to);
+
+    @Operation(
+            summary = "Solicitar relatório do portfólio com filtros",
+            description = "Enfileira um relatório do portfólio restrito aos filtros informados e retorna o job imediatamente.\n\n" +
+                    "**Comportamento**:\n" +
+                    "- Filtros opcionais: gerente, intervalo da data de início e classificação de risco\n" +
+                    "- Executado em um pool limitado (app.report.jobs.*); com a fila cheia o pedido é recusado\n" +
+                    "- Um pedido com os mesmos filtros de um job ainda na fila ou em execução recebe esse mesmo job\n" +
+                    "- O resultado fica disponível por app.report.jobs.ttl-minutes após a conclusão",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Filtros do relatório (todos opcionais)",
+                    required = true
+            )
+    )
+    @ApiResponse(
+            responseCode = "202",
+            description = "Relatório enfileirado",
+            content = @Content(schema = @Schema(implementation = ReportJobDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Período inválido"
+    )
+    @ApiResponse(
+            responseCode = "503",
+            description = "Fila de relatórios cheia; o cabeçalho Retry-After indica quando tentar novamente"
+    )
+    ResponseEntity<ReportJobDTO> submitReportJob(@RequestBody PortfolioReportFilterDTO filter);
+
+    @Operation(
+            summary = "Consultar relatório assíncrono",
+            description = "Retorna o estado do job e, quando concluído, o relatório.",
+            parameters = {
+                    @Parameter(name = "jobId", description = "ID retornado na solicitação do relatório")
+            }
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Estado e resultado do relatório",
+            content = @Content(schema = @Schema(implementation = ReportJobDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "Job inexistente ou expirado"
+    )
+    ResponseEntity<ReportJobDTO> getReportJob(@PathVariable String jobId);
+
+    @Operation(
+            summary = "Avaliar risco de cenários em lote",
+            description = "Classifica o risco de vários cenários hipotéticos (orçamento, início e término previsto) " +
+                    "em uma única chamada, sem gravar nada.\n\n" +
+                    "**Características**:\n" +
+                    "- Usa a mesma regra aplicada aos projetos cadastrados (limites em app.risk.*)\n" +
+                    "- Um resultado por cenário, na ordem da requisição\n" +
+                    "- Cenários incompletos ou com orçamento negativo retornam erro apenas na própria linha\n\n" +
+                    "📌 **Cenários de Uso**:\n" +
+                    "- Simulações da ferramenta de planejamento",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Lista de cenários a classificar",
+                    required = true
+            )
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Classificação de cada cenário"
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Quantidade de cenários acima do limite por chamada"
+    )
+    ResponseEntity<List<RiskEvaluationResultDTO>> evaluateRisk(@RequestBody List<RiskEvaluationRequestDTO> scenarios);
+
+    @Operation(
+            summary = "Reclassificar o risco de todo o portfólio",
+            description = "Inicia em segundo plano a reclassificação de risco de todos os projetos com os limites atuais " +
+                    "(app.risk.*). Necessário após alterar os limites, pois a classificação gravada só é recalculada " +
+                    "quando o projeto é salvo.\n\n" +
+                    "**Comportamento**:\n" +
+                    "- Os projetos são lidos em blocos por ID, sem carregar entidades\n" +
+                    "- Somente projetos cuja classificação mudou são regravados, com UPDATEs em lote\n" +
+                    "- Há uma pausa entre blocos (app.risk.recalculation.pause-ms) para não competir com o uso normal\n" +
+                    "- Para retomar uma execução interrompida, informe `fromId` = `lastProcessedId` do status",
+            parameters = {
+                    @Parameter(name = "fromId", description = "Processar apenas projetos com ID maior que este", example = "0")
+            }
+    )
+    @ApiResponse(
+            responseCode = "202",
+            description = "Reclassificação iniciada",
+            content = @Content(schema = @Schema(implementation = RiskRecalculationStatusDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Já existe uma reclassificação em andamento"
+    )
+    ResponseEntity<RiskRecalculationStatusDTO> startRiskRecalculation(@RequestParam(required = false) Long fromId);
+
+    @Operation(
+            summary = "Consultar progresso da reclassificação de risco",
+            description = "Retorna o estado da última reclassificação: projetos lidos, projetos atualizados e o último ID processado."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Progresso da reclassificação",
+            content = @Content(schema = @Schema(implementation = RiskRecalculationStatusDTO.class))
+    )
+    ResponseEntity<RiskRecalculationStatusDTO> getRiskRecalculationStatus();
+
+    @Operation(
+            summary = "Cancelar a reclassificação de risco",
+            description = "Interrompe a reclassificação em andamento ao fim do bloco corrente. Os blocos já gravados são mantidos."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Cancelamento solicitado",
+            content = @Content(schema = @Schema(implementation = RiskRecalculationStatusDTO.class))
+    )
+    ResponseEntity<RiskRecalculationStatusDTO> cancelRiskRecalculation();
+
+    @Operation(
+            summary = "Tempo em cada status",
+            description = "Tempo médio e máximo que os projetos passaram em cada status, considerando as transições " +
+                    "que saíram do status no período.\n\n" +
+                    "**Comportamento**:\n" +
+                    "- Calculado a partir do histórico de status (a entrada no status é a transição anterior ou a criação do projeto)\n" +
+                    "- Dias encerrados são consolidados uma única vez; apenas o dia corrente é calculado a cada chamada\n" +
+                    "- `stuck` lista projetos parados nos status monitorados (app.analytics.stuck-statuses) há mais " +
+                    "tempo que app.analytics.stuck-factor vezes a média do status",
+            parameters = {
+                    @Parameter(name = "from", description = "Data inicial (inclusiva); padrão: últimos app.analytics.default-days dias", example = "2025-01-01"),
+                    @Parameter(name = "to", description = "Data final (inclusiva); padrão: hoje", example = "2025-03-31")
+            }
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Tempo por status e projetos parados",
+            content = @Content(schema = @Schema(implementation = CycleTimeReportDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Período inválido"
+    )
+    ResponseEntity<CycleTimeReportDTO> getCycleTime(
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to);
+
+    @Operation(
+            summary = "Funil de status",
+            description = "Entradas, saídas, avanços e cancelamentos de cada status no período, com a taxa de conversão " +
+                    "(saídas para um status diferente de cancelado sobre o total de saídas) e a contagem de cada transição.",
+            parameters = {
+                    @Parameter(name = "from", description = "Data inicial (inclusiva); padrão: últimos app.analytics.default-days dias", example = "2025-01-01"),
+                    @Parameter(name = "to", description = "Data final (inclusiva); padrão: hoje", example = "2025-03-31")
+            }
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Funil do período",
+            content = @Content(schema = @Schema(implementation = FunnelReportDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Período inválido"
+    )
+    ResponseEntity<FunnelReportDTO> getFunnel(
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to);
+
+    @Operation(
+            summary = "Consulta analítica do portfólio",
+            description = "Agrupa e filtra os projetos por status, risco, gerente e mês de início, somando quantidade e orçamento. " +
+                    "A consulta é respondida a partir de uma cópia em colunas mantida em memória, sem acessar o banco.\n\n" +
+                    "**Comportamento**:\n" +
+                    "- groupBy: qualquer combinação de STATUS, RISK_CLASSIFICATION, MANAGER e START_MONTH (vazio: apenas o total)\n" +
+                    "- Filtros opcionais: status, classificações de risco, gerentes e intervalo da data de início\n" +
+                    "- A cópia é carregada na subida e atualizada após o commit de cada escrita de projetos",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Dimensões de agrupamento e filtros",
+                    required = true
+            )
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Grupos com quantidade, orçamento total e médio",
+            content = @Content(schema = @Schema(implementation = PortfolioAnalyticsResultDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Período inválido ou motor de análise indisponível"
+    )
+    ResponseEntity<PortfolioAnalyticsResultDTO> queryAnalytics(@RequestBody PortfolioAnalyticsQueryDTO query);
+}
@@ -0,0 +1,39 @@
+package com.br.codegroup.controller.impl;
+
+import com.br.codegroup.controller.AuthController;
+import com.br.codegroup.dto.LoginRequestDTO;
+import com.br.codegroup.dto.RefreshTokenRequestDTO;
+import com.br.codegroup.dto.TokenResponseDTO;
+import com.br.codegroup.service.AuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class AuthControllerImpl implements AuthController {
+
+    private final AuthService authService;
+
+    @Override
+    @PostMapping("/login")
+    public ResponseEntity<TokenResponseDTO> login(@Valid @RequestBody LoginRequestDTO loginRequestDTO) {
+        // Tokens nunca devem ficar em caches intermediários
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(authService.login(loginRequestDTO));
+    }
+
+    @Override
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponseDTO> refresh(
+            @Valid @RequestBody RefreshTokenRequestDTO refreshTokenRequestDTO) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(authService.refresh(refreshTokenRequestDTO));
+    }
+}
@@ -2,15 +2,24 @@ package com.br.codegroup.controller.impl;
 
 
 import com.br.codegroup.controller.MemberController;
+import com.br.codegroup.dto.CursorPageDTO;
+import com.br.codegroup.dto.MemberCursorRequestDTO;
 import com.br.codegroup.dto.MemberDTO;
 import com.br.codegroup.dto.MemberRequestDTO;
+import com.br.codegroup.service.ExportService;
 import com.br.codegroup.service.MemberService;
+import com.br.codegroup.util.ExportWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -21,6 +30,7 @@ import java.util.List;
 public class MemberControllerImpl implements MemberController {
 
     private final MemberService memberService;
+    private final ExportService exportService;
 
     @Override
     @PostMapping
@@ -38,15 +48,52 @@ public class MemberControllerImpl implements MemberController {
 
     @Override
     @GetMapping
-    public ResponseEntity<List<MemberDTO>> getAllMembers() {
+    public ResponseEntity<List<MemberDTO>> getAllMembers(WebRequest request) {
+        // A versão é lida antes dos dados: uma escrita entre as duas leituras só gera um ETag mais antigo
+        String eTag = memberService.getMembersETag(null);
+        if (request.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
         List<MemberDTO> members = memberService.getAllMembers();
-        return ResponseEntity.ok(members);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(members);
+    }
+
+    @Override
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<MemberDTO>> getMembersByCursor(MemberCursorRequestDTO requestDTO,
+                                                                      WebRequest request) {
+        String eTag = memberService.getMembersETag(requestDTO.getAssignment());
+        if (request.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
+        CursorPageDTO<MemberDTO> members = memberService.findAllByCursor(requestDTO);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(members);
+    }
+
+    @Override
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(@RequestParam(defaultValue = "csv") String format) {
+        ExportWriter.Format exportFormat = ExportWriter.Format.fromString(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"members." + exportFormat.getExtension() + "\"")
+                .body(output -> exportService.exportMembers(exportFormat, output));
     }
 
     @Override
     @GetMapping("/assignment")
-    public ResponseEntity<List<MemberDTO>> getMembersByAssignment(@RequestParam String assignment) {
+    public ResponseEntity<List<MemberDTO>> getMembersByAssignment(@RequestParam String assignment,
+                                                                  WebRequest request) {
+        String eTag = memberService.getMembersETag(assignment);
+        if (request.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
         List<MemberDTO> members = memberService.getMembersByAssignment(assignment);
-        return ResponseEntity.ok(members);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(members);
+    }
+
+    private <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
     }
 }
\ No newline at end of file
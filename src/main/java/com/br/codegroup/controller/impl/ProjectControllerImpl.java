@@ -2,40 +2,119 @@ package com.br.codegroup.controller.impl;
 
 import com.br.codegroup.controller.ProjectController;
 import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.dto.BulkImportResultDTO;
+import com.br.codegroup.dto.BulkStatusUpdateRequestDTO;
+import com.br.codegroup.dto.BulkStatusUpdateResultDTO;
+import com.br.codegroup.dto.CursorPageDTO;
+import com.br.codegroup.dto.CycleTimeReportDTO;
+import com.br.codegroup.dto.FunnelReportDTO;
+import com.br.codegroup.dto.PortfolioAnalyticsQueryDTO;
+import com.br.codegroup.dto.PortfolioAnalyticsResultDTO;
+import com.br.codegroup.dto.PortfolioReconciliationDTO;
+import com.br.codegroup.dto.PortfolioReportFilterDTO;
+import com.br.codegroup.dto.PortfolioTrendPointDTO;
+import com.br.codegroup.dto.ProjectCursorRequestDTO;
 import com.br.codegroup.dto.ProjectDTO;
 import com.br.codegroup.dto.ProjectRequestDTO;
+import com.br.codegroup.dto.ReportJobDTO;
+import com.br.codegroup.dto.RiskEvaluationRequestDTO;
+import com.br.codegroup.dto.RiskEvaluationResultDTO;
+import com.br.codegroup.dto.RiskRecalculationStatusDTO;
+import com.br.codegroup.service.ExportService;
+import com.br.codegroup.service.PortfolioAnalyticsService;
+import com.br.codegroup.service.PortfolioReportJobService;
+import com.br.codegroup.service.PortfolioSnapshotService;
+import com.br.codegroup.service.PortfolioStatsService;
+import com.br.codegroup.service.ProjectReadCacheService;
 import com.br.codegroup.service.ProjectService;
+import com.br.codegroup.service.RiskCalculatorService;
+import com.br.codegroup.service.RiskRecalculationService;
+import com.br.codegroup.service.StatusAnalyticsService;
+import com.br.codegroup.util.ExportWriter;
+import com.br.codegroup.util.ProjectETag;
+import com.br.codegroup.util.ProjectRequestStreamReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
 @RestController
 @RequestMapping("/api/projects")
 @RequiredArgsConstructor
 public class ProjectControllerImpl implements ProjectController {
 
     private final ProjectService projectService;
+    private final RiskCalculatorService riskCalculatorService;
+    private final RiskRecalculationService riskRecalculationService;
+    private final StatusAnalyticsService statusAnalyticsService;
+    private final PortfolioStatsService portfolioStatsService;
+    private final PortfolioReportJobService portfolioReportJobService;
+    private final PortfolioSnapshotService portfolioSnapshotService;
+    private final PortfolioAnalyticsService portfolioAnalyticsService;
+    private final ExportService exportService;
+    private final ProjectReadCacheService projectReadCacheService;
+    private final ObjectMapper objectMapper;
 
     @Override
     @GetMapping
-    public ResponseEntity<Page<ProjectDTO>> getAllProjects(@Parameter(hidden = true) Pageable pageable) {
-        Page<ProjectDTO> projects = projectService.findAll(pageable, null);
+    public ResponseEntity<Page<?>> getAllProjects(
+            @Parameter(hidden = true) Pageable pageable,
+            @RequestParam(required = false) String fields) {
+        Page<?> projects = fields != null
+                ? projectService.findAll(pageable, null, fields)
+                : projectService.findAll(pageable, null);
+        return ResponseEntity.ok(projects);
+    }
+
+    @Override
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<?>> getProjectsByCursor(
+            ProjectCursorRequestDTO requestDTO,
+            @RequestParam(required = false) String fields) {
+        CursorPageDTO<?> projects = fields != null
+                ? projectService.findAllByCursor(requestDTO, fields)
+                : projectService.findAllByCursor(requestDTO);
         return ResponseEntity.ok(projects);
     }
 
     @Override
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id) {
-        ProjectDTO project = projectService.findById(id);
-        return ResponseEntity.ok(project);
+    public ResponseEntity<?> getProjectById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        if (fields != null) {
+            return ResponseEntity.ok(projectService.findById(id, fields));
+        }
+
+        // Projeto completo sai do cache já serializado
+        ProjectReadCacheService.CachedProject project = projectReadCacheService.get(id);
+        if (request.checkNotModified(project.eTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(project.eTag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(project.eTag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(project.json());
     }
 
     @Override
@@ -45,13 +124,30 @@ public class ProjectControllerImpl implements ProjectController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdProject);
     }
 
+    @Override
+    @PostMapping(value = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, ProjectRequestStreamReader.NDJSON_MEDIA_TYPE})
+    public ResponseEntity<BulkImportResultDTO> importProjects(
+            HttpServletRequest request,
+            @RequestParam(defaultValue = "false") boolean allOrNothing) throws IOException {
+        boolean ndjson = request.getContentType() != null
+                && request.getContentType().startsWith(ProjectRequestStreamReader.NDJSON_MEDIA_TYPE);
+        List<ProjectRequestDTO> rows = ProjectRequestStreamReader.read(request.getInputStream(), objectMapper, ndjson);
+
+        BulkImportResultDTO result = projectService.importProjects(rows, allOrNothing);
+        HttpStatus status = allOrNothing && result.getFailed() > 0 ? HttpStatus.BAD_REQUEST : HttpStatus.OK;
+        return ResponseEntity.status(status).body(result);
+    }
+
     @Override
     @PutMapping("/{id}")
     public ResponseEntity<ProjectDTO> updateProject(
             @PathVariable Long id,
-            @Valid @RequestBody ProjectRequestDTO projectRequestDTO) {
-        ProjectDTO updatedProject = projectService.updateProject(id, projectRequestDTO);
-        return ResponseEntity.ok(updatedProject);
+            @Valid @RequestBody ProjectRequestDTO projectRequestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProjectDTO updatedProject = projectService.updateProject(id, projectRequestDTO,
+                ProjectETag.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ProjectETag.of(updatedProject.getVersion())).body(updatedProject);
     }
 
     @Override
@@ -63,21 +159,27 @@ public class ProjectControllerImpl implements ProjectController {
 
     @Override
     @GetMapping("/search")
-    public ResponseEntity<Page<ProjectDTO>> getProjectsByName(
+    public ResponseEntity<Page<?>> getProjectsByName(
             @RequestParam String name,
-            Pageable pageable) {
-        Page<ProjectDTO> projects = projectService.findAll(pageable, name);
+            Pageable pageable,
+            @RequestParam(required = false) String fields) {
+        Page<?> projects = fields != null
+                ? projectService.findAll(pageable, name, fields)
+                : projectService.findAll(pageable, name);
         return ResponseEntity.ok(projects);
     }
 
     @Override
     @GetMapping("/status")
-    public ResponseEntity<Page<ProjectDTO>> getProjectsByStatus(
+    public ResponseEntity<Page<?>> getProjectsByStatus(
             @RequestParam String status,
-            Pageable pageable) {
+            Pageable pageable,
+            @RequestParam(required = false) String fields) {
         try {
             ProjectStatus projectStatus = ProjectStatus.valueOf(status.toUpperCase());
-            Page<ProjectDTO> projects = projectService.findByStatus(projectStatus, pageable);
+            Page<?> projects = fields != null
+                    ? projectService.findByStatus(projectStatus, pageable, fields)
+                    : projectService.findByStatus(projectStatus, pageable);
             return ResponseEntity.ok(projects);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -86,27 +188,48 @@ public class ProjectControllerImpl implements ProjectController {
 
     @Override
     @GetMapping("/manager/{managerId}")
-    public ResponseEntity<Page<ProjectDTO>> getProjectsByManager(
+    public ResponseEntity<Page<?>> getProjectsByManager(
             @PathVariable Long managerId,
-            Pageable pageable) {
-        Page<ProjectDTO> projects = projectService.findByManagerId(managerId, pageable);
+            Pageable pageable,
+            @RequestParam(required = false) String fields) {
+        Page<?> projects = fields != null
+                ? projectService.findByManagerId(managerId, pageable, fields)
+                : projectService.findByManagerId(managerId, pageable);
         return ResponseEntity.ok(projects);
     }
 
     @GetMapping("/member/{memberId}")
-    public ResponseEntity<Page<ProjectDTO>> getProjectsByMember(
+    public ResponseEntity<Page<?>> getProjectsByMember(
             @PathVariable Long memberId,
-            Pageable pageable) {
-        Page<ProjectDTO> projects = projectService.findByMemberId(memberId, pageable);
+            Pageable pageable,
+            @RequestParam(required = false) String fields) {
+        Page<?> projects = fields != null
+                ? projectService.findByMemberId(memberId, pageable, fields)
+                : projectService.findByMemberId(memberId, pageable);
         return ResponseEntity.ok(projects);
     }
 
+    @GetMapping("/{id}/transitions")
+    public ResponseEntity<Set<ProjectStatus>> getAllowedTransitions(@PathVariable Long id) {
+        return ResponseEntity.ok(projectService.findAllowedTransitions(id));
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<ProjectDTO> updateProjectStatus(
             @PathVariable Long id,
-            @RequestParam ProjectStatus newStatus) {
-        ProjectDTO updatedProject = projectService.updateProjectStatus(id, newStatus);
-        return ResponseEntity.ok(updatedProject);
+            @RequestParam ProjectStatus newStatus,
+            @RequestParam(required = false) String reason,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProjectDTO updatedProject = projectService.updateProjectStatus(id, newStatus, reason,
+                ProjectETag.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ProjectETag.of(updatedProject.getVersion())).body(updatedProject);
+    }
+
+    @PatchMapping("/status")
+    public ResponseEntity<BulkStatusUpdateResultDTO> updateProjectsStatus(
+            @Valid @RequestBody BulkStatusUpdateRequestDTO requestDTO) {
+        BulkStatusUpdateResultDTO result = projectService.updateProjectsStatus(requestDTO);
+        return ResponseEntity.ok(result);
     }
 
     @GetMapping("/report")
@@ -119,14 +242,104 @@ public class ProjectControllerImpl implements ProjectController {
         }
     }
 
+    @Override
+    @PostMapping("/report/reconcile")
+    public ResponseEntity<PortfolioReconciliationDTO> reconcilePortfolioStats() {
+        return ResponseEntity.ok(portfolioStatsService.reconcile());
+    }
+
+    @Override
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProjects(@RequestParam(defaultValue = "csv") String format) {
+        ExportWriter.Format exportFormat = ExportWriter.Format.fromString(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"projects." + exportFormat.getExtension() + "\"")
+                .body(output -> exportService.exportProjects(exportFormat, output));
+    }
+
+    @Override
+    @GetMapping("/report/trend")
+    public ResponseEntity<List<PortfolioTrendPointDTO>> getPortfolioTrend(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(portfolioSnapshotService.getTrend(from, to));
+    }
+
+    @Override
+    @PostMapping("/report/jobs")
+    public ResponseEntity<ReportJobDTO> submitReportJob(@RequestBody PortfolioReportFilterDTO filter) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(portfolioReportJobService.submit(filter));
+    }
+
+    @Override
+    @GetMapping("/report/jobs/{jobId}")
+    public ResponseEntity<ReportJobDTO> getReportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(portfolioReportJobService.getJob(jobId));
+    }
+
+    @Override
+    @PostMapping("/risk/evaluate")
+    public ResponseEntity<List<RiskEvaluationResultDTO>> evaluateRisk(
+            @RequestBody List<RiskEvaluationRequestDTO> scenarios) {
+        return ResponseEntity.ok(riskCalculatorService.evaluate(scenarios));
+    }
+
+    @Override
+    @PostMapping("/risk/recalculation")
+    public ResponseEntity<RiskRecalculationStatusDTO> startRiskRecalculation(
+            @RequestParam(required = false) Long fromId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(riskRecalculationService.start(fromId));
+    }
+
+    @Override
+    @GetMapping("/risk/recalculation")
+    public ResponseEntity<RiskRecalculationStatusDTO> getRiskRecalculationStatus() {
+        return ResponseEntity.ok(riskRecalculationService.getStatus());
+    }
+
+    @Override
+    @PostMapping("/risk/recalculation/cancel")
+    public ResponseEntity<RiskRecalculationStatusDTO> cancelRiskRecalculation() {
+        return ResponseEntity.ok(riskRecalculationService.cancel());
+    }
+
+    @Override
+    @GetMapping("/analytics/cycle-time")
+    public ResponseEntity<CycleTimeReportDTO> getCycleTime(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(statusAnalyticsService.getCycleTime(from, to));
+    }
+
+    @Override
+    @GetMapping("/analytics/funnel")
+    public ResponseEntity<FunnelReportDTO> getFunnel(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(statusAnalyticsService.getFunnel(from, to));
+    }
+
+    @Override
+    @PostMapping("/analytics/query")
+    public ResponseEntity<PortfolioAnalyticsResultDTO> queryAnalytics(@RequestBody PortfolioAnalyticsQueryDTO query) {
+        return ResponseEntity.ok(portfolioAnalyticsService.query(query));
+    }
+
     @GetMapping("/{id}/risk")
-    public ResponseEntity<String> calculateProjectRisk(@PathVariable Long id) {
+    public ResponseEntity<String> calculateProjectRisk(@PathVariable Long id, WebRequest request) {
+        ProjectReadCacheService.CachedProject project;
         try {
-            ProjectDTO project = projectService.findById(id);
-            return ResponseEntity.ok(project.getRiskClassification());
+            // Mesma entrada do GET /{id}: um acerto não consulta o banco
+            project = projectReadCacheService.get(id);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body("Projeto não encontrado: " + e.getMessage());
         }
+        if (request.checkNotModified(project.eTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(project.eTag()).build();
+        }
+        return ResponseEntity.ok().eTag(project.eTag()).body(project.riskClassification());
     }
 }
\ No newline at end of file
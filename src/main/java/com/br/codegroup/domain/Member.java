@@ -3,6 +3,7 @@ package com.br.codegroup.domain;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -24,6 +25,11 @@ public class Member {
     @Column(nullable = false)
     private String assignment;
 
+    // Mantido apenas por MemberCapacityRepository; o JPA nunca grava a coluna
+    @ColumnDefault("0")
+    @Column(name = "active_project_count", nullable = false, insertable = false, updatable = false)
+    private int activeProjectCount;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
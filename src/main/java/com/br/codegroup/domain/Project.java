@@ -11,7 +11,6 @@ import lombok.ToString;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -69,6 +68,11 @@ public class Project {
     @EqualsAndHashCode.Exclude
     private Set<Member> members = new HashSet<>();
 
+    // Incrementada a cada escrita (inclusive troca de membros); exposta aos clientes como ETag
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -89,24 +93,6 @@ public class Project {
     }
 
     public void calculateRiskClassification() {
-        long months = ChronoUnit.MONTHS.between(startDate, expectedEndDate);
-
-        if (totalBudget.compareTo(new BigDecimal("100000")) <= 0 && months <= 3) {
-            riskClassification = RiskClassification.LOW_RISK;
-        } else if ((totalBudget.compareTo(new BigDecimal("100000")) > 0 &&
-                totalBudget.compareTo(new BigDecimal("500000")) <= 0) ||
-                (months > 3 && months <= 6)) {
-            riskClassification = RiskClassification.MEDIUM_RISK;
-        } else if (totalBudget.compareTo(new BigDecimal("500000")) > 0 || months > 6) {
-            riskClassification = RiskClassification.HIGH_RISK;
-        } else {
-            riskClassification = null;
-        }
-    }
-
-    public boolean canBeDeleted() {
-        return status != ProjectStatus.STARTED &&
-                status != ProjectStatus.IN_PROGRESS &&
-                status != ProjectStatus.COMPLETED;
+        riskClassification = RiskPolicy.active().classify(totalBudget, startDate, expectedEndDate);
     }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.br.codegroup.domain;
+
+import java.util.Set;
+
+// Projetos criados, alterados ou excluídos por uma transação; consumido somente após o commit
+public record ProjectsChangedEvent(Set<Long> projectIds) {
+}
@@ -0,0 +1,74 @@
+package com.br.codegroup.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Regra única de classificação de risco, usada pela entidade e pelo RiskCalculatorService.
+ * Os limites de orçamento são convertidos uma única vez para centavos (long), de modo que
+ * a classificação compara apenas primitivos.
+ *
+ * Ordem de avaliação (a mesma desde a primeira versão da regra):
+ * - Baixo: orçamento ≤ limite baixo e prazo ≤ meses baixo
+ * - Médio: orçamento no intervalo (limite baixo, limite médio] ou prazo em (meses baixo, meses médio]
+ * - Alto: demais casos (orçamento acima do limite médio ou prazo acima de meses médio)
+ *
+ * A política ativa é definida na inicialização a partir de app.risk.*; fora do contexto
+ * Spring vale {@link #DEFAULT}.
+ */
+public final class RiskPolicy {
+
+    public static final RiskPolicy DEFAULT = new RiskPolicy(
+            new BigDecimal("100000"), new BigDecimal("500000"), 3, 6);
+
+    // Maior orçamento aceito em projects.total_budget (NUMERIC(15,2)); cabe em toCents
+    public static final BigDecimal MAX_BUDGET = new BigDecimal("9999999999999.99");
+
+    private static volatile RiskPolicy active = DEFAULT;
+
+    private final long lowBudgetCents;
+    private final long mediumBudgetCents;
+    private final long lowMonths;
+    private final long mediumMonths;
+
+    public RiskPolicy(BigDecimal lowBudgetLimit, BigDecimal mediumBudgetLimit, int lowMonthsLimit, int mediumMonthsLimit) {
+        if (lowBudgetLimit.compareTo(mediumBudgetLimit) > 0 || lowMonthsLimit > mediumMonthsLimit) {
+            throw new IllegalArgumentException(
+                    "Os limites da faixa de baixo risco não podem ser maiores que os da faixa de médio risco");
+        }
+        this.lowBudgetCents = toCents(lowBudgetLimit);
+        this.mediumBudgetCents = toCents(mediumBudgetLimit);
+        this.lowMonths = lowMonthsLimit;
+        this.mediumMonths = mediumMonthsLimit;
+    }
+
+    public static RiskPolicy active() {
+        return active;
+    }
+
+    public static void activate(RiskPolicy policy) {
+        active = policy;
+    }
+
+    public RiskClassification classify(BigDecimal budget, LocalDate startDate, LocalDate expectedEndDate) {
+        return classify(toCents(budget), ChronoUnit.MONTHS.between(startDate, expectedEndDate));
+    }
+
+    public RiskClassification classify(long budgetCents, long months) {
+        if (budgetCents <= lowBudgetCents && months <= lowMonths) {
+            return RiskClassification.LOW_RISK;
+        }
+        if ((budgetCents > lowBudgetCents && budgetCents <= mediumBudgetCents)
+                || (months > lowMonths && months <= mediumMonths)) {
+            return RiskClassification.MEDIUM_RISK;
+        }
+        return RiskClassification.HIGH_RISK;
+    }
+
+    // Frações de centavo são arredondadas para cima: 100000.001 continua acima de 100000
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.CEILING).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,14 @@
+package com.br.codegroup.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkImportResultDTO {
+    private int total;
+    private int imported;
+    private int failed;
+    private boolean allOrNothing;
+    private List<BulkImportRowResultDTO> rows;
+}
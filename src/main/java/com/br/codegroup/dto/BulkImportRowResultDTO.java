@@ -0,0 +1,15 @@
+package com.br.codegroup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportRowResultDTO {
+    private int index;
+    private boolean success;
+    private Long projectId;
+    private String error;
+}
@@ -0,0 +1,16 @@
+package com.br.codegroup.dto;
+
+import com.br.codegroup.domain.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateItemDTO {
+    private Long projectId;
+    private ProjectStatus previousStatus;
+    private boolean accepted;
+    private String error;
+}
@@ -0,0 +1,24 @@
+package com.br.codegroup.dto;
+
+import com.br.codegroup.domain.ProjectStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkStatusUpdateRequestDTO {
+
+    // IDs explícitos; quando ausentes, os projetos são selecionados pelos filtros abaixo
+    private List<Long> ids;
+
+    private ProjectStatus status;
+
+    private Long managerId;
+
+    @NotNull
+    private ProjectStatus newStatus;
+
+    // Motivo registrado no histórico de status de todos os projetos alterados
+    private String reason;
+}
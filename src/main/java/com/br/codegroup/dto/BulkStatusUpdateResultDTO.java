@@ -0,0 +1,15 @@
+package com.br.codegroup.dto;
+
+import com.br.codegroup.domain.ProjectStatus;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkStatusUpdateResultDTO {
+    private ProjectStatus newStatus;
+    private int total;
+    private int accepted;
+    private int rejected;
+    private List<BulkStatusUpdateItemDTO> results;
+}
@@ -0,0 +1,14 @@
+package com.br.codegroup.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CursorPageDTO<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    // Token opaco para buscar a próxima página; nulo na última página
+    private String nextCursor;
+}
@@ -0,0 +1,17 @@
+package com.br.codegroup.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class CycleTimeReportDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private List<StatusCycleTimeDTO> statuses;
+
+    // Projetos parados há mais tempo que o normal nos status monitorados (app.analytics.stuck-statuses)
+    private List<StuckProjectDTO> stuck;
+}
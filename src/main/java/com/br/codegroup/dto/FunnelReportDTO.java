@@ -0,0 +1,15 @@
+package com.br.codegroup.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class FunnelReportDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private List<FunnelStageDTO> stages;
+    private List<StatusTransitionCountDTO> transitions;
+}
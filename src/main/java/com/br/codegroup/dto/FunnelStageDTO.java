@@ -0,0 +1,22 @@
+package com.br.codegroup.dto;
+
+import com.br.codegroup.domain.ProjectStatus;
+import lombok.Data;
+
+@Data
+public class FunnelStageDTO {
+
+    private ProjectStatus status;
+    private String displayName;
+
+    // Transições que entraram e que saíram do status no período
+    private long entered;
+    private long exited;
+
+    // Saídas para um status que não seja CANCELLED
+    private long advanced;
+    private long cancelled;
+
+    // advanced / exited; nulo quando nenhum projeto saiu do status no período
+    private Double conversionRate;
+}
@@ -0,0 +1,13 @@
+package com.br.codegroup.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class LoginRequestDTO {
+    @NotBlank
+    private String username;
+
+    @NotBlank
+    private String password;
+}
@@ -0,0 +1,15 @@
+package com.br.codegroup.dto;
+
+import lombok.Data;
+
+@Data
+public class MemberCursorRequestDTO {
+
+    // Token retornado em nextCursor
+    private String cursor;
+
+    private int size = 100;
+
+    // Filtro opcional: 'gerente' ou 'funcionario'
+    private String assignment;
+}
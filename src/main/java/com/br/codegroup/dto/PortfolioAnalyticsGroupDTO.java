@@ -0,0 +1,18 @@
+package com.br.codegroup.dto;
+
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.domain.RiskClassification;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class PortfolioAnalyticsGroupDTO {
+    private ProjectStatus status;
+    private RiskClassification riskClassification;
+    private Long managerId;
+    private String startMonth;
+    private long projectCount;
+    private BigDecimal totalBudget;
+    private BigDecimal averageBudget;
+}
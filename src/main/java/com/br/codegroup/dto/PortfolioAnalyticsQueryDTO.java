@@ -0,0 +1,27 @@
+package com.br.codegroup.dto;
+
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.domain.RiskClassification;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+@Data
+public class PortfolioAnalyticsQueryDTO {
+
+    public enum Dimension {
+        STATUS,
+        RISK_CLASSIFICATION,
+        MANAGER,
+        START_MONTH
+    }
+
+    private List<Dimension> groupBy;
+    private Set<ProjectStatus> statuses;
+    private Set<RiskClassification> riskClassifications;
+    private Set<Long> managerIds;
+    private LocalDate startDateFrom;
+    private LocalDate startDateTo;
+}
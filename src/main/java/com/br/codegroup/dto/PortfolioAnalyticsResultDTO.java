@@ -0,0 +1,16 @@
+package com.br.codegroup.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+public class PortfolioAnalyticsResultDTO {
+    private List<PortfolioAnalyticsQueryDTO.Dimension> groupBy;
+    private long projectCount;
+    private BigDecimal totalBudget;
+    private List<PortfolioAnalyticsGroupDTO> groups;
+    private long scannedProjects;
+    private long elapsedMicros;
+}
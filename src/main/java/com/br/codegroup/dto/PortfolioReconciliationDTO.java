@@ -0,0 +1,21 @@
+package com.br.codegroup.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class PortfolioReconciliationDTO {
+
+    private LocalDateTime reconciledAt;
+
+    // Verdadeiro quando as estatísticas mantidas divergiam do recálculo completo
+    private boolean drift;
+
+    // Uma linha por valor divergente: "<estatística>: <mantido> -> <recalculado>"
+    private List<String> differences;
+
+    // Relatório já com os valores recalculados
+    private PortfolioReportDTO report;
+}
@@ -0,0 +1,19 @@
+package com.br.codegroup.dto;
+
+import com.br.codegroup.domain.RiskClassification;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+// Filtros de um relatório assíncrono; pedidos com filtros iguais compartilham o mesmo processamento
+@Data
+public class PortfolioReportFilterDTO {
+
+    private Long managerId;
+
+    // Intervalo (inclusivo) da data de início dos projetos
+    private LocalDate startDateFrom;
+    private LocalDate startDateTo;
+
+    private RiskClassification riskClassification;
+}
@@ -0,0 +1,11 @@
+package com.br.codegroup.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class PortfolioTrendPointDTO {
+    private LocalDate date;
+    private PortfolioReportDTO report;
+}
@@ -0,0 +1,20 @@
+package com.br.codegroup.dto;
+
+import com.br.codegroup.domain.ProjectStatus;
+import lombok.Data;
+
+@Data
+public class ProjectCursorRequestDTO {
+
+    // Token retornado em nextCursor; quando informado, define ordenação e posição
+    private String cursor;
+
+    // id, name ou startDate
+    private String sort = "id";
+    private String direction = "asc";
+    private int size = 20;
+
+    private String name;
+    private ProjectStatus status;
+    private Long managerId;
+}
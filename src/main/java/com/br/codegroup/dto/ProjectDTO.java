@@ -21,4 +21,5 @@ public class ProjectDTO {
     private Long managerId;
     private String managerName;
     private Set<Long> memberIds;
+    private Long version;
 }
@@ -0,0 +1,10 @@
+package com.br.codegroup.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class RefreshTokenRequestDTO {
+    @NotBlank
+    private String refreshToken;
+}
@@ -0,0 +1,25 @@
+package com.br.codegroup.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ReportJobDTO {
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private String id;
+    private State state;
+    private PortfolioReportFilterDTO filter;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+
+    // Após esse instante o resultado é descartado e o job deixa de ser encontrado
+    private LocalDateTime expiresAt;
+
+    private PortfolioReportDTO result;
+    private String error;
+}
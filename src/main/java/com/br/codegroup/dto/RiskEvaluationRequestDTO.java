@@ -0,0 +1,14 @@
+package com.br.codegroup.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Cenário hipotético de projeto a ser classificado
+@Data
+public class RiskEvaluationRequestDTO {
+    private BigDecimal budget;
+    private LocalDate startDate;
+    private LocalDate expectedEndDate;
+}
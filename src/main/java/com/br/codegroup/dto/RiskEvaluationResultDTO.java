@@ -0,0 +1,16 @@
+package com.br.codegroup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskEvaluationResultDTO {
+    // Posição do cenário na requisição
+    private int index;
+    private String riskClassification;
+    private String displayName;
+    private String error;
+}
@@ -0,0 +1,30 @@
+package com.br.codegroup.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class RiskRecalculationStatusDTO {
+
+    public enum State {
+        IDLE, RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    private State state = State.IDLE;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    // ID a partir do qual a execução começou (exclusivo)
+    private long fromId;
+
+    // Último ID já processado e gravado; use como fromId para retomar
+    private long lastProcessedId;
+
+    private long scanned;
+    private long updated;
+
+    // Alterados por outra escrita entre a leitura e a gravação, que já recalculou o risco
+    private long skipped;
+    private String error;
+}
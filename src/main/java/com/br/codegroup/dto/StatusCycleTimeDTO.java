@@ -0,0 +1,17 @@
+package com.br.codegroup.dto;
+
+import com.br.codegroup.domain.ProjectStatus;
+import lombok.Data;
+
+@Data
+public class StatusCycleTimeDTO {
+
+    private ProjectStatus status;
+    private String displayName;
+
+    // Saídas do status no período, base das médias abaixo
+    private long transitions;
+
+    private double averageDays;
+    private double maxDays;
+}
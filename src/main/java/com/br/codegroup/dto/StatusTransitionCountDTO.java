@@ -0,0 +1,16 @@
+package com.br.codegroup.dto;
+
+import com.br.codegroup.domain.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransitionCountDTO {
+
+    private ProjectStatus fromStatus;
+    private ProjectStatus toStatus;
+    private long transitions;
+}
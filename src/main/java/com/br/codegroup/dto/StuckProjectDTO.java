@@ -0,0 +1,23 @@
+package com.br.codegroup.dto;
+
+import com.br.codegroup.domain.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StuckProjectDTO {
+
+    private Long projectId;
+    private String name;
+    private ProjectStatus status;
+
+    // Entrada no status atual (última transição para ele ou a criação do projeto)
+    private LocalDateTime since;
+
+    private double days;
+}
@@ -0,0 +1,15 @@
+package com.br.codegroup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenResponseDTO {
+    private String accessToken;
+    private String refreshToken;
+    private String tokenType;
+    private long expiresIn; // validade do token de acesso, em segundos
+}
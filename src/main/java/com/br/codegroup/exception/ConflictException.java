@@ -0,0 +1,17 @@
+package com.br.codegroup.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// Escrita concorrente no mesmo recurso que não pôde ser conciliada
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflictException extends CustomException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    public ConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,42 @@
+package com.br.codegroup.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.ErrorResponse;
+
+/**
+ * Capacidade esgotada temporariamente: responde 503 com Retry-After. Implementa ErrorResponse
+ * em vez de usar @ResponseStatus porque a anotação não permite enviar cabeçalhos.
+ */
+public class ServiceUnavailableException extends CustomException implements ErrorResponse {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() {
+        return HttpStatus.SERVICE_UNAVAILABLE;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return headers;
+    }
+
+    @Override
+    public ProblemDetail getBody() {
+        return ProblemDetail.forStatusAndDetail(getStatusCode(), getMessage());
+    }
+}
@@ -0,0 +1,13 @@
+package com.br.codegroup.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// Credenciais ou token recusados na emissão de tokens
+@ResponseStatus(HttpStatus.UNAUTHORIZED)
+public class UnauthorizedException extends CustomException {
+
+    public UnauthorizedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.br.codegroup.mapper;
+
+import com.br.codegroup.domain.Member;
+import com.br.codegroup.dto.MemberDTO;
+import org.springframework.stereotype.Component;
+
+// Mapeamento explícito Member -> MemberDTO, sem reflexão
+@Component
+public class MemberMapper {
+
+    public MemberDTO toDTO(Member member) {
+        MemberDTO dto = new MemberDTO();
+        dto.setId(member.getId());
+        dto.setName(member.getName());
+        dto.setAssignment(member.getAssignment());
+        dto.setCreatedAt(member.getCreatedAt());
+        dto.setUpdatedAt(member.getUpdatedAt());
+        return dto;
+    }
+}
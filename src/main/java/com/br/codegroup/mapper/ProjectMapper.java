@@ -0,0 +1,81 @@
+package com.br.codegroup.mapper;
+
+import com.br.codegroup.domain.Project;
+import com.br.codegroup.dto.ProjectDTO;
+import com.br.codegroup.dto.ProjectRequestDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Mapeamento explícito entre Project e seus DTOs, sem reflexão.
+ *
+ * Contrato: somente os campos escalares são copiados da requisição. Gerente, membros,
+ * status inicial e classificação de risco são responsabilidade do serviço, que já carregou
+ * e validou essas informações.
+ */
+@Component
+public class ProjectMapper {
+
+    public Project toEntity(ProjectRequestDTO requestDTO) {
+        Project project = new Project();
+        project.setName(requestDTO.getName());
+        project.setStartDate(requestDTO.getStartDate());
+        project.setExpectedEndDate(requestDTO.getExpectedEndDate());
+        project.setActualEndDate(requestDTO.getActualEndDate());
+        project.setTotalBudget(requestDTO.getTotalBudget());
+        project.setDescription(requestDTO.getDescription());
+        project.setStatus(requestDTO.getStatus());
+        return project;
+    }
+
+    // Atualização parcial: campos nulos na requisição mantêm o valor atual
+    public void updateEntity(ProjectRequestDTO requestDTO, Project project) {
+        if (requestDTO.getName() != null) {
+            project.setName(requestDTO.getName());
+        }
+        if (requestDTO.getStartDate() != null) {
+            project.setStartDate(requestDTO.getStartDate());
+        }
+        if (requestDTO.getExpectedEndDate() != null) {
+            project.setExpectedEndDate(requestDTO.getExpectedEndDate());
+        }
+        if (requestDTO.getActualEndDate() != null) {
+            project.setActualEndDate(requestDTO.getActualEndDate());
+        }
+        if (requestDTO.getTotalBudget() != null) {
+            project.setTotalBudget(requestDTO.getTotalBudget());
+        }
+        if (requestDTO.getDescription() != null) {
+            project.setDescription(requestDTO.getDescription());
+        }
+        if (requestDTO.getStatus() != null) {
+            project.setStatus(requestDTO.getStatus());
+        }
+    }
+
+    /**
+     * @param memberIds IDs dos membros já resolvidos pelo chamador; nulo deixa o campo vazio
+     */
+    public ProjectDTO toDTO(Project project, Set<Long> memberIds) {
+        ProjectDTO dto = new ProjectDTO();
+        dto.setId(project.getId());
+        dto.setName(project.getName());
+        dto.setStartDate(project.getStartDate());
+        dto.setExpectedEndDate(project.getExpectedEndDate());
+        dto.setActualEndDate(project.getActualEndDate());
+        dto.setTotalBudget(project.getTotalBudget());
+        dto.setDescription(project.getDescription());
+        dto.setStatus(project.getStatus());
+        if (project.getRiskClassification() != null) {
+            dto.setRiskClassification(project.getRiskClassification().name());
+        }
+        if (project.getManager() != null) {
+            dto.setManagerId(project.getManager().getId());
+            dto.setManagerName(project.getManager().getName());
+        }
+        dto.setMemberIds(memberIds);
+        dto.setVersion(project.getVersion());
+        return dto;
+    }
+}
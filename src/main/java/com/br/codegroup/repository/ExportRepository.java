@@ -0,0 +1,98 @@
+package com.br.codegroup.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Leitura para exportação completa: cursor somente para frente, com fetch size, lido linha
+ * a linha sem passar pelo contexto de persistência. Os IDs relacionados são agregados na
+ * própria consulta (string_agg), sem uma segunda consulta por linha. Precisa rodar em uma
+ * transação, para que o driver use cursor em vez de carregar o resultado inteiro.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExportRepository {
+
+    public static final List<String> PROJECT_COLUMNS = List.of("id", "name", "startDate", "expectedEndDate",
+            "actualEndDate", "totalBudget", "description", "status", "riskClassification", "managerId", "memberIds",
+            "createdAt", "updatedAt");
+
+    public static final List<String> MEMBER_COLUMNS = List.of("id", "name", "assignment", "projectIds",
+            "createdAt", "updatedAt");
+
+    private static final String PROJECTS =
+            "SELECT p.id, p.name, p.start_date, p.expected_end_date, p.actual_end_date, p.total_budget, " +
+            "p.description, p.status, p.risk_classification, p.manager_id, " +
+            "(SELECT string_agg(pm.member_id::text, ';' ORDER BY pm.member_id) FROM project_members pm " +
+            " WHERE pm.project_id = p.id) AS member_ids, " +
+            "p.created_at, p.updated_at FROM projects p ORDER BY p.id";
+
+    private static final String MEMBERS =
+            "SELECT m.id, m.name, m.assignment, " +
+            "(SELECT string_agg(pm.project_id::text, ';' ORDER BY pm.project_id) FROM project_members pm " +
+            " WHERE pm.member_id = m.id) AS project_ids, " +
+            "m.created_at, m.updated_at FROM members m ORDER BY m.id";
+
+    private static final int FETCH_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void streamProjects(Consumer<Object[]> consumer) {
+        stream(PROJECTS, rs -> consumer.accept(new Object[]{
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getDate("start_date"),
+                rs.getDate("expected_end_date"),
+                rs.getDate("actual_end_date"),
+                rs.getBigDecimal("total_budget"),
+                rs.getString("description"),
+                rs.getString("status"),
+                rs.getString("risk_classification"),
+                rs.getLong("manager_id"),
+                ids(rs.getString("member_ids")),
+                timestamp(rs.getTimestamp("created_at")),
+                timestamp(rs.getTimestamp("updated_at"))}));
+    }
+
+    public void streamMembers(Consumer<Object[]> consumer) {
+        stream(MEMBERS, rs -> consumer.accept(new Object[]{
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("assignment"),
+                ids(rs.getString("project_ids")),
+                timestamp(rs.getTimestamp("created_at")),
+                timestamp(rs.getTimestamp("updated_at"))}));
+    }
+
+    private void stream(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, handler);
+    }
+
+    private static List<Long> ids(String aggregated) {
+        List<Long> ids = new ArrayList<>();
+        if (aggregated != null) {
+            for (String id : aggregated.split(";")) {
+                ids.add(Long.parseLong(id));
+            }
+        }
+        return ids;
+    }
+
+    private static Object timestamp(Timestamp value) {
+        return value != null ? value.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,80 @@
+package com.br.codegroup.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Contador de projetos ativos por membro ({@code members.active_project_count}). A reserva é
+ * um UPDATE condicional: o banco bloqueia a linha do membro e reavalia a condição após o commit
+ * de uma transação concorrente, então duas requisições nunca ocupam a mesma última vaga.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberCapacityRepository {
+
+    // Liberações (delta negativo) sempre são aplicadas; reservas só se couberem no limite
+    private static final String APPLY_DELTA =
+            "UPDATE members SET active_project_count = active_project_count + ? " +
+            "WHERE id = ? AND (? < 0 OR active_project_count + ? <= ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Aplica as variações em um único batch, em ordem de ID: transações concorrentes bloqueiam
+     * os membros sempre na mesma ordem e não entram em deadlock.
+     *
+     * @return membros cuja reserva ultrapassaria o limite (nada foi reservado para eles)
+     */
+    public List<Long> applyDeltas(Map<Long, Integer> deltas, int limit) {
+        List<Object[]> args = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        new TreeMap<>(deltas).forEach((memberId, delta) -> {
+            if (delta != 0) {
+                args.add(new Object[]{delta, memberId, delta, delta, limit});
+                ids.add(memberId);
+            }
+        });
+        if (args.isEmpty()) {
+            return List.of();
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(APPLY_DELTA, args);
+        List<Long> rejected = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                rejected.add(ids.get(i));
+            }
+        }
+        return rejected;
+    }
+
+    // Membros inexistentes ficam fora do mapa
+    public Map<Long, Long> findActiveProjectCounts(Collection<Long> memberIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (memberIds.isEmpty()) {
+            return counts;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(memberIds.size(), "?"));
+        jdbcTemplate.query("SELECT id, active_project_count FROM members WHERE id IN (" + placeholders + ")",
+                (RowCallbackHandler) rs -> counts.put(rs.getLong(1), rs.getLong(2)),
+                memberIds.toArray());
+        return counts;
+    }
+
+    public int findActiveProjectCount(Long memberId) {
+        List<Integer> counts = jdbcTemplate.queryForList(
+                "SELECT active_project_count FROM members WHERE id = ?", Integer.class, memberId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+}
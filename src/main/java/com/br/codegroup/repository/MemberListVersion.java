@@ -0,0 +1,7 @@
+package com.br.codegroup.repository;
+
+import java.time.LocalDateTime;
+
+// Quantidade de membros e última alteração: qualquer inclusão ou edição muda ao menos um dos dois
+public record MemberListVersion(long count, LocalDateTime lastUpdatedAt) {
+}
@@ -2,7 +2,10 @@ package com.br.codegroup.repository;
 
 
 import com.br.codegroup.domain.Member;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +16,17 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     List<Member> findByAssignment(String assignment);
     Optional<Member> findByName(String name);
     boolean existsByNameAndAssignment(String name, String assignment);
-}
\ No newline at end of file
+
+    // PAGINAÇÃO POR CURSOR - percorre o índice a partir do último id entregue, sem OFFSET
+    List<Member> findByIdGreaterThanOrderByIdAsc(Long lastId, Limit limit);
+
+    List<Member> findByAssignmentAndIdGreaterThanOrderByIdAsc(String assignment, Long lastId, Limit limit);
+
+    // VERSÃO DA LISTAGEM - base do ETag, lida só dos índices sem carregar os membros
+    @Query("SELECT new com.br.codegroup.repository.MemberListVersion(COUNT(m), MAX(m.updatedAt)) FROM Member m")
+    MemberListVersion findListVersion();
+
+    @Query("SELECT new com.br.codegroup.repository.MemberListVersion(COUNT(m), MAX(m.updatedAt)) " +
+            "FROM Member m WHERE m.assignment = :assignment")
+    MemberListVersion findListVersionByAssignment(@Param("assignment") String assignment);
+}
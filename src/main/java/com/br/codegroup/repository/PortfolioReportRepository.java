@@ -0,0 +1,82 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.dto.PortfolioReportDTO;
+import com.br.codegroup.dto.PortfolioReportFilterDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Relatório do portfólio restrito a um recorte (gerente, período de início, risco). Diferente
+ * do relatório geral, que lê estatísticas mantidas, aqui os projetos do recorte são agregados:
+ * contagem, orçamento e duração dos encerrados saem de um único GROUP BY por status.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PortfolioReportRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PortfolioReportDTO aggregate(PortfolioReportFilterDTO filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = where(filter, params);
+
+        Map<String, Long> projectsByStatus = new HashMap<>();
+        Map<String, BigDecimal> budgetByStatus = new HashMap<>();
+        long[] completed = new long[2];
+        jdbcTemplate.query(
+                "SELECT p.status, COUNT(*) AS project_count, COALESCE(SUM(p.total_budget), 0) AS total_budget, " +
+                "COUNT(p.actual_end_date) AS finished_count, " +
+                "COALESCE(SUM(p.actual_end_date - p.start_date), 0) AS finished_days " +
+                "FROM projects p" + where + " GROUP BY p.status",
+                params, rs -> {
+                    ProjectStatus status = ProjectStatus.valueOf(rs.getString("status"));
+                    projectsByStatus.put(status.getDisplayName(), rs.getLong("project_count"));
+                    budgetByStatus.put(status.getDisplayName(), rs.getBigDecimal("total_budget"));
+                    if (status == ProjectStatus.COMPLETED) {
+                        completed[0] = rs.getLong("finished_count");
+                        completed[1] = rs.getLong("finished_days");
+                    }
+                });
+
+        Long uniqueMembers = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT pm.member_id) FROM project_members pm " +
+                "JOIN projects p ON p.id = pm.project_id" + where,
+                params, Long.class);
+
+        PortfolioReportDTO report = new PortfolioReportDTO();
+        report.setProjectsByStatus(projectsByStatus);
+        report.setBudgetByStatus(budgetByStatus);
+        report.setAverageDurationDays(completed[0] > 0 ? (double) completed[1] / completed[0] : 0.0);
+        report.setUniqueMembersCount(uniqueMembers != null ? uniqueMembers : 0L);
+        return report;
+    }
+
+    private static String where(PortfolioReportFilterDTO filter, MapSqlParameterSource params) {
+        StringBuilder sql = new StringBuilder(" WHERE 1 = 1");
+        if (filter.getManagerId() != null) {
+            sql.append(" AND p.manager_id = :managerId");
+            params.addValue("managerId", filter.getManagerId());
+        }
+        if (filter.getStartDateFrom() != null) {
+            sql.append(" AND p.start_date >= :startDateFrom");
+            params.addValue("startDateFrom", Date.valueOf(filter.getStartDateFrom()));
+        }
+        if (filter.getStartDateTo() != null) {
+            sql.append(" AND p.start_date <= :startDateTo");
+            params.addValue("startDateTo", Date.valueOf(filter.getStartDateTo()));
+        }
+        if (filter.getRiskClassification() != null) {
+            sql.append(" AND p.risk_classification = :riskClassification");
+            params.addValue("riskClassification", filter.getRiskClassification().name());
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,86 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.ProjectStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fotografias diárias do portfólio (V10). A captura copia as tabelas de estatística
+ * mantidas a cada escrita (V9), então custa poucas linhas e não lê a tabela de projetos.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PortfolioSnapshotRepository {
+
+    private static final String CAPTURE_TOTALS =
+            "INSERT INTO portfolio_daily_snapshots " +
+            "(snapshot_date, completed_count, completed_duration_days, distinct_members, captured_at) " +
+            "SELECT ?, completed_count, completed_duration_days, distinct_members, ? FROM portfolio_stats WHERE id = 1 " +
+            "ON CONFLICT (snapshot_date) DO UPDATE SET completed_count = EXCLUDED.completed_count, " +
+            "completed_duration_days = EXCLUDED.completed_duration_days, " +
+            "distinct_members = EXCLUDED.distinct_members, captured_at = EXCLUDED.captured_at";
+
+    private static final String CAPTURE_STATUSES =
+            "INSERT INTO portfolio_daily_status_snapshots (snapshot_date, status, project_count, total_budget) " +
+            "SELECT ?, status, project_count, total_budget FROM portfolio_status_stats " +
+            "ON CONFLICT (snapshot_date, status) DO UPDATE SET project_count = EXCLUDED.project_count, " +
+            "total_budget = EXCLUDED.total_budget";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Deve rodar em uma única transação com leitura repetível, para que as duas cópias sejam coerentes
+    public void capture(LocalDate date, LocalDateTime capturedAt) {
+        jdbcTemplate.update(CAPTURE_TOTALS, Date.valueOf(date), Timestamp.valueOf(capturedAt));
+        jdbcTemplate.update(CAPTURE_STATUSES, Date.valueOf(date));
+    }
+
+    public boolean exists(LocalDate date) {
+        return !jdbcTemplate.queryForList(
+                "SELECT 1 FROM portfolio_daily_snapshots WHERE snapshot_date = ?", Integer.class, Date.valueOf(date))
+                .isEmpty();
+    }
+
+    // Fotografias entre from e to (inclusivos), em ordem de data; dias sem captura não aparecem
+    public Map<LocalDate, PortfolioStats> findBetween(LocalDate from, LocalDate to) {
+        Map<LocalDate, Map<ProjectStatus, Long>> counts = new LinkedHashMap<>();
+        Map<LocalDate, Map<ProjectStatus, BigDecimal>> budgets = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT snapshot_date, status, project_count, total_budget FROM portfolio_daily_status_snapshots " +
+                "WHERE snapshot_date BETWEEN ? AND ?",
+                rs -> {
+                    LocalDate date = rs.getDate("snapshot_date").toLocalDate();
+                    ProjectStatus status = ProjectStatus.valueOf(rs.getString("status"));
+                    counts.computeIfAbsent(date, d -> new EnumMap<>(ProjectStatus.class))
+                            .put(status, rs.getLong("project_count"));
+                    budgets.computeIfAbsent(date, d -> new EnumMap<>(ProjectStatus.class))
+                            .put(status, rs.getBigDecimal("total_budget"));
+                },
+                Date.valueOf(from), Date.valueOf(to));
+
+        Map<LocalDate, PortfolioStats> snapshots = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT snapshot_date, completed_count, completed_duration_days, distinct_members " +
+                "FROM portfolio_daily_snapshots WHERE snapshot_date BETWEEN ? AND ? ORDER BY snapshot_date",
+                rs -> {
+                    LocalDate date = rs.getDate("snapshot_date").toLocalDate();
+                    snapshots.put(date, new PortfolioStats(
+                            counts.getOrDefault(date, Map.of()),
+                            budgets.getOrDefault(date, Map.of()),
+                            rs.getLong("completed_count"),
+                            rs.getLong("completed_duration_days"),
+                            rs.getLong("distinct_members")));
+                },
+                Date.valueOf(from), Date.valueOf(to));
+        return snapshots;
+    }
+}
@@ -0,0 +1,15 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.ProjectStatus;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+// Conteúdo atual das tabelas de estatística do portfólio
+public record PortfolioStats(
+        Map<ProjectStatus, Long> counts,
+        Map<ProjectStatus, BigDecimal> budgets,
+        long completedCount,
+        long completedDurationDays,
+        long distinctMembers) {
+}
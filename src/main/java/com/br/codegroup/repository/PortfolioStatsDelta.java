@@ -0,0 +1,62 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.ProjectStatus;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Variação das estatísticas do portfólio provocada por uma ou mais escritas de projetos.
+ * As chaves ficam ordenadas (status pelo ordinal, membros pelo ID) para que transações
+ * concorrentes bloqueiem as linhas de estatística sempre na mesma ordem.
+ */
+@Getter
+public class PortfolioStatsDelta {
+
+    private final Map<ProjectStatus, Long> counts = new EnumMap<>(ProjectStatus.class);
+    private final Map<ProjectStatus, BigDecimal> budgets = new EnumMap<>(ProjectStatus.class);
+    private final Map<Long, Long> memberProjects = new TreeMap<>();
+    private long completedCount;
+    private long completedDurationDays;
+
+    public PortfolioStatsDelta add(ProjectStatsSnapshot snapshot) {
+        apply(snapshot, 1);
+        return this;
+    }
+
+    public PortfolioStatsDelta remove(ProjectStatsSnapshot snapshot) {
+        apply(snapshot, -1);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return counts.isEmpty() && budgets.isEmpty() && memberProjects.isEmpty()
+                && completedCount == 0 && completedDurationDays == 0;
+    }
+
+    // Variações que se anulam (ex.: edição sem troca de status nem de orçamento) não geram UPDATE
+    private void apply(ProjectStatsSnapshot snapshot, int sign) {
+        addLong(counts, snapshot.status(), sign);
+
+        BigDecimal budget = snapshot.totalBudget() != null ? snapshot.totalBudget() : BigDecimal.ZERO;
+        BigDecimal mergedBudget = budgets.merge(snapshot.status(), sign > 0 ? budget : budget.negate(), BigDecimal::add);
+        if (mergedBudget.signum() == 0) {
+            budgets.remove(snapshot.status());
+        }
+
+        if (snapshot.countsAsCompleted()) {
+            completedCount += sign;
+            completedDurationDays += sign * snapshot.durationDays();
+        }
+        snapshot.memberIds().forEach(memberId -> addLong(memberProjects, memberId, sign));
+    }
+
+    private static <K> void addLong(Map<K, Long> map, K key, long value) {
+        if (map.merge(key, value, Long::sum) == 0L) {
+            map.remove(key);
+        }
+    }
+}
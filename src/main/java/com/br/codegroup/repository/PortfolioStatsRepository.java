@@ -0,0 +1,126 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.ProjectStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tabelas de estatística do portfólio (V9). As variações são aplicadas como incrementos
+ * na transação corrente, na ordem status -> membros -> totais, e a leitura do relatório
+ * não toca na tabela de projetos.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PortfolioStatsRepository {
+
+    private static final String UPDATE_STATUS =
+            "UPDATE portfolio_status_stats SET project_count = project_count + ?, total_budget = total_budget + ? " +
+            "WHERE status = ?";
+
+    private static final String INCREMENT_MEMBER =
+            "INSERT INTO member_project_counts (member_id, project_count) VALUES (?, ?) " +
+            "ON CONFLICT (member_id) DO UPDATE SET project_count = member_project_counts.project_count + EXCLUDED.project_count " +
+            "RETURNING project_count";
+
+    private static final String DECREMENT_MEMBER =
+            "UPDATE member_project_counts SET project_count = project_count + ? WHERE member_id = ? " +
+            "RETURNING project_count";
+
+    private static final String UPDATE_TOTALS =
+            "UPDATE portfolio_stats SET completed_count = completed_count + ?, " +
+            "completed_duration_days = completed_duration_days + ?, distinct_members = distinct_members + ? " +
+            "WHERE id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void apply(PortfolioStatsDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        Set<ProjectStatus> statuses = EnumSet.noneOf(ProjectStatus.class);
+        statuses.addAll(delta.getCounts().keySet());
+        statuses.addAll(delta.getBudgets().keySet());
+        if (!statuses.isEmpty()) {
+            List<ProjectStatus> ordered = new ArrayList<>(statuses);
+            jdbcTemplate.batchUpdate(UPDATE_STATUS, ordered, ordered.size(), (ps, status) -> {
+                ps.setLong(1, delta.getCounts().getOrDefault(status, 0L));
+                ps.setBigDecimal(2, delta.getBudgets().getOrDefault(status, BigDecimal.ZERO));
+                ps.setString(3, status.name());
+            });
+        }
+
+        // Membros que entram no primeiro ou saem do último projeto alteram a contagem de distintos
+        long distinctDelta = 0;
+        for (Map.Entry<Long, Long> entry : delta.getMemberProjects().entrySet()) {
+            long memberId = entry.getKey();
+            long change = entry.getValue();
+            if (change > 0) {
+                Long count = jdbcTemplate.queryForObject(INCREMENT_MEMBER, Long.class, memberId, change);
+                if (count != null && count == change) {
+                    distinctDelta++;
+                }
+            } else {
+                List<Long> counts = jdbcTemplate.queryForList(DECREMENT_MEMBER, Long.class, change, memberId);
+                if (!counts.isEmpty() && counts.get(0) <= 0) {
+                    jdbcTemplate.update("DELETE FROM member_project_counts WHERE member_id = ?", memberId);
+                    distinctDelta--;
+                }
+            }
+        }
+
+        if (delta.getCompletedCount() != 0 || delta.getCompletedDurationDays() != 0 || distinctDelta != 0) {
+            jdbcTemplate.update(UPDATE_TOTALS, delta.getCompletedCount(), delta.getCompletedDurationDays(), distinctDelta);
+        }
+    }
+
+    public PortfolioStats find() {
+        Map<ProjectStatus, Long> counts = new EnumMap<>(ProjectStatus.class);
+        Map<ProjectStatus, BigDecimal> budgets = new EnumMap<>(ProjectStatus.class);
+        jdbcTemplate.query("SELECT status, project_count, total_budget FROM portfolio_status_stats", rs -> {
+            ProjectStatus status = ProjectStatus.valueOf(rs.getString("status"));
+            counts.put(status, rs.getLong("project_count"));
+            budgets.put(status, rs.getBigDecimal("total_budget"));
+        });
+
+        return jdbcTemplate.queryForObject(
+                "SELECT completed_count, completed_duration_days, distinct_members FROM portfolio_stats WHERE id = 1",
+                (rs, rowNum) -> new PortfolioStats(counts, budgets, rs.getLong("completed_count"),
+                        rs.getLong("completed_duration_days"), rs.getLong("distinct_members")));
+    }
+
+    /**
+     * Recalcula todas as estatísticas a partir das tabelas de projetos. O LOCK impede que
+     * escritas concorrentes apliquem variações sobre valores que estão sendo substituídos.
+     */
+    public void rebuild() {
+        jdbcTemplate.execute("LOCK TABLE portfolio_status_stats, member_project_counts, portfolio_stats IN EXCLUSIVE MODE");
+
+        jdbcTemplate.update(
+                "UPDATE portfolio_status_stats s SET " +
+                "project_count = (SELECT COUNT(*) FROM projects p WHERE p.status = s.status), " +
+                "total_budget = (SELECT COALESCE(SUM(p.total_budget), 0) FROM projects p WHERE p.status = s.status)");
+
+        jdbcTemplate.update("DELETE FROM member_project_counts");
+        jdbcTemplate.update("INSERT INTO member_project_counts (member_id, project_count) " +
+                "SELECT member_id, COUNT(*) FROM project_members GROUP BY member_id");
+
+        jdbcTemplate.update(
+                "UPDATE portfolio_stats SET " +
+                "completed_count = (SELECT COUNT(*) FROM projects " +
+                "  WHERE status = 'COMPLETED' AND actual_end_date IS NOT NULL), " +
+                "completed_duration_days = (SELECT COALESCE(SUM(actual_end_date - start_date), 0) FROM projects " +
+                "  WHERE status = 'COMPLETED' AND actual_end_date IS NOT NULL), " +
+                "distinct_members = (SELECT COUNT(*) FROM member_project_counts) " +
+                "WHERE id = 1");
+    }
+}
@@ -0,0 +1,70 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.Member;
+import com.br.codegroup.domain.Project;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Escrita de projetos via JDBC em lote. O mapeamento JPA usa IDENTITY, o que impede o
+ * Hibernate de agrupar INSERTs; aqui os IDs são reservados da sequence antes da gravação
+ * e projetos e associações são enviados em batches.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectBatchRepository {
+
+    private static final String INSERT_PROJECT =
+            "INSERT INTO projects (id, name, start_date, expected_end_date, actual_end_date, total_budget, " +
+            "description, status, risk_classification, manager_id, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String INSERT_PROJECT_MEMBER =
+            "INSERT INTO project_members (project_id, member_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> nextProjectIds(int count) {
+        return jdbcTemplate.queryForList(
+                "SELECT nextval('projects_id_seq') FROM generate_series(1, ?)", Long.class, count);
+    }
+
+    /**
+     * Grava os projetos (que já devem ter ID, datas de auditoria e risco preenchidos)
+     * e suas associações com membros usando um batch para cada tabela.
+     */
+    public void insertAll(List<Project> projects) {
+        jdbcTemplate.batchUpdate(INSERT_PROJECT, projects, projects.size(), (ps, project) -> {
+            ps.setLong(1, project.getId());
+            ps.setString(2, project.getName());
+            ps.setDate(3, Date.valueOf(project.getStartDate()));
+            ps.setDate(4, Date.valueOf(project.getExpectedEndDate()));
+            ps.setDate(5, project.getActualEndDate() != null ? Date.valueOf(project.getActualEndDate()) : null);
+            ps.setBigDecimal(6, project.getTotalBudget());
+            ps.setString(7, project.getDescription());
+            ps.setString(8, project.getStatus().name());
+            ps.setString(9, project.getRiskClassification() != null ? project.getRiskClassification().name() : null);
+            ps.setLong(10, project.getManager().getId());
+            ps.setTimestamp(11, Timestamp.valueOf(project.getCreatedAt()));
+            ps.setTimestamp(12, Timestamp.valueOf(project.getUpdatedAt()));
+        });
+
+        List<long[]> memberships = new ArrayList<>();
+        for (Project project : projects) {
+            for (Member member : project.getMembers()) {
+                memberships.add(new long[]{project.getId(), member.getId()});
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_PROJECT_MEMBER, memberships, memberships.size(), (ps, pair) -> {
+            ps.setLong(1, pair[0]);
+            ps.setLong(2, pair[1]);
+        });
+    }
+}
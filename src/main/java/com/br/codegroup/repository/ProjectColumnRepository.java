@@ -0,0 +1,90 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.domain.RiskClassification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Leitura dos campos usados pelo motor de análise em memória: a carga completa percorre a
+ * tabela com cursor (sem materializar o resultado), a atualização relê apenas os IDs alterados
+ * e a retomada a partir da fotografia local lê o que mudou desde a marca d'água.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectColumnRepository {
+
+    private static final String COLUMNS =
+            "SELECT id, status, risk_classification, manager_id, start_date, total_budget FROM projects";
+
+    private static final int FETCH_SIZE = 10000;
+    private static final int IDS_PER_QUERY = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Precisa de uma transação aberta para que o driver use cursor em vez de carregar tudo
+    public void streamAll(Consumer<ProjectColumnRow> consumer) {
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            var statement = connection.prepareStatement(COLUMNS);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            consumer.accept(map(rs));
+        });
+    }
+
+    // Projetos gravados desde o instante informado; usa idx_projects_updated_at
+    public void streamChangedSince(LocalDateTime since, Consumer<ProjectColumnRow> consumer) {
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            var statement = connection.prepareStatement(COLUMNS + " WHERE updated_at >= ?");
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setTimestamp(1, Timestamp.valueOf(since));
+            return statement;
+        }, rs -> {
+            consumer.accept(map(rs));
+        });
+    }
+
+    public List<Long> findDeletedSince(LocalDateTime since) {
+        return jdbcTemplate.getJdbcTemplate().queryForList(
+                "SELECT project_id FROM project_tombstones WHERE deleted_at >= ?", Long.class, Timestamp.valueOf(since));
+    }
+
+    public int purgeTombstonesBefore(LocalDateTime before) {
+        return jdbcTemplate.getJdbcTemplate().update(
+                "DELETE FROM project_tombstones WHERE deleted_at < ?", Timestamp.valueOf(before));
+    }
+
+    public List<ProjectColumnRow> findByIds(Collection<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        List<ProjectColumnRow> rows = new ArrayList<>(all.size());
+        for (int from = 0; from < all.size(); from += IDS_PER_QUERY) {
+            List<Long> chunk = all.subList(from, Math.min(from + IDS_PER_QUERY, all.size()));
+            rows.addAll(jdbcTemplate.query(COLUMNS + " WHERE id IN (:ids)", Map.of("ids", chunk),
+                    (rs, rowNum) -> map(rs)));
+        }
+        return rows;
+    }
+
+    private static ProjectColumnRow map(ResultSet rs) throws SQLException {
+        String risk = rs.getString("risk_classification");
+        return new ProjectColumnRow(
+                rs.getLong("id"),
+                ProjectStatus.valueOf(rs.getString("status")),
+                risk != null ? RiskClassification.valueOf(risk) : null,
+                rs.getLong("manager_id"),
+                rs.getDate("start_date").toLocalDate(),
+                rs.getBigDecimal("total_budget"));
+    }
+}
@@ -0,0 +1,17 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.domain.RiskClassification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Campos de um projeto carregados no motor de análise em memória
+public record ProjectColumnRow(
+        long id,
+        ProjectStatus status,
+        RiskClassification riskClassification,
+        long managerId,
+        LocalDate startDate,
+        BigDecimal totalBudget) {
+}
@@ -0,0 +1,88 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.RiskClassification;
+import com.br.codegroup.exception.CustomException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Campos de projeto que podem ser pedidos no parâmetro {@code fields}. Cada campo sabe a
+ * expressão JPQL que o projeta: {@code managerName} é o único que exige o JOIN com o gerente
+ * e {@code memberIds} não é coluna, vem de uma consulta em lote sobre project_members.
+ */
+public enum ProjectField {
+    ID("id", "p.id"),
+    NAME("name", "p.name"),
+    START_DATE("startDate", "p.startDate"),
+    EXPECTED_END_DATE("expectedEndDate", "p.expectedEndDate"),
+    ACTUAL_END_DATE("actualEndDate", "p.actualEndDate"),
+    TOTAL_BUDGET("totalBudget", "p.totalBudget"),
+    DESCRIPTION("description", "p.description"),
+    STATUS("status", "p.status"),
+    RISK_CLASSIFICATION("riskClassification", "p.riskClassification"),
+    MANAGER_ID("managerId", "p.manager.id"),
+    MANAGER_NAME("managerName", "mg.name"),
+    MEMBER_IDS("memberIds", null);
+
+    private final String property;
+    private final String expression;
+
+    ProjectField(String property, String expression) {
+        this.property = property;
+        this.expression = expression;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public boolean isColumn() {
+        return expression != null;
+    }
+
+    // Mesmo formato do ProjectDTO completo
+    public Object toValue(Object raw) {
+        return raw instanceof RiskClassification risk ? risk.name() : raw;
+    }
+
+    public static ProjectField fromProperty(String property) {
+        for (ProjectField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new CustomException("Campo não suportado: " + property + ". Use " + Arrays.stream(values())
+                .map(ProjectField::getProperty)
+                .collect(Collectors.joining(", ")));
+    }
+
+    /**
+     * Converte a lista separada por vírgulas do parâmetro {@code fields}. O id está sempre
+     * incluído porque identifica a linha e é a chave da busca de membros.
+     */
+    public static Set<ProjectField> parse(String fields) {
+        Set<ProjectField> selected = EnumSet.of(ID);
+        for (String property : fields.split(",")) {
+            if (!property.isBlank()) {
+                selected.add(fromProperty(property.trim()));
+            }
+        }
+        return selected;
+    }
+
+    // Colunas a projetar, na ordem do enum
+    public static List<ProjectField> columnsOf(Set<ProjectField> fields) {
+        return fields.stream()
+                .filter(ProjectField::isColumn)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,14 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.ProjectStatus;
+import lombok.Data;
+
+// Filtros opcionais das listagens de projetos
+@Data
+public class ProjectFilter {
+
+    private String name;
+    private ProjectStatus status;
+    private Long managerId;
+    private Long memberId;
+}
@@ -0,0 +1,18 @@
+package com.br.codegroup.repository;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class ProjectKeysetQuery extends ProjectFilter {
+
+    private ProjectSortKey sortKey = ProjectSortKey.ID;
+    private boolean ascending = true;
+
+    // Última linha da página anterior; nulos na primeira página
+    private Object lastValue;
+    private Long lastId;
+
+    private int limit;
+}
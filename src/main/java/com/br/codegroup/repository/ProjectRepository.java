@@ -5,46 +5,87 @@ import com.br.codegroup.domain.Project;
 import com.br.codegroup.domain.ProjectStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectRepositoryCustom {
 
+    // LISTAGENS - o gerente vem no mesmo SELECT; os membros são buscados em lote por findMemberIdsByProjectIds
+    @Override
+    @EntityGraph(attributePaths = "manager")
+    Page<Project> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "manager")
     Page<Project> findByNameContainingIgnoreCase(String name, Pageable pageable);
+
+    @EntityGraph(attributePaths = "manager")
     Page<Project> findByStatus(ProjectStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = "manager")
     Page<Project> findByManagerId(Long managerId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "manager")
     @Query("SELECT p FROM Project p JOIN p.members m WHERE m.id = :memberId")
     Page<Project> findByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
-    // RELATÓRIOS - CORRIGIDOS para usar os valores do enum
-    @Query("SELECT p.status, COUNT(p) FROM Project p GROUP BY p.status")
-    List<Object[]> countProjectsByStatus();
-
-    @Query("SELECT p.status, SUM(p.totalBudget) FROM Project p GROUP BY p.status")
-    List<Object[]> sumBudgetByStatus();
-
-    @Query(value = "SELECT AVG(actual_end_date - start_date) " +
-            "FROM projects WHERE status = 'COMPLETED' AND actual_end_date IS NOT NULL",
+    // Pares (projeto, membro) de uma página inteira direto da tabela de associação
+    @Query(value = "SELECT project_id, member_id FROM project_members WHERE project_id IN (:projectIds)",
             nativeQuery = true)
-    Double averageDurationOfFinishedProjects();
-
-    @Query("SELECT COUNT(DISTINCT pm.id) FROM Project p JOIN p.members pm")
-    Long countDistinctMembersInProjects();
+    List<Object[]> findMemberIdsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
 
-    // CORREÇÃO: Usar COMPLETED e CANCELLED
-    @Query("SELECT COUNT(p) FROM Project p JOIN p.members m WHERE m.id = :memberId " +
-            "AND p.status NOT IN ('COMPLETED', 'CANCELLED')")
-    Long countActiveProjectsByMemberId(@Param("memberId") Long memberId);
+    // ESTATÍSTICAS DO PORTFÓLIO - campos usados para recalcular a variação de uma transição em lote
+    @Query("SELECT p.id, p.status, p.totalBudget, p.startDate, p.actualEndDate FROM Project p WHERE p.id IN :ids")
+    List<Object[]> findStatsFieldsByIds(@Param("ids") Collection<Long> ids);
 
     // CORREÇÃO: Usar COMPLETED e CANCELLED
     @Query("SELECT p FROM Project p WHERE p.status NOT IN ('COMPLETED', 'CANCELLED') " +
             "AND :memberId IN (SELECT m.id FROM p.members m)")
     List<Project> findActiveProjectsByMemberId(@Param("memberId") Long memberId);
 
-}
\ No newline at end of file
+    // TRANSIÇÃO DE STATUS EM LOTE - apenas id e status são carregados
+    @Query("SELECT p.id, p.status FROM Project p WHERE p.id IN :ids")
+    List<Object[]> findStatusesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id, p.status FROM Project p " +
+            "WHERE (:status IS NULL OR p.status = :status) AND (:managerId IS NULL OR p.manager.id = :managerId) " +
+            "ORDER BY p.id")
+    List<Object[]> findStatusesByFilter(@Param("status") ProjectStatus status, @Param("managerId") Long managerId);
+
+    // O filtro pelo status de origem protege contra alterações concorrentes
+    @Modifying
+    @Query("UPDATE Project p SET p.status = :newStatus, p.updatedAt = :now, p.version = p.version + 1 " +
+            "WHERE p.id IN :ids AND p.status = :currentStatus")
+    int updateStatusInBulk(@Param("ids") Collection<Long> ids,
+                           @Param("currentStatus") ProjectStatus currentStatus,
+                           @Param("newStatus") ProjectStatus newStatus,
+                           @Param("now") LocalDateTime now);
+
+    // Linhas gravadas por um UPDATE em lote: somente ele registra exatamente esse updatedAt
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids AND p.updatedAt = :now")
+    List<Long> findIdsUpdatedAt(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.status = :newStatus, p.actualEndDate = :actualEndDate, p.updatedAt = :now, " +
+            "p.version = p.version + 1 " +
+            "WHERE p.id IN :ids AND p.status = :currentStatus")
+    int completeInBulk(@Param("ids") Collection<Long> ids,
+                       @Param("currentStatus") ProjectStatus currentStatus,
+                       @Param("newStatus") ProjectStatus newStatus,
+                       @Param("actualEndDate") LocalDate actualEndDate,
+                       @Param("now") LocalDateTime now);
+
+    // Lido na retomada do motor de análise, que só enxerga alterações pela coluna updated_at
+    @Modifying
+    @Query(value = "INSERT INTO project_tombstones (project_id, deleted_at) VALUES (:id, :now)", nativeQuery = true)
+    void recordDeletion(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
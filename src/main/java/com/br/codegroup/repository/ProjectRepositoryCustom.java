@@ -0,0 +1,21 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.Project;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProjectRepositoryCustom {
+
+    // Paginação por cursor: predicado de busca sobre (chave, id), sem OFFSET e sem COUNT
+    List<Project> findByKeyset(ProjectKeysetQuery query);
+
+    // Projeções parciais: cada linha traz somente as colunas pedidas, na ordem de fields
+    Page<Object[]> findFields(ProjectFilter filter, List<ProjectField> fields, Pageable pageable);
+
+    List<Object[]> findFieldsByKeyset(ProjectKeysetQuery query, List<ProjectField> fields);
+
+    Optional<Object[]> findFieldsById(Long id, List<ProjectField> fields);
+}
@@ -0,0 +1,146 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.Project;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Project> findByKeyset(ProjectKeysetQuery query) {
+        String jpql = "SELECT p FROM Project p JOIN FETCH p.manager" + keysetClauses(query);
+
+        TypedQuery<Project> typedQuery = entityManager.createQuery(jpql, Project.class);
+        bindKeyset(typedQuery, query);
+        return typedQuery.setMaxResults(query.getLimit()).getResultList();
+    }
+
+    @Override
+    public Page<Object[]> findFields(ProjectFilter filter, List<ProjectField> fields, Pageable pageable) {
+        StringBuilder jpql = new StringBuilder(select(fields)).append(where(filter));
+        if (pageable.getSort().isSorted()) {
+            jpql.append(pageable.getSort().stream()
+                    .map(order -> "p." + ProjectSortKey.fromProperty(order.getProperty()).getProperty()
+                            + (order.isAscending() ? " ASC" : " DESC"))
+                    .collect(Collectors.joining(", ", " ORDER BY ", "")));
+        }
+
+        TypedQuery<Object[]> typedQuery = entityManager.createQuery(jpql.toString(), Object[].class);
+        bindFilter(typedQuery, filter);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        // Como no Spring Data, o COUNT só é executado quando a página não revela o total
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(filter));
+    }
+
+    @Override
+    public List<Object[]> findFieldsByKeyset(ProjectKeysetQuery query, List<ProjectField> fields) {
+        TypedQuery<Object[]> typedQuery = entityManager.createQuery(select(fields) + keysetClauses(query),
+                Object[].class);
+        bindKeyset(typedQuery, query);
+        return typedQuery.setMaxResults(query.getLimit()).getResultList();
+    }
+
+    @Override
+    public Optional<Object[]> findFieldsById(Long id, List<ProjectField> fields) {
+        return entityManager.createQuery(select(fields) + " WHERE p.id = :id", Object[].class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+    }
+
+    // O gerente só entra no FROM quando o nome dele foi pedido
+    private String select(List<ProjectField> fields) {
+        String columns = fields.stream()
+                .map(ProjectField::getExpression)
+                .collect(Collectors.joining(", "));
+        String join = fields.contains(ProjectField.MANAGER_NAME) ? " JOIN p.manager mg" : "";
+        return "SELECT " + columns + " FROM Project p" + join;
+    }
+
+    private long count(ProjectFilter filter) {
+        TypedQuery<Long> countQuery = entityManager.createQuery(
+                "SELECT COUNT(p) FROM Project p" + where(filter), Long.class);
+        bindFilter(countQuery, filter);
+        return countQuery.getSingleResult();
+    }
+
+    private String where(ProjectFilter filter) {
+        StringBuilder jpql = new StringBuilder(" WHERE 1 = 1");
+        if (filter.getName() != null && !filter.getName().isEmpty()) {
+            jpql.append(" AND LOWER(p.name) LIKE :name");
+        }
+        if (filter.getStatus() != null) {
+            jpql.append(" AND p.status = :status");
+        }
+        if (filter.getManagerId() != null) {
+            jpql.append(" AND p.manager.id = :managerId");
+        }
+        if (filter.getMemberId() != null) {
+            jpql.append(" AND :memberId IN (SELECT m.id FROM p.members m)");
+        }
+        return jpql.toString();
+    }
+
+    private void bindFilter(TypedQuery<?> typedQuery, ProjectFilter filter) {
+        if (filter.getName() != null && !filter.getName().isEmpty()) {
+            typedQuery.setParameter("name", "%" + filter.getName().toLowerCase() + "%");
+        }
+        if (filter.getStatus() != null) {
+            typedQuery.setParameter("status", filter.getStatus());
+        }
+        if (filter.getManagerId() != null) {
+            typedQuery.setParameter("managerId", filter.getManagerId());
+        }
+        if (filter.getMemberId() != null) {
+            typedQuery.setParameter("memberId", filter.getMemberId());
+        }
+    }
+
+    private String keysetClauses(ProjectKeysetQuery query) {
+        String key = "p." + query.getSortKey().getProperty();
+        String direction = query.isAscending() ? "ASC" : "DESC";
+        String comparison = query.isAscending() ? ">" : "<";
+
+        StringBuilder jpql = new StringBuilder(where(query));
+        if (query.getLastId() != null) {
+            // Comparação de tupla: o banco percorre o índice (chave, id) a partir da última linha
+            if (query.getSortKey() == ProjectSortKey.ID) {
+                jpql.append(" AND p.id ").append(comparison).append(" :lastId");
+            } else {
+                jpql.append(" AND (").append(key).append(", p.id) ").append(comparison)
+                        .append(" (:lastValue, :lastId)");
+            }
+        }
+        jpql.append(" ORDER BY ");
+        if (query.getSortKey() != ProjectSortKey.ID) {
+            jpql.append(key).append(' ').append(direction).append(", ");
+        }
+        jpql.append("p.id ").append(direction);
+        return jpql.toString();
+    }
+
+    private void bindKeyset(TypedQuery<?> typedQuery, ProjectKeysetQuery query) {
+        bindFilter(typedQuery, query);
+        if (query.getLastId() != null) {
+            typedQuery.setParameter("lastId", query.getLastId());
+            if (query.getSortKey() != ProjectSortKey.ID) {
+                typedQuery.setParameter("lastValue", query.getLastValue());
+            }
+        }
+    }
+}
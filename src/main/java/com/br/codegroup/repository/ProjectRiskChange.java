@@ -0,0 +1,7 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.RiskClassification;
+
+// Nova classificação de um projeto, válida apenas enquanto ele estiver na versão lida
+public record ProjectRiskChange(long id, long version, RiskClassification riskClassification) {
+}
@@ -0,0 +1,82 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.RiskClassification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Acesso JDBC usado pela reclassificação de risco do portfólio. A tabela é percorrida
+ * em blocos pela chave primária (sem OFFSET e sem carregar entidades) e somente as
+ * linhas cuja classificação mudou são regravadas, em batch.
+ *
+ * A leitura e a gravação não ficam na mesma transação, então a gravação só vale se o
+ * projeto continua na versão lida. Uma escrita concorrente já recalcula o risco com os
+ * valores novos (no @PreUpdate da entidade) e não é sobrescrita.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectRiskRepository {
+
+    private static final String SELECT_CHUNK =
+            "SELECT id, total_budget, start_date, expected_end_date, risk_classification, version " +
+            "FROM projects WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String UPDATE_RISK =
+            "UPDATE projects SET risk_classification = ?, updated_at = ?, version = version + 1 " +
+            "WHERE id = ? AND version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ProjectRiskRow> findChunkAfter(long lastId, int limit) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    SELECT_CHUNK, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(limit);
+            ps.setLong(1, lastId);
+            ps.setInt(2, limit);
+            return ps;
+        }, (rs, rowNum) -> new ProjectRiskRow(
+                rs.getLong("id"),
+                rs.getBigDecimal("total_budget"),
+                rs.getDate("start_date").toLocalDate(),
+                rs.getDate("expected_end_date").toLocalDate(),
+                rs.getString("risk_classification") != null
+                        ? RiskClassification.valueOf(rs.getString("risk_classification"))
+                        : null,
+                rs.getLong("version")));
+    }
+
+    /**
+     * @return IDs dos projetos efetivamente regravados; os que mudaram de versão desde a
+     * leitura ficam de fora
+     */
+    public List<Long> updateRiskClassifications(List<ProjectRiskChange> changes, LocalDateTime now) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+
+        int[][] updated = jdbcTemplate.batchUpdate(UPDATE_RISK, changes, changes.size(), (ps, change) -> {
+            ps.setString(1, change.riskClassification().name());
+            ps.setTimestamp(2, Timestamp.valueOf(now));
+            ps.setLong(3, change.id());
+            ps.setLong(4, change.version());
+        });
+
+        // Um único lote, na ordem de changes; SUCCESS_NO_INFO (-2) conta como gravado
+        List<Long> applied = new ArrayList<>();
+        for (int i = 0; i < updated[0].length; i++) {
+            if (updated[0][i] != 0) {
+                applied.add(changes.get(i).id());
+            }
+        }
+        return applied;
+    }
+}
@@ -0,0 +1,11 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.RiskClassification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Colunas necessárias para reclassificar o risco de um projeto, com a versão lida
+public record ProjectRiskRow(long id, BigDecimal totalBudget, LocalDate startDate, LocalDate expectedEndDate,
+                             RiskClassification riskClassification, long version) {
+}
@@ -0,0 +1,52 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.Project;
+import com.br.codegroup.exception.CustomException;
+
+import java.time.LocalDate;
+
+/**
+ * Campos de ordenação aceitos na listagem de projetos. Cada chave é coberta por um
+ * índice (chave, id), o que permite tanto a paginação por offset quanto a por cursor
+ * sem ordenação em memória no banco.
+ */
+public enum ProjectSortKey {
+    ID("id"),
+    NAME("name"),
+    START_DATE("startDate");
+
+    private final String property;
+
+    ProjectSortKey(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Object extract(Project project) {
+        return switch (this) {
+            case ID -> project.getId();
+            case NAME -> project.getName();
+            case START_DATE -> project.getStartDate();
+        };
+    }
+
+    public Object parseValue(String value) {
+        return switch (this) {
+            case ID -> Long.valueOf(value);
+            case NAME -> value;
+            case START_DATE -> LocalDate.parse(value);
+        };
+    }
+
+    public static ProjectSortKey fromProperty(String property) {
+        for (ProjectSortKey key : values()) {
+            if (key.property.equals(property)) {
+                return key;
+            }
+        }
+        throw new CustomException("Ordenação não suportada pelo campo: " + property + ". Use id, name ou startDate");
+    }
+}
@@ -0,0 +1,41 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.Member;
+import com.br.codegroup.domain.Project;
+import com.br.codegroup.domain.ProjectStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Campos de um projeto que alimentam as estatísticas do portfólio
+public record ProjectStatsSnapshot(
+        ProjectStatus status,
+        BigDecimal totalBudget,
+        LocalDate startDate,
+        LocalDate actualEndDate,
+        Set<Long> memberIds) {
+
+    public static ProjectStatsSnapshot of(Project project) {
+        Set<Long> memberIds = project.getMembers() != null
+                ? project.getMembers().stream().map(Member::getId).collect(Collectors.toSet())
+                : Set.of();
+        return new ProjectStatsSnapshot(project.getStatus(), project.getTotalBudget(), project.getStartDate(),
+                project.getActualEndDate(), memberIds);
+    }
+
+    public ProjectStatsSnapshot withStatus(ProjectStatus newStatus, LocalDate newActualEndDate) {
+        return new ProjectStatsSnapshot(newStatus, totalBudget, startDate, newActualEndDate, memberIds);
+    }
+
+    // Entra na duração média apenas o projeto encerrado com data real de término
+    public boolean countsAsCompleted() {
+        return status == ProjectStatus.COMPLETED && actualEndDate != null;
+    }
+
+    public long durationDays() {
+        return ChronoUnit.DAYS.between(startDate, actualEndDate);
+    }
+}
@@ -0,0 +1,129 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.dto.StuckProjectDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Consultas analíticas sobre project_status_history. O tempo em cada status vem de uma
+ * única passada com LAG(changed_at) por projeto: a transição anterior (ou a criação do
+ * projeto) marca a entrada no status de origem. Apenas os projetos com transições no
+ * período entram na janela, e os dias já encerrados são consolidados em status_transition_daily.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatusAnalyticsRepository {
+
+    private static final String WINDOWED_TRANSITIONS =
+            "WITH changes AS (" +
+            "  SELECT h.changed_at, h.previous_status, h.new_status," +
+            "         COALESCE(LAG(h.changed_at) OVER (PARTITION BY h.project_id ORDER BY h.changed_at, h.id)," +
+            "                  p.created_at) AS entered_at" +
+            "  FROM project_status_history h JOIN projects p ON p.id = h.project_id" +
+            "  WHERE h.project_id IN (SELECT project_id FROM project_status_history" +
+            "                         WHERE changed_at >= :from AND changed_at < :to)" +
+            ") " +
+            "SELECT CAST(changed_at AS DATE) AS day, previous_status AS from_status, new_status AS to_status," +
+            "       COUNT(*) AS transitions," +
+            "       COALESCE(SUM(EXTRACT(EPOCH FROM (changed_at - entered_at))), 0) AS total_seconds," +
+            "       COALESCE(MAX(EXTRACT(EPOCH FROM (changed_at - entered_at))), 0) AS max_seconds " +
+            "FROM changes " +
+            "WHERE changed_at >= :from AND changed_at < :to AND previous_status IS NOT NULL " +
+            "GROUP BY CAST(changed_at AS DATE), previous_status, new_status";
+
+    private static final String SUM_DAILY =
+            "SELECT from_status, to_status, SUM(transitions) AS transitions," +
+            "       SUM(total_seconds) AS total_seconds, MAX(max_seconds) AS max_seconds " +
+            "FROM status_transition_daily WHERE day >= :from AND day < :to " +
+            "GROUP BY from_status, to_status";
+
+    private static final String SELECT_STUCK =
+            "SELECT p.id, p.name, p.status, COALESCE(MAX(h.changed_at), p.created_at) AS since " +
+            "FROM projects p LEFT JOIN project_status_history h " +
+            "  ON h.project_id = p.id AND h.new_status = p.status " +
+            "WHERE p.status = :status " +
+            "GROUP BY p.id, p.name, p.status, p.created_at " +
+            "HAVING COALESCE(MAX(h.changed_at), p.created_at) < :enteredBefore " +
+            "ORDER BY since LIMIT :limit";
+
+    private static final RowMapper<StatusTransitionStats> STATS_MAPPER = (rs, rowNum) -> new StatusTransitionStats(
+            ProjectStatus.valueOf(rs.getString("from_status")),
+            ProjectStatus.valueOf(rs.getString("to_status")),
+            rs.getLong("transitions"),
+            rs.getDouble("total_seconds"),
+            rs.getDouble("max_seconds"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Bloqueia a linha de controle: consolidações concorrentes (inclusive entre instâncias) ficam em fila
+    public Optional<LocalDate> lockRolledUpUntil() {
+        Date rolledUpUntil = jdbcTemplate.queryForObject(
+                "SELECT rolled_up_until FROM status_analytics_state WHERE id = 1 FOR UPDATE",
+                Map.of(), Date.class);
+        return Optional.ofNullable(rolledUpUntil).map(Date::toLocalDate);
+    }
+
+    public Optional<LocalDate> findRolledUpUntil() {
+        Date rolledUpUntil = jdbcTemplate.queryForObject(
+                "SELECT rolled_up_until FROM status_analytics_state WHERE id = 1", Map.of(), Date.class);
+        return Optional.ofNullable(rolledUpUntil).map(Date::toLocalDate);
+    }
+
+    public Optional<LocalDate> findFirstChangeDay() {
+        Timestamp first = jdbcTemplate.queryForObject(
+                "SELECT MIN(changed_at) FROM project_status_history", Map.of(), Timestamp.class);
+        return Optional.ofNullable(first).map(timestamp -> timestamp.toLocalDateTime().toLocalDate());
+    }
+
+    // Consolida os dias [from, to) em uma única passada e avança a marca de consolidação
+    public int rollUp(LocalDate from, LocalDate to) {
+        int rows = jdbcTemplate.update(
+                "INSERT INTO status_transition_daily " +
+                "(day, from_status, to_status, transitions, total_seconds, max_seconds) " + WINDOWED_TRANSITIONS,
+                range(from.atStartOfDay(), to.atStartOfDay()));
+        jdbcTemplate.update("UPDATE status_analytics_state SET rolled_up_until = :to WHERE id = 1",
+                Map.of("to", Date.valueOf(to)));
+        return rows;
+    }
+
+    public List<StatusTransitionStats> sumDaily(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(SUM_DAILY,
+                new MapSqlParameterSource("from", Date.valueOf(from)).addValue("to", Date.valueOf(to)),
+                STATS_MAPPER);
+    }
+
+    // Mesma janela da consolidação, calculada na hora para o trecho ainda não consolidado
+    public List<StatusTransitionStats> computeLive(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(WINDOWED_TRANSITIONS, range(from, to), STATS_MAPPER);
+    }
+
+    public List<StuckProjectDTO> findStuck(ProjectStatus status, LocalDateTime enteredBefore, int limit,
+                                           LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource("status", status.name())
+                .addValue("enteredBefore", Timestamp.valueOf(enteredBefore))
+                .addValue("limit", limit);
+        return jdbcTemplate.query(SELECT_STUCK, params, (rs, rowNum) -> {
+            LocalDateTime since = rs.getTimestamp("since").toLocalDateTime();
+            return new StuckProjectDTO(rs.getLong("id"), rs.getString("name"),
+                    ProjectStatus.valueOf(rs.getString("status")), since,
+                    Duration.between(since, now).toSeconds() / 86400.0);
+        });
+    }
+
+    private static MapSqlParameterSource range(LocalDateTime from, LocalDateTime to) {
+        return new MapSqlParameterSource("from", Timestamp.valueOf(from)).addValue("to", Timestamp.valueOf(to));
+    }
+}
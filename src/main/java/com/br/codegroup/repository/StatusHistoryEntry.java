@@ -0,0 +1,15 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.ProjectStatus;
+
+import java.time.LocalDateTime;
+
+// Transição pendente de gravação em project_status_history; o autor é resolvido na gravação
+public record StatusHistoryEntry(
+        Long projectId,
+        ProjectStatus previousStatus,
+        ProjectStatus newStatus,
+        LocalDateTime changedAt,
+        String username,
+        String reason) {
+}
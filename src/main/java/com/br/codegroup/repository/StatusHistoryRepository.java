@@ -0,0 +1,62 @@
+package com.br.codegroup.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gravação JDBC do histórico de status. O autor é registrado como de fato ocorreu: o login
+ * em changed_by_username e o membro associado a ele em changed_by, que fica nulo quando o
+ * usuário não tem membro ou a transição não teve usuário autenticado. O INSERT parte da
+ * tabela de projetos para que projetos excluídos antes da gravação sejam ignorados.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatusHistoryRepository {
+
+    private static final String INSERT_HISTORY =
+            "INSERT INTO project_status_history " +
+            "(project_id, previous_status, new_status, changed_at, changed_by, changed_by_username, change_reason) " +
+            "SELECT p.id, :previousStatus, :newStatus, :changedAt, :changedBy, :changedByUsername, :reason " +
+            "FROM projects p WHERE p.id = :projectId";
+
+    private static final String SELECT_ACTORS =
+            "SELECT username, member_id FROM users WHERE username IN (:usernames) AND member_id IS NOT NULL";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Map<String, Long> findMemberIdsByUsernames(Collection<String> usernames) {
+        Map<String, Long> memberIds = new HashMap<>();
+        if (usernames.isEmpty()) {
+            return memberIds;
+        }
+        jdbcTemplate.query(SELECT_ACTORS, Map.of("usernames", usernames),
+                rs -> {
+                    memberIds.put(rs.getString("username"), rs.getLong("member_id"));
+                });
+        return memberIds;
+    }
+
+    public int[] insertAll(List<StatusHistoryEntry> entries, Map<String, Long> actors) {
+        MapSqlParameterSource[] batch = entries.stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("projectId", entry.projectId())
+                        .addValue("previousStatus",
+                                entry.previousStatus() != null ? entry.previousStatus().name() : null, Types.VARCHAR)
+                        .addValue("newStatus", entry.newStatus().name())
+                        .addValue("changedAt", Timestamp.valueOf(entry.changedAt()))
+                        .addValue("changedBy", actors.get(entry.username()), Types.BIGINT)
+                        .addValue("changedByUsername", entry.username(), Types.VARCHAR)
+                        .addValue("reason", entry.reason(), Types.VARCHAR))
+                .toArray(MapSqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate(INSERT_HISTORY, batch);
+    }
+}
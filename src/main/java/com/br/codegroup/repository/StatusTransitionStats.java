@@ -0,0 +1,19 @@
+package com.br.codegroup.repository;
+
+import com.br.codegroup.domain.ProjectStatus;
+
+// Transições from -> to no período e tempo passado no status de origem, em segundos
+public record StatusTransitionStats(
+        ProjectStatus fromStatus,
+        ProjectStatus toStatus,
+        long transitions,
+        double totalSeconds,
+        double maxSeconds) {
+
+    public StatusTransitionStats merge(StatusTransitionStats other) {
+        return new StatusTransitionStats(fromStatus, toStatus,
+                transitions + other.transitions,
+                totalSeconds + other.totalSeconds,
+                Math.max(maxSeconds, other.maxSeconds));
+    }
+}
@@ -0,0 +1,11 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.dto.LoginRequestDTO;
+import com.br.codegroup.dto.RefreshTokenRequestDTO;
+import com.br.codegroup.dto.TokenResponseDTO;
+
+public interface AuthService {
+
+    TokenResponseDTO login(LoginRequestDTO requestDTO);
+    TokenResponseDTO refresh(RefreshTokenRequestDTO requestDTO);
+}
@@ -0,0 +1,19 @@
+package com.br.codegroup.service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AuthTokenService {
+
+    enum TokenType { ACCESS, REFRESH }
+
+    record TokenClaims(String username, List<String> authorities, TokenType type, Instant expiresAt) {
+    }
+
+    String issue(String username, Collection<String> authorities, TokenType type);
+
+    // Assinatura, tipo e validade conferidos sem consultar o cadastro de usuários; vazio se recusado
+    Optional<TokenClaims> verify(String token, TokenType expectedType);
+}
@@ -0,0 +1,15 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.util.ExportWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+
+    // Todos os projetos, com os IDs dos membros, escritos no fluxo à medida que são lidos
+    void exportProjects(ExportWriter.Format format, OutputStream output) throws IOException;
+
+    // Todos os membros, com os IDs dos projetos em que estão alocados
+    void exportMembers(ExportWriter.Format format, OutputStream output) throws IOException;
+}
@@ -1,9 +1,12 @@
 package com.br.codegroup.service;
 
 import com.br.codegroup.domain.Member;
+import com.br.codegroup.dto.CursorPageDTO;
+import com.br.codegroup.dto.MemberCursorRequestDTO;
 import com.br.codegroup.dto.MemberDTO;
 import com.br.codegroup.dto.MemberRequestDTO;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface MemberService {
@@ -13,9 +16,14 @@ public interface MemberService {
     MemberDTO getMemberById(Long id);
     List<MemberDTO> getAllMembers();
     List<MemberDTO> getMembersByAssignment(String assignment);
+    CursorPageDTO<MemberDTO> findAllByCursor(MemberCursorRequestDTO requestDTO);
+
+    // ETag forte da listagem (opcionalmente filtrada por atribuição), sem carregar os membros
+    String getMembersETag(String assignment);
 
     // Métodos internos para validação
     Member findById(Long id);
+    List<Member> findAllById(Collection<Long> ids);
 
     // Conversões
     MemberDTO convertToDTO(Member member);
@@ -0,0 +1,18 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.dto.PortfolioAnalyticsQueryDTO;
+import com.br.codegroup.dto.PortfolioAnalyticsResultDTO;
+
+import java.io.IOException;
+
+public interface PortfolioAnalyticsService {
+
+    // Agregação por status, risco, gerente e mês de início sobre os projetos em memória
+    PortfolioAnalyticsResultDTO query(PortfolioAnalyticsQueryDTO queryDTO);
+
+    // Recarrega todos os projetos do banco e substitui o conteúdo em memória
+    void reload();
+
+    // Grava a fotografia local usada na próxima subida e apaga exclusões fora da retenção
+    void writeSnapshot() throws IOException;
+}
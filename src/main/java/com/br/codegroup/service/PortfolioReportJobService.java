@@ -0,0 +1,12 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.dto.PortfolioReportFilterDTO;
+import com.br.codegroup.dto.ReportJobDTO;
+
+public interface PortfolioReportJobService {
+
+    // Enfileira o relatório e retorna imediatamente; um pedido idêntico em andamento é reaproveitado
+    ReportJobDTO submit(PortfolioReportFilterDTO filter);
+
+    ReportJobDTO getJob(String id);
+}
@@ -0,0 +1,15 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.dto.PortfolioTrendPointDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PortfolioSnapshotService {
+
+    // Grava (ou substitui) a fotografia do portfólio para a data informada
+    void capture(LocalDate date);
+
+    // Uma entrada por dia com fotografia entre from e to (inclusivos)
+    List<PortfolioTrendPointDTO> getTrend(LocalDate from, LocalDate to);
+}
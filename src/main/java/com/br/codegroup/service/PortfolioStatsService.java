@@ -0,0 +1,21 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.dto.PortfolioReconciliationDTO;
+import com.br.codegroup.dto.PortfolioReportDTO;
+import com.br.codegroup.repository.ProjectStatsSnapshot;
+
+import java.util.Collection;
+
+public interface PortfolioStatsService {
+
+    // Aplica, na transação corrente, a troca de "before" por "after" (nulo em criações e exclusões)
+    void recordChange(ProjectStatsSnapshot before, ProjectStatsSnapshot after);
+
+    // Variação agregada de várias escritas (importação e transição em lote)
+    void recordChanges(Collection<ProjectStatsSnapshot> removed, Collection<ProjectStatsSnapshot> added);
+
+    PortfolioReportDTO getReport();
+
+    // Recalcula as estatísticas a partir dos projetos e informa as divergências encontradas
+    PortfolioReconciliationDTO reconcile();
+}
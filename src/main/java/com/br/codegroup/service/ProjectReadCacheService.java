@@ -0,0 +1,10 @@
+package com.br.codegroup.service;
+
+public interface ProjectReadCacheService {
+
+    // Projeto já serializado em JSON, com a classificação de risco e o ETag da versão
+    record CachedProject(byte[] json, String riskClassification, String eTag) {
+    }
+
+    CachedProject get(Long id);
+}
@@ -1,13 +1,20 @@
 package com.br.codegroup.service;
 
 import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.dto.BulkImportResultDTO;
+import com.br.codegroup.dto.BulkStatusUpdateRequestDTO;
+import com.br.codegroup.dto.BulkStatusUpdateResultDTO;
+import com.br.codegroup.dto.CursorPageDTO;
 import com.br.codegroup.dto.PortfolioReportDTO;
+import com.br.codegroup.dto.ProjectCursorRequestDTO;
 import com.br.codegroup.dto.ProjectDTO;
 import com.br.codegroup.dto.ProjectRequestDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface ProjectService {
 
@@ -15,15 +22,25 @@ public interface ProjectService {
     ProjectDTO createProject(ProjectRequestDTO requestDTO);
     ProjectDTO findById(Long id);
     Page<ProjectDTO> findAll(Pageable pageable, String filter);
+    CursorPageDTO<ProjectDTO> findAllByCursor(ProjectCursorRequestDTO requestDTO);
     ProjectDTO updateProject(Long id, ProjectRequestDTO requestDTO);
+    // expectedVersion (de If-Match) nulo dispensa a checagem de versão
+    ProjectDTO updateProject(Long id, ProjectRequestDTO requestDTO, Long expectedVersion);
     void deleteProject(Long id);
 
+    // Importação em lote
+    BulkImportResultDTO importProjects(List<ProjectRequestDTO> requests, boolean allOrNothing);
+
     // Relatórios
     PortfolioReportDTO generatePortfolioReport();
 
     // Gestão de status
     ProjectDTO updateProjectStatus(Long id, ProjectStatus newStatus);
+    ProjectDTO updateProjectStatus(Long id, ProjectStatus newStatus, String reason);
+    ProjectDTO updateProjectStatus(Long id, ProjectStatus newStatus, String reason, Long expectedVersion);
+    BulkStatusUpdateResultDTO updateProjectsStatus(BulkStatusUpdateRequestDTO requestDTO);
     void validateStatusTransition(ProjectStatus currentStatus, ProjectStatus newStatus);
+    Set<ProjectStatus> findAllowedTransitions(Long id);
 
     // Buscas específicas
     Page<ProjectDTO> findByStatus(ProjectStatus status, Pageable pageable);
@@ -35,4 +52,12 @@ public interface ProjectService {
     boolean isMemberAvailableForProject(Long memberId);
     void validateManager(Long managerId);
     void validateEmployee(Long memberId);
+
+    // Projeções parciais: somente os campos pedidos em fields (lista separada por vírgulas)
+    Map<String, Object> findById(Long id, String fields);
+    Page<Map<String, Object>> findAll(Pageable pageable, String filter, String fields);
+    CursorPageDTO<Map<String, Object>> findAllByCursor(ProjectCursorRequestDTO requestDTO, String fields);
+    Page<Map<String, Object>> findByStatus(ProjectStatus status, Pageable pageable, String fields);
+    Page<Map<String, Object>> findByManagerId(Long managerId, Pageable pageable, String fields);
+    Page<Map<String, Object>> findByMemberId(Long memberId, Pageable pageable, String fields);
 }
\ No newline at end of file
@@ -1,7 +1,11 @@
 package com.br.codegroup.service;
 
+import com.br.codegroup.dto.RiskEvaluationRequestDTO;
+import com.br.codegroup.dto.RiskEvaluationResultDTO;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 public interface RiskCalculatorService {
 
@@ -9,4 +13,7 @@ public interface RiskCalculatorService {
 
     public String calculateRiskBasedOnProject(Long projectId);
 
+    // Classificação em lote de cenários hipotéticos, um resultado por cenário na mesma ordem
+    public List<RiskEvaluationResultDTO> evaluate(List<RiskEvaluationRequestDTO> scenarios);
+
 }
@@ -0,0 +1,14 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.dto.RiskRecalculationStatusDTO;
+
+public interface RiskRecalculationService {
+
+    // Inicia a reclassificação em segundo plano a partir do ID informado (exclusivo)
+    RiskRecalculationStatusDTO start(Long fromId);
+
+    RiskRecalculationStatusDTO getStatus();
+
+    // Interrompe a execução após o bloco corrente
+    RiskRecalculationStatusDTO cancel();
+}
@@ -0,0 +1,18 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.dto.CycleTimeReportDTO;
+import com.br.codegroup.dto.FunnelReportDTO;
+
+import java.time.LocalDate;
+
+public interface StatusAnalyticsService {
+
+    // Tempo médio e máximo em cada status, com as transições que saíram dele entre from e to (inclusivos)
+    CycleTimeReportDTO getCycleTime(LocalDate from, LocalDate to);
+
+    // Entradas, saídas e taxa de conversão de cada etapa no período
+    FunnelReportDTO getFunnel(LocalDate from, LocalDate to);
+
+    // Consolida os dias encerrados ainda não consolidados; retorna o primeiro dia pendente
+    LocalDate rollUp();
+}
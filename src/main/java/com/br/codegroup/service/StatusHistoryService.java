@@ -0,0 +1,21 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.domain.ProjectStatus;
+
+import java.util.Map;
+
+public interface StatusHistoryService {
+
+    // Registra a transição; a gravação ocorre em segundo plano depois do commit da transação corrente
+    void recordTransition(Long projectId, ProjectStatus previousStatus, ProjectStatus newStatus, String reason);
+
+    // Mesma transição para vários projetos, a partir do status anterior de cada um
+    void recordTransitions(Map<Long, ProjectStatus> previousStatuses, ProjectStatus newStatus, String reason);
+
+    // Grava imediatamente os registros pendentes, inclusive os lotes aguardando nova tentativa,
+    // e retorna quantos foram gravados
+    int flush();
+
+    // Registros ainda não gravados: fila e lotes aguardando nova tentativa
+    int getQueueSize();
+}
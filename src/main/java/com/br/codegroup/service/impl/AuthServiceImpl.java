@@ -0,0 +1,80 @@
+package com.br.codegroup.service.impl;
+
+import com.br.codegroup.config.AuthTokenProperties;
+import com.br.codegroup.dto.LoginRequestDTO;
+import com.br.codegroup.dto.RefreshTokenRequestDTO;
+import com.br.codegroup.dto.TokenResponseDTO;
+import com.br.codegroup.exception.UnauthorizedException;
+import com.br.codegroup.service.AuthService;
+import com.br.codegroup.service.AuthTokenService;
+import com.br.codegroup.service.AuthTokenService.TokenClaims;
+import com.br.codegroup.service.AuthTokenService.TokenType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class AuthServiceImpl implements AuthService {
+
+    private static final String TOKEN_TYPE = "Bearer";
+
+    private final AuthenticationManager authenticationManager;
+    private final UserDetailsService userDetailsService;
+    private final AuthTokenService authTokenService;
+    private final AuthTokenProperties tokenProperties;
+
+    @Override
+    public TokenResponseDTO login(LoginRequestDTO requestDTO) {
+        Authentication authentication;
+        try {
+            // Única verificação BCrypt: as requisições seguintes só conferem o HMAC do token
+            authentication = authenticationManager.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(
+                    requestDTO.getUsername(), requestDTO.getPassword()));
+        } catch (AuthenticationException e) {
+            throw new UnauthorizedException("Usuário ou senha inválidos");
+        }
+        return issueTokens(authentication.getName(), authentication.getAuthorities());
+    }
+
+    @Override
+    public TokenResponseDTO refresh(RefreshTokenRequestDTO requestDTO) {
+        TokenClaims claims = authTokenService.verify(requestDTO.getRefreshToken(), TokenType.REFRESH)
+                .orElseThrow(() -> new UnauthorizedException("Refresh token inválido ou expirado"));
+
+        // Perfis relidos do cadastro: usuário removido ou bloqueado não renova o acesso
+        UserDetails user;
+        try {
+            user = userDetailsService.loadUserByUsername(claims.username());
+        } catch (UsernameNotFoundException e) {
+            throw new UnauthorizedException("Refresh token inválido ou expirado");
+        }
+        if (!user.isEnabled() || !user.isAccountNonLocked()) {
+            throw new UnauthorizedException("Usuário desativado ou bloqueado");
+        }
+        return issueTokens(user.getUsername(), user.getAuthorities());
+    }
+
+    private TokenResponseDTO issueTokens(String username, Collection<? extends GrantedAuthority> grantedAuthorities) {
+        List<String> authorities = grantedAuthorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+        return new TokenResponseDTO(
+                authTokenService.issue(username, authorities, TokenType.ACCESS),
+                authTokenService.issue(username, authorities, TokenType.REFRESH),
+                TOKEN_TYPE,
+                Duration.ofMinutes(tokenProperties.getAccessTokenMinutes()).toSeconds());
+    }
+}
@@ -0,0 +1,130 @@
+package com.br.codegroup.service.impl;
+
+import com.br.codegroup.config.AuthTokenProperties;
+import com.br.codegroup.service.AuthTokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Tokens no formato JWT assinados com HMAC-SHA256 (HS256). Validar um token custa um HMAC e a
+ * leitura de um JSON pequeno, contra dezenas de milissegundos de uma verificação BCrypt, e não
+ * depende de sessão nem de consulta ao cadastro de usuários.
+ */
+@Slf4j
+@Service
+public class AuthTokenServiceImpl implements AuthTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    // Cabeçalho fixo: apenas HS256 é emitido e aceito, sem negociação de algoritmo
+    private static final String HEADER = ENCODER.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.US_ASCII));
+
+    private final AuthTokenProperties tokenProperties;
+    private final ObjectMapper objectMapper;
+
+    // Mac não é thread-safe; cada thread de requisição mantém a sua instância já inicializada
+    private final ThreadLocal<Mac> mac;
+
+    public AuthTokenServiceImpl(AuthTokenProperties tokenProperties, ObjectMapper objectMapper) {
+        this.tokenProperties = tokenProperties;
+        this.objectMapper = objectMapper;
+
+        byte[] secret;
+        if (tokenProperties.getSecret() == null || tokenProperties.getSecret().isBlank()) {
+            log.warn("app.auth.token.secret não configurado: usando chave aleatória, tokens não sobrevivem a reinícios");
+            secret = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(secret);
+        } else {
+            secret = tokenProperties.getSecret().getBytes(StandardCharsets.UTF_8);
+        }
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.auth.token.secret deve ter pelo menos " + MIN_SECRET_BYTES + " bytes");
+        }
+
+        SecretKeySpec key = new SecretKeySpec(secret, ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(ALGORITHM);
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC-SHA256 indisponível", e);
+            }
+        });
+    }
+
+    @Override
+    public String issue(String username, Collection<String> authorities, TokenType type) {
+        long issuedAt = Instant.now().getEpochSecond();
+        long minutes = type == TokenType.ACCESS
+                ? tokenProperties.getAccessTokenMinutes()
+                : tokenProperties.getRefreshTokenMinutes();
+        Payload payload = new Payload(username, List.copyOf(authorities), type.name(), issuedAt,
+                issuedAt + Duration.ofMinutes(minutes).toSeconds());
+
+        String signingInput;
+        try {
+            signingInput = HEADER + "." + ENCODER.encodeToString(objectMapper.writeValueAsBytes(payload));
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao serializar o token", e);
+        }
+        return signingInput + "." + ENCODER.encodeToString(sign(signingInput));
+    }
+
+    @Override
+    public Optional<TokenClaims> verify(String token, TokenType expectedType) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int payloadStart = token.indexOf('.');
+        int signatureStart = token.lastIndexOf('.');
+        if (payloadStart <= 0 || payloadStart == signatureStart || !HEADER.equals(token.substring(0, payloadStart))) {
+            return Optional.empty();
+        }
+
+        Payload payload;
+        try {
+            byte[] signature = DECODER.decode(token.substring(signatureStart + 1));
+            // Comparação em tempo constante, para não revelar quantos bytes da assinatura conferem
+            if (!MessageDigest.isEqual(sign(token.substring(0, signatureStart)), signature)) {
+                return Optional.empty();
+            }
+            payload = objectMapper.readValue(DECODER.decode(token.substring(payloadStart + 1, signatureStart)),
+                    Payload.class);
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty();
+        }
+
+        if (!expectedType.name().equals(payload.type()) || Instant.now().getEpochSecond() >= payload.exp()) {
+            return Optional.empty();
+        }
+        return Optional.of(new TokenClaims(payload.sub(), payload.authorities(), expectedType,
+                Instant.ofEpochSecond(payload.exp())));
+    }
+
+    private byte[] sign(String signingInput) {
+        return mac.get().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    record Payload(String sub, List<String> authorities, String type, long iat, long exp) {
+    }
+}
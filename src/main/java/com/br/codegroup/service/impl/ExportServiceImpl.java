@@ -0,0 +1,72 @@
+package com.br.codegroup.service.impl;
+
+import com.br.codegroup.repository.ExportRepository;
+import com.br.codegroup.service.ExportService;
+import com.br.codegroup.util.ExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Exportação completa em memória constante: cada linha do cursor é escrita na resposta e
+ * descartada. A leitura inteira acontece em uma única transação somente leitura com leitura
+ * repetível, então a exportação reflete um único instante mesmo com escritas concorrentes.
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private final ExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate snapshotTransaction;
+
+    public ExportServiceImpl(ExportRepository exportRepository, ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @Override
+    public void exportProjects(ExportWriter.Format format, OutputStream output) throws IOException {
+        export(format, output, ExportRepository.PROJECT_COLUMNS, exportRepository::streamProjects);
+    }
+
+    @Override
+    public void exportMembers(ExportWriter.Format format, OutputStream output) throws IOException {
+        export(format, output, ExportRepository.MEMBER_COLUMNS, exportRepository::streamMembers);
+    }
+
+    private void export(ExportWriter.Format format, OutputStream output, List<String> columns,
+                        Consumer<Consumer<Object[]>> source) throws IOException {
+        try (ExportWriter writer = ExportWriter.open(format, output, columns, objectMapper)) {
+            snapshotTransaction.executeWithoutResult(status -> {
+                source.accept(row -> {
+                    try {
+                        writer.writeRow(row);
+                    } catch (IOException e) {
+                        // Cliente desconectado: interrompe o cursor e encerra a transação
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                try {
+                    // O resto do buffer sai antes do commit, para que a falha ainda desfaça a leitura
+                    writer.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
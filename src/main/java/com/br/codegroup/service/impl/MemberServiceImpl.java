@@ -1,27 +1,69 @@
 package com.br.codegroup.service.impl;
 
 
+import com.br.codegroup.config.MemberCacheProperties;
 import com.br.codegroup.domain.Member;
+import com.br.codegroup.dto.CursorPageDTO;
+import com.br.codegroup.dto.MemberCursorRequestDTO;
 import com.br.codegroup.dto.MemberDTO;
 import com.br.codegroup.dto.MemberRequestDTO;
 import com.br.codegroup.exception.CustomException;
 import com.br.codegroup.exception.ResourceNotFoundException;
+import com.br.codegroup.mapper.MemberMapper;
+import com.br.codegroup.repository.MemberListVersion;
 import com.br.codegroup.repository.MemberRepository;
 import com.br.codegroup.service.MemberService;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import com.br.codegroup.util.MemberCursor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Membros quase nunca mudam e são buscados por ID várias vezes em cada escrita de projeto
+ * (gerente, funcionários, montagem da entidade), então as buscas por ID passam por um cache
+ * em memória. O cache guarda cópias sem o contador de projetos ativos, que muda a cada escrita
+ * e é lido de {@link com.br.codegroup.repository.MemberCapacityRepository}, e cada chamada
+ * recebe a sua própria cópia.
+ */
 @Service
-@RequiredArgsConstructor
 public class MemberServiceImpl implements MemberService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     private final MemberRepository memberRepository;
-    private final ModelMapper modelMapper;
+    private final MemberMapper memberMapper;
+    private final MemberCacheProperties cacheProperties;
+    private final Cache<Long, Member> cache;
+
+    public MemberServiceImpl(MemberRepository memberRepository, MemberMapper memberMapper,
+                             MemberCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.memberMapper = memberMapper;
+        this.cacheProperties = cacheProperties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaximumSize())
+                .expireAfterWrite(Duration.ofMinutes(cacheProperties.getExpireAfterWriteMinutes()))
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.load.duration, cache.evictions com cache=member
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "member");
+    }
 
     @Override
     @Transactional
@@ -37,11 +79,12 @@ public class MemberServiceImpl implements MemberService {
         member.setAssignment(requestDTO.getAssignment());
 
         Member savedMember = memberRepository.save(member);
+        invalidateAfterCommit(savedMember.getId());
         return convertToDTO(savedMember);
     }
 
+    // Sem transação própria: um acerto no cache não abre conexão com o banco
     @Override
-    @Transactional(readOnly = true)
     public MemberDTO getMemberById(Long id) {
         Member member = findById(id);
         return convertToDTO(member);
@@ -67,14 +110,115 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional(readOnly = true)
+    public CursorPageDTO<MemberDTO> findAllByCursor(MemberCursorRequestDTO requestDTO) {
+        int size = requestDTO.getSize();
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new CustomException("O tamanho da página deve estar entre 1 e " + MAX_CURSOR_PAGE_SIZE);
+        }
+        String assignment = requestDTO.getAssignment();
+        if (assignment != null) {
+            validateAssignment(assignment);
+        }
+        long lastId = requestDTO.getCursor() != null && !requestDTO.getCursor().isEmpty()
+                ? MemberCursor.decode(requestDTO.getCursor())
+                : 0L;
+
+        // Uma linha a mais indica se existe próxima página, dispensando o COUNT
+        Limit limit = Limit.of(size + 1);
+        List<Member> members = assignment != null
+                ? memberRepository.findByAssignmentAndIdGreaterThanOrderByIdAsc(assignment, lastId, limit)
+                : memberRepository.findByIdGreaterThanOrderByIdAsc(lastId, limit);
+        boolean hasNext = members.size() > size;
+        List<Member> content = hasNext ? members.subList(0, size) : members;
+
+        CursorPageDTO<MemberDTO> page = new CursorPageDTO<>();
+        page.setContent(content.stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList()));
+        page.setSize(content.size());
+        page.setHasNext(hasNext);
+        if (hasNext) {
+            page.setNextCursor(MemberCursor.encode(content.get(content.size() - 1).getId()));
+        }
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getMembersETag(String assignment) {
+        MemberListVersion version;
+        if (assignment != null) {
+            validateAssignment(assignment);
+            version = memberRepository.findListVersionByAssignment(assignment);
+        } else {
+            version = memberRepository.findListVersion();
+        }
+
+        // Membros não são excluídos, então a contagem e a última alteração identificam o conteúdo
+        long lastUpdated = version.lastUpdatedAt() == null ? 0L
+                : ChronoUnit.MICROS.between(Instant.EPOCH, version.lastUpdatedAt().toInstant(ZoneOffset.UTC));
+        return "\"" + Long.toHexString(version.count()) + "-" + Long.toHexString(lastUpdated) + "\"";
+    }
+
+    @Override
     public Member findById(Long id) {
-        return memberRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Membro não encontrado com ID: " + id));
+        if (!cacheProperties.isEnabled()) {
+            return loadMember(id);
+        }
+        // Um ID inexistente lança exceção e não fica no cache
+        return copyOf(cache.get(id, this::loadMember));
+    }
+
+    @Override
+    public List<Member> findAllById(Collection<Long> ids) {
+        if (!cacheProperties.isEnabled()) {
+            return memberRepository.findAllById(ids);
+        }
+        // Os IDs ausentes do cache são buscados juntos, em uma única consulta
+        return cache.getAll(ids, this::loadMembers).values().stream()
+                .map(MemberServiceImpl::copyOf)
+                .collect(Collectors.toList());
     }
 
     @Override
     public MemberDTO convertToDTO(Member member) {
-        return modelMapper.map(member, MemberDTO.class);
+        return memberMapper.toDTO(member);
+    }
+
+    private Member loadMember(Long id) {
+        return memberRepository.findById(id)
+                .map(MemberServiceImpl::copyOf)
+                .orElseThrow(() -> new ResourceNotFoundException("Membro não encontrado com ID: " + id));
+    }
+
+    private Map<Long, Member> loadMembers(Set<? extends Long> ids) {
+        return memberRepository.findAllById(List.copyOf(ids)).stream()
+                .collect(Collectors.toMap(Member::getId, MemberServiceImpl::copyOf));
+    }
+
+    // Cópia desligada do contexto de persistência, sem o contador de projetos ativos
+    private static Member copyOf(Member member) {
+        Member copy = new Member();
+        copy.setId(member.getId());
+        copy.setName(member.getName());
+        copy.setAssignment(member.getAssignment());
+        copy.setCreatedAt(member.getCreatedAt());
+        copy.setUpdatedAt(member.getUpdatedAt());
+        return copy;
+    }
+
+    // Após o commit, para uma leitura concorrente não recolocar no cache o estado anterior
+    private void invalidateAfterCommit(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(id);
+                }
+            });
+        } else {
+            cache.invalidate(id);
+        }
     }
 
     private void validateAssignment(String assignment) {
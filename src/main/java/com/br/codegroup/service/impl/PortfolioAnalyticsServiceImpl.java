@@ -0,0 +1,282 @@
+package com.br.codegroup.service.impl;
+
+import com.br.codegroup.analytics.ColumnGroup;
+import com.br.codegroup.analytics.ColumnQuery;
+import com.br.codegroup.analytics.ProjectColumnSnapshotFile;
+import com.br.codegroup.analytics.ProjectColumnStore;
+import com.br.codegroup.config.AnalyticsProperties;
+import com.br.codegroup.domain.ProjectsChangedEvent;
+import com.br.codegroup.dto.PortfolioAnalyticsGroupDTO;
+import com.br.codegroup.dto.PortfolioAnalyticsQueryDTO;
+import com.br.codegroup.dto.PortfolioAnalyticsQueryDTO.Dimension;
+import com.br.codegroup.dto.PortfolioAnalyticsResultDTO;
+import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.repository.ProjectColumnRepository;
+import com.br.codegroup.repository.ProjectColumnRow;
+import com.br.codegroup.service.PortfolioAnalyticsService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Agregações interativas do portfólio sobre um {@link ProjectColumnStore} em memória. Na
+ * subida, a fotografia local (app.analytics.engine.snapshot-file) é mapeada e só o que
+ * mudou desde a marca d'água é lido do banco; sem fotografia válida, a carga é completa.
+ * Depois, cada commit que altera projetos publica os IDs afetados e uma thread própria
+ * relê apenas essas linhas. Carga, atualizações e gravação da fotografia passam pela mesma
+ * thread, em ordem, então uma releitura nunca é sobrescrita por uma anterior. Uma recarga
+ * periódica corrige atualizações que tenham falhado.
+ */
+@Slf4j
+@Service
+public class PortfolioAnalyticsServiceImpl implements PortfolioAnalyticsService {
+
+    private static final Comparator<PortfolioAnalyticsGroupDTO> GROUP_ORDER = Comparator
+            .comparing(PortfolioAnalyticsGroupDTO::getStatus, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(PortfolioAnalyticsGroupDTO::getRiskClassification, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(PortfolioAnalyticsGroupDTO::getManagerId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(PortfolioAnalyticsGroupDTO::getStartMonth, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final ProjectColumnRepository projectColumnRepository;
+    private final AnalyticsProperties analyticsProperties;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ScheduledExecutorService loader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "portfolio-analytics");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile ProjectColumnStore store;
+
+    public PortfolioAnalyticsServiceImpl(ProjectColumnRepository projectColumnRepository,
+                                         AnalyticsProperties analyticsProperties,
+                                         PlatformTransactionManager transactionManager) {
+        this.projectColumnRepository = projectColumnRepository;
+        this.analyticsProperties = analyticsProperties;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!analyticsProperties.getEngine().isEnabled()) {
+            return;
+        }
+        loader.execute(this::warmStart);
+        long interval = analyticsProperties.getEngine().getReloadIntervalMinutes();
+        if (interval > 0) {
+            loader.scheduleWithFixedDelay(this::reloadQuietly, interval, interval, TimeUnit.MINUTES);
+        }
+        long snapshotInterval = analyticsProperties.getEngine().getSnapshotIntervalMinutes();
+        if (snapshotPath() != null && snapshotInterval > 0) {
+            loader.scheduleWithFixedDelay(this::writeSnapshotQuietly, snapshotInterval, snapshotInterval,
+                    TimeUnit.MINUTES);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProjectsChanged(ProjectsChangedEvent event) {
+        if (analyticsProperties.getEngine().isEnabled() && !event.projectIds().isEmpty()) {
+            loader.execute(() -> refresh(event.projectIds()));
+        }
+    }
+
+    @Override
+    public PortfolioAnalyticsResultDTO query(PortfolioAnalyticsQueryDTO queryDTO) {
+        ProjectColumnStore current = store;
+        if (!analyticsProperties.getEngine().isEnabled()) {
+            throw new CustomException("Motor de análise do portfólio desabilitado");
+        }
+        if (current == null) {
+            throw new CustomException("Motor de análise do portfólio em carregamento. Tente novamente em instantes");
+        }
+        if (queryDTO.getStartDateFrom() != null && queryDTO.getStartDateTo() != null
+                && queryDTO.getStartDateFrom().isAfter(queryDTO.getStartDateTo())) {
+            throw new CustomException("Período inválido: a data inicial deve ser anterior ou igual à final");
+        }
+
+        List<Dimension> groupBy = queryDTO.getGroupBy() != null ? List.copyOf(queryDTO.getGroupBy()) : List.of();
+        ColumnQuery query = new ColumnQuery(queryDTO.getStatuses(), queryDTO.getRiskClassifications(),
+                queryDTO.getManagerIds(), queryDTO.getStartDateFrom(), queryDTO.getStartDateTo(),
+                groupBy.contains(Dimension.STATUS), groupBy.contains(Dimension.RISK_CLASSIFICATION),
+                groupBy.contains(Dimension.MANAGER), groupBy.contains(Dimension.START_MONTH));
+
+        long startedAt = System.nanoTime();
+        int scanned = current.size();
+        List<ColumnGroup> groups = current.aggregate(query, analyticsProperties.getEngine().getParallelThreshold());
+        long elapsedMicros = (System.nanoTime() - startedAt) / 1000;
+
+        long projectCount = 0;
+        long totalCents = 0;
+        for (ColumnGroup group : groups) {
+            projectCount += group.count();
+            totalCents += group.budgetCents();
+        }
+
+        PortfolioAnalyticsResultDTO result = new PortfolioAnalyticsResultDTO();
+        result.setGroupBy(groupBy);
+        result.setProjectCount(projectCount);
+        result.setTotalBudget(BigDecimal.valueOf(totalCents, 2));
+        result.setGroups(groups.stream().map(PortfolioAnalyticsServiceImpl::toDTO).sorted(GROUP_ORDER)
+                .collect(Collectors.toList()));
+        result.setScannedProjects(scanned);
+        result.setElapsedMicros(elapsedMicros);
+        return result;
+    }
+
+    @Override
+    public void reload() {
+        int expected = store != null ? store.size() : 0;
+        ProjectColumnStore loaded = new ProjectColumnStore(expected);
+        readOnlyTransaction.executeWithoutResult(status -> projectColumnRepository.streamAll(loaded::upsert));
+        store = loaded;
+        log.info("Motor de análise do portfólio carregado com {} projetos", loaded.size());
+    }
+
+    @Override
+    public void writeSnapshot() throws IOException {
+        Path path = snapshotPath();
+        ProjectColumnStore current = store;
+        if (path == null || current == null) {
+            return;
+        }
+        LocalDateTime watermark = LocalDateTime.now();
+        ProjectColumnSnapshotFile.write(current, watermark, path);
+
+        int retentionDays = analyticsProperties.getEngine().getTombstoneRetentionDays();
+        transaction.executeWithoutResult(
+                status -> projectColumnRepository.purgeTombstonesBefore(watermark.minusDays(retentionDays)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+        try {
+            // Atualizações em andamento terminam antes da fotografia de encerramento
+            loader.awaitTermination(5, TimeUnit.SECONDS);
+            Path path = snapshotPath();
+            ProjectColumnStore current = store;
+            if (path != null && current != null) {
+                ProjectColumnSnapshotFile.write(current, LocalDateTime.now(), path);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("Falha ao gravar a fotografia do motor de análise", e);
+        }
+    }
+
+    // Fotografia válida e recente: restaura e aplica só o que mudou; caso contrário, carga completa
+    private void warmStart() {
+        Path path = snapshotPath();
+        if (path != null) {
+            try {
+                Optional<ProjectColumnSnapshotFile.Loaded> loaded = ProjectColumnSnapshotFile.read(path);
+                LocalDateTime oldestUsable = LocalDateTime.now()
+                        .minusDays(analyticsProperties.getEngine().getTombstoneRetentionDays());
+                if (loaded.isPresent() && loaded.get().watermark().isAfter(oldestUsable)) {
+                    ProjectColumnStore restored = loaded.get().store();
+                    int changed = catchUp(restored, loaded.get().watermark());
+                    store = restored;
+                    log.info("Motor de análise do portfólio restaurado de {} com {} projetos ({} relidos desde {})",
+                            path, restored.size(), changed, loaded.get().watermark());
+                    return;
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Fotografia do motor de análise ignorada: {}", path, e);
+            }
+        }
+        reloadQuietly();
+    }
+
+    private int catchUp(ProjectColumnStore restored, LocalDateTime watermark) {
+        // A sobreposição cobre transações que gravaram antes da marca d'água mas confirmaram depois
+        LocalDateTime since = watermark.minusMinutes(analyticsProperties.getEngine().getCatchUpOverlapMinutes());
+        return readOnlyTransaction.execute(status -> {
+            int[] changed = new int[1];
+            projectColumnRepository.streamChangedSince(since, row -> {
+                restored.upsert(row);
+                changed[0]++;
+            });
+            projectColumnRepository.findDeletedSince(since).forEach(restored::remove);
+            return changed[0];
+        });
+    }
+
+    private void writeSnapshotQuietly() {
+        try {
+            writeSnapshot();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Falha ao gravar a fotografia do motor de análise", e);
+        }
+    }
+
+    private Path snapshotPath() {
+        String file = analyticsProperties.getEngine().getSnapshotFile();
+        return file == null || file.isBlank() ? null : Path.of(file);
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao carregar o motor de análise do portfólio", e);
+        }
+    }
+
+    // Relê os projetos alterados; os que não voltam foram excluídos
+    private void refresh(Set<Long> projectIds) {
+        ProjectColumnStore current = store;
+        if (current == null) {
+            return;
+        }
+        try {
+            List<ProjectColumnRow> rows = readOnlyTransaction.execute(
+                    status -> projectColumnRepository.findByIds(projectIds));
+            Set<Long> removed = new HashSet<>(projectIds);
+            for (ProjectColumnRow row : rows) {
+                current.upsert(row);
+                removed.remove(row.id());
+            }
+            removed.forEach(current::remove);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao atualizar o motor de análise para os projetos {}", projectIds, e);
+        }
+    }
+
+    private static PortfolioAnalyticsGroupDTO toDTO(ColumnGroup group) {
+        PortfolioAnalyticsGroupDTO dto = new PortfolioAnalyticsGroupDTO();
+        dto.setStatus(group.status());
+        dto.setRiskClassification(group.riskClassification());
+        dto.setManagerId(group.managerId());
+        dto.setStartMonth(group.startMonth() != null ? group.startMonth().toString() : null);
+        dto.setProjectCount(group.count());
+        dto.setTotalBudget(BigDecimal.valueOf(group.budgetCents(), 2));
+        dto.setAverageBudget(BigDecimal.valueOf(group.budgetCents(), 2)
+                .divide(BigDecimal.valueOf(group.count()), 2, RoundingMode.HALF_UP));
+        return dto;
+    }
+}
@@ -0,0 +1,176 @@
+package com.br.codegroup.service.impl;
+
+import com.br.codegroup.config.ReportJobProperties;
+import com.br.codegroup.dto.PortfolioReportDTO;
+import com.br.codegroup.dto.PortfolioReportFilterDTO;
+import com.br.codegroup.dto.ReportJobDTO;
+import com.br.codegroup.dto.ReportJobDTO.State;
+import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.exception.ResourceNotFoundException;
+import com.br.codegroup.exception.ServiceUnavailableException;
+import com.br.codegroup.repository.PortfolioReportRepository;
+import com.br.codegroup.service.PortfolioReportJobService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Relatórios do portfólio com filtros, executados fora da requisição. O pool e a fila são
+ * limitados (app.report.jobs.*): com a fila cheia o pedido é recusado com 503 e Retry-After
+ * em vez de acumular trabalho. Pedidos com os mesmos filtros enquanto um job está na fila ou em execução
+ * recebem o mesmo job, e resultados concluídos expiram após o TTL.
+ */
+@Service
+public class PortfolioReportJobServiceImpl implements PortfolioReportJobService {
+
+    private final PortfolioReportRepository portfolioReportRepository;
+    private final ReportJobProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, ReportJobDTO> jobs = new ConcurrentHashMap<>();
+    private final Map<PortfolioReportFilterDTO, ReportJobDTO> inFlight = new ConcurrentHashMap<>();
+
+    public PortfolioReportJobServiceImpl(PortfolioReportRepository portfolioReportRepository,
+                                         ReportJobProperties properties,
+                                         PlatformTransactionManager transactionManager) {
+        this.portfolioReportRepository = portfolioReportRepository;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        int threads = Math.max(1, properties.getThreads());
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "portfolio-report-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public ReportJobDTO submit(PortfolioReportFilterDTO filter) {
+        validate(filter);
+        purgeExpired();
+
+        // Cópia como chave: o objeto recebido pode ser alterado por quem chamou
+        PortfolioReportFilterDTO key = copy(filter);
+        boolean[] created = new boolean[1];
+        ReportJobDTO job = inFlight.computeIfAbsent(key, k -> {
+            created[0] = true;
+            ReportJobDTO newJob = new ReportJobDTO();
+            newJob.setId(UUID.randomUUID().toString());
+            newJob.setState(State.QUEUED);
+            newJob.setFilter(k);
+            newJob.setCreatedAt(LocalDateTime.now());
+            jobs.put(newJob.getId(), newJob);
+            return newJob;
+        });
+
+        if (created[0]) {
+            try {
+                executor.execute(() -> run(job));
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(key, job);
+                jobs.remove(job.getId());
+                throw new ServiceUnavailableException("Fila de relatórios cheia. Tente novamente em instantes",
+                        properties.getRetryAfterSeconds());
+            }
+        }
+        return snapshot(job);
+    }
+
+    @Override
+    public ReportJobDTO getJob(String id) {
+        purgeExpired();
+        ReportJobDTO job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("Relatório não encontrado ou expirado: " + id);
+        }
+        return snapshot(job);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ReportJobDTO job) {
+        synchronized (job) {
+            job.setState(State.RUNNING);
+        }
+        try {
+            PortfolioReportDTO result = readOnlyTransaction.execute(
+                    status -> portfolioReportRepository.aggregate(job.getFilter()));
+            finish(job, State.COMPLETED, result, null);
+        } catch (RuntimeException e) {
+            finish(job, State.FAILED, null, e.getMessage());
+        }
+    }
+
+    private void finish(ReportJobDTO job, State state, PortfolioReportDTO result, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (job) {
+            job.setState(state);
+            job.setResult(result);
+            job.setError(error);
+            job.setFinishedAt(now);
+            job.setExpiresAt(now.plusMinutes(properties.getTtlMinutes()));
+        }
+        // A partir daqui um pedido igual gera um novo job, com dados atualizados
+        inFlight.remove(job.getFilter(), job);
+    }
+
+    private void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        jobs.values().removeIf(job -> {
+            synchronized (job) {
+                return job.getExpiresAt() != null && !job.getExpiresAt().isAfter(now);
+            }
+        });
+    }
+
+    private static void validate(PortfolioReportFilterDTO filter) {
+        if (filter.getStartDateFrom() != null && filter.getStartDateTo() != null
+                && filter.getStartDateFrom().isAfter(filter.getStartDateTo())) {
+            throw new CustomException("Período inválido: a data inicial deve ser anterior ou igual à final");
+        }
+    }
+
+    private static PortfolioReportFilterDTO copy(PortfolioReportFilterDTO filter) {
+        PortfolioReportFilterDTO copy = new PortfolioReportFilterDTO();
+        copy.setManagerId(filter.getManagerId());
+        copy.setStartDateFrom(filter.getStartDateFrom());
+        copy.setStartDateTo(filter.getStartDateTo());
+        copy.setRiskClassification(filter.getRiskClassification());
+        return copy;
+    }
+
+    private static ReportJobDTO snapshot(ReportJobDTO job) {
+        synchronized (job) {
+            ReportJobDTO copy = new ReportJobDTO();
+            copy.setId(job.getId());
+            copy.setState(job.getState());
+            copy.setFilter(copy(job.getFilter()));
+            copy.setCreatedAt(job.getCreatedAt());
+            copy.setFinishedAt(job.getFinishedAt());
+            copy.setExpiresAt(job.getExpiresAt());
+            copy.setResult(job.getResult());
+            copy.setError(job.getError());
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.br.codegroup.service.impl;
+
+import com.br.codegroup.config.ReportSnapshotProperties;
+import com.br.codegroup.dto.PortfolioTrendPointDTO;
+import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.repository.PortfolioSnapshotRepository;
+import com.br.codegroup.service.PortfolioSnapshotService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fotografias diárias do relatório do portfólio. Uma thread própria captura o dia corrente
+ * no horário configurado (app.report.snapshot.capture-time), e também na subida da
+ * aplicação quando o dia ainda não tem fotografia. A tendência lê apenas as fotografias.
+ */
+@Slf4j
+@Service
+public class PortfolioSnapshotServiceImpl implements PortfolioSnapshotService {
+
+    private final PortfolioSnapshotRepository portfolioSnapshotRepository;
+    private final ReportSnapshotProperties properties;
+    private final TransactionTemplate captureTransaction;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "portfolio-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PortfolioSnapshotServiceImpl(PortfolioSnapshotRepository portfolioSnapshotRepository,
+                                        ReportSnapshotProperties properties,
+                                        PlatformTransactionManager transactionManager) {
+        this.portfolioSnapshotRepository = portfolioSnapshotRepository;
+        this.properties = properties;
+        this.captureTransaction = new TransactionTemplate(transactionManager);
+        this.captureTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        scheduler.execute(() -> {
+            try {
+                LocalDate today = LocalDate.now();
+                if (!portfolioSnapshotRepository.exists(today)) {
+                    capture(today);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Falha na fotografia inicial do portfólio", e);
+            }
+        });
+        scheduleNext();
+    }
+
+    @Override
+    public void capture(LocalDate date) {
+        captureTransaction.executeWithoutResult(
+                status -> portfolioSnapshotRepository.capture(date, LocalDateTime.now()));
+    }
+
+    @Override
+    public List<PortfolioTrendPointDTO> getTrend(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(properties.getDefaultDays() - 1L);
+        if (end.isBefore(start)) {
+            throw new CustomException("Período inválido: a data inicial deve ser anterior ou igual à final");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= properties.getMaxDays()) {
+            throw new CustomException("Período da tendência limitado a " + properties.getMaxDays() + " dias");
+        }
+
+        List<PortfolioTrendPointDTO> points = new ArrayList<>();
+        readOnlyTransaction.execute(status -> portfolioSnapshotRepository.findBetween(start, end))
+                .forEach((date, stats) -> {
+                    PortfolioTrendPointDTO point = new PortfolioTrendPointDTO();
+                    point.setDate(date);
+                    point.setReport(PortfolioStatsServiceImpl.toReport(stats));
+                    points.add(point);
+                });
+        return points;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // Reagendada a cada execução, para acompanhar mudanças de horário de verão
+    private void scheduleNext() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime next = now.toLocalDate().atTime(properties.getCaptureTime());
+        if (!next.isAfter(now)) {
+            next = next.plusDays(1);
+        }
+        scheduler.schedule(() -> {
+            try {
+                capture(LocalDate.now());
+            } catch (RuntimeException e) {
+                log.warn("Falha na fotografia diária do portfólio", e);
+            } finally {
+                scheduleNext();
+            }
+        }, Duration.between(now, next).toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,120 @@
+package com.br.codegroup.service.impl;
+
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.dto.PortfolioReconciliationDTO;
+import com.br.codegroup.dto.PortfolioReportDTO;
+import com.br.codegroup.repository.PortfolioStats;
+import com.br.codegroup.repository.PortfolioStatsDelta;
+import com.br.codegroup.repository.PortfolioStatsRepository;
+import com.br.codegroup.repository.ProjectStatsSnapshot;
+import com.br.codegroup.service.PortfolioStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Estatísticas do portfólio mantidas de forma incremental. Cada escrita de projeto aplica
+ * a diferença entre o estado anterior e o novo na mesma transação, e o relatório passa a
+ * ser a leitura de poucas linhas fixas em vez de quatro agregações sobre todos os projetos.
+ */
+@Service
+@RequiredArgsConstructor
+public class PortfolioStatsServiceImpl implements PortfolioStatsService {
+
+    private final PortfolioStatsRepository portfolioStatsRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange(ProjectStatsSnapshot before, ProjectStatsSnapshot after) {
+        PortfolioStatsDelta delta = new PortfolioStatsDelta();
+        if (before != null) {
+            delta.remove(before);
+        }
+        if (after != null) {
+            delta.add(after);
+        }
+        portfolioStatsRepository.apply(delta);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChanges(Collection<ProjectStatsSnapshot> removed, Collection<ProjectStatsSnapshot> added) {
+        PortfolioStatsDelta delta = new PortfolioStatsDelta();
+        removed.forEach(delta::remove);
+        added.forEach(delta::add);
+        portfolioStatsRepository.apply(delta);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PortfolioReportDTO getReport() {
+        return toReport(portfolioStatsRepository.find());
+    }
+
+    @Override
+    @Transactional
+    public PortfolioReconciliationDTO reconcile() {
+        PortfolioStats maintained = portfolioStatsRepository.find();
+        portfolioStatsRepository.rebuild();
+        PortfolioStats rebuilt = portfolioStatsRepository.find();
+
+        List<String> differences = new ArrayList<>();
+        for (ProjectStatus status : ProjectStatus.values()) {
+            compare(differences, "Quantidade em " + status.getDisplayName(),
+                    maintained.counts().get(status), rebuilt.counts().get(status));
+            compare(differences, "Orçamento em " + status.getDisplayName(),
+                    maintained.budgets().get(status), rebuilt.budgets().get(status));
+        }
+        compare(differences, "Projetos encerrados", maintained.completedCount(), rebuilt.completedCount());
+        compare(differences, "Dias dos projetos encerrados",
+                maintained.completedDurationDays(), rebuilt.completedDurationDays());
+        compare(differences, "Membros distintos", maintained.distinctMembers(), rebuilt.distinctMembers());
+
+        PortfolioReconciliationDTO result = new PortfolioReconciliationDTO();
+        result.setReconciledAt(LocalDateTime.now());
+        result.setDrift(!differences.isEmpty());
+        result.setDifferences(differences);
+        result.setReport(toReport(rebuilt));
+        return result;
+    }
+
+    // Mesmo formato do relatório anterior: apenas status com projetos, chaveados pelo nome de exibição
+    static PortfolioReportDTO toReport(PortfolioStats stats) {
+        Map<String, Long> projectsByStatus = new HashMap<>();
+        Map<String, BigDecimal> budgetByStatus = new HashMap<>();
+        stats.counts().forEach((status, count) -> {
+            if (count > 0) {
+                projectsByStatus.put(status.getDisplayName(), count);
+                budgetByStatus.put(status.getDisplayName(), stats.budgets().getOrDefault(status, BigDecimal.ZERO));
+            }
+        });
+
+        PortfolioReportDTO report = new PortfolioReportDTO();
+        report.setProjectsByStatus(projectsByStatus);
+        report.setBudgetByStatus(budgetByStatus);
+        report.setAverageDurationDays(stats.completedCount() > 0
+                ? (double) stats.completedDurationDays() / stats.completedCount()
+                : 0.0);
+        report.setUniqueMembersCount(stats.distinctMembers());
+        return report;
+    }
+
+    private static void compare(List<String> differences, String label, Object maintained, Object rebuilt) {
+        boolean equal = maintained instanceof BigDecimal a && rebuilt instanceof BigDecimal b
+                ? a.compareTo(b) == 0
+                : Objects.equals(maintained, rebuilt);
+        if (!equal) {
+            differences.add(label + ": " + maintained + " -> " + rebuilt);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.br.codegroup.service.impl;
+
+import com.br.codegroup.config.ProjectCacheProperties;
+import com.br.codegroup.domain.ProjectsChangedEvent;
+import com.br.codegroup.dto.ProjectDTO;
+import com.br.codegroup.service.ProjectReadCacheService;
+import com.br.codegroup.service.ProjectService;
+import com.br.codegroup.util.ProjectETag;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache de leitura de projetos individuais com o JSON já serializado: um acerto não consulta
+ * o banco nem passa pelo mapper e pelo Jackson. As entradas são descartadas pelas escritas
+ * do {@link ProjectServiceImpl} (e do recálculo de risco), via {@link ProjectsChangedEvent},
+ * somente após o commit.
+ */
+@Service
+public class ProjectReadCacheServiceImpl implements ProjectReadCacheService {
+
+    private final ProjectService projectService;
+    private final ObjectMapper objectMapper;
+    private final ProjectCacheProperties cacheProperties;
+    private final Cache<Long, CachedProject> cache;
+
+    // Incrementada antes de cada invalidação; uma leitura que a atravessou não fica no cache
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProjectReadCacheServiceImpl(ProjectService projectService, ObjectMapper objectMapper,
+                                       ProjectCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.projectService = projectService;
+        this.objectMapper = objectMapper;
+        this.cacheProperties = cacheProperties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaximumSize())
+                .expireAfterWrite(Duration.ofMinutes(cacheProperties.getExpireAfterWriteMinutes()))
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size com cache=project.read
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "project.read");
+    }
+
+    @Override
+    public CachedProject get(Long id) {
+        if (!cacheProperties.isEnabled()) {
+            return load(id);
+        }
+
+        CachedProject cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        long readGeneration = generation.get();
+        CachedProject loaded = load(id);
+        cache.put(id, loaded);
+        // Uma escrita confirmada durante a leitura pode ter invalidado antes deste put
+        if (generation.get() != readGeneration) {
+            cache.invalidate(id);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener
+    public void onProjectsChanged(ProjectsChangedEvent event) {
+        generation.incrementAndGet();
+        cache.invalidateAll(event.projectIds());
+    }
+
+    private CachedProject load(Long id) {
+        ProjectDTO project = projectService.findById(id);
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(project);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o projeto " + id, e);
+        }
+        // A versão também muda com a troca de membros, então identifica o conteúdo servido
+        return new CachedProject(json, project.getRiskClassification(), ProjectETag.of(project.getVersion()));
+    }
+}
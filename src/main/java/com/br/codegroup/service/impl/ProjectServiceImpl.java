@@ -1,26 +1,60 @@
 package com.br.codegroup.service.impl;
 
+import com.br.codegroup.config.BulkImportProperties;
 import com.br.codegroup.domain.Member;
 import com.br.codegroup.domain.Project;
 import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.domain.ProjectsChangedEvent;
+import com.br.codegroup.dto.BulkImportResultDTO;
+import com.br.codegroup.dto.BulkImportRowResultDTO;
+import com.br.codegroup.dto.BulkStatusUpdateItemDTO;
+import com.br.codegroup.dto.BulkStatusUpdateRequestDTO;
+import com.br.codegroup.dto.BulkStatusUpdateResultDTO;
+import com.br.codegroup.dto.CursorPageDTO;
 import com.br.codegroup.dto.PortfolioReportDTO;
+import com.br.codegroup.dto.ProjectCursorRequestDTO;
 import com.br.codegroup.dto.ProjectDTO;
 import com.br.codegroup.dto.ProjectRequestDTO;
+import com.br.codegroup.exception.ConflictException;
 import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.exception.PreconditionFailedException;
 import com.br.codegroup.exception.ResourceNotFoundException;
+import com.br.codegroup.mapper.ProjectMapper;
+import com.br.codegroup.repository.MemberCapacityRepository;
+import com.br.codegroup.repository.ProjectBatchRepository;
+import com.br.codegroup.repository.ProjectField;
+import com.br.codegroup.repository.ProjectFilter;
+import com.br.codegroup.repository.ProjectKeysetQuery;
 import com.br.codegroup.repository.ProjectRepository;
+import com.br.codegroup.repository.ProjectSortKey;
+import com.br.codegroup.repository.ProjectStatsSnapshot;
 import com.br.codegroup.service.MemberService;
+import com.br.codegroup.service.PortfolioStatsService;
 import com.br.codegroup.service.ProjectService;
+import com.br.codegroup.service.StatusHistoryService;
+import com.br.codegroup.util.ProjectCursor;
+import com.br.codegroup.workflow.ProjectWorkflow;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,43 +64,133 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRepository projectRepository;
     private final MemberService memberService;
-    private final ModelMapper modelMapper;
-
-    private static final List<ProjectStatus> STATUS_ORDER = Arrays.asList(
-            ProjectStatus.UNDER_REVIEW,
-            ProjectStatus.REVIEW_COMPLETED,
-            ProjectStatus.REVIEW_APPROVED,
-            ProjectStatus.STARTED,
-            ProjectStatus.PLANNED,
-            ProjectStatus.IN_PROGRESS,
-            ProjectStatus.COMPLETED
-    );
+    private final ProjectMapper projectMapper;
+    private final ProjectBatchRepository projectBatchRepository;
+    private final BulkImportProperties bulkImportProperties;
+    private final PlatformTransactionManager transactionManager;
+    private final Validator validator;
+    private final ProjectWorkflow projectWorkflow;
+    private final StatusHistoryService statusHistoryService;
+    private final PortfolioStatsService portfolioStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberCapacityRepository memberCapacityRepository;
+
+    private static final int MAX_MEMBERS_PER_PROJECT = 10;
+    private static final int MAX_ACTIVE_PROJECTS_PER_MEMBER = 3;
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+    private static final int MAX_STATUS_UPDATE_ATTEMPTS = 4;
+    private static final long STATUS_RETRY_BACKOFF_MS = 20;
 
     @Override
     @Transactional
     public ProjectDTO createProject(ProjectRequestDTO requestDTO) {
-        validateProjectRequest(requestDTO, null);
+        ProjectTeam team = validateAndLoadTeam(requestDTO, Set.of());
+        applyCapacityChanges(capacityDeltas(Set.of(), requestDTO.getMemberIds()));
 
-        Project project = modelMapper.map(requestDTO, Project.class);
+        Project project = projectMapper.toEntity(requestDTO);
         project.setStatus(ProjectStatus.UNDER_REVIEW);
 
-        // Configurar gerente
-        Member manager = memberService.findById(requestDTO.getManagerId());
-        project.setManager(manager);
-
-        // Configurar membros
-        Set<Member> members = requestDTO.getMemberIds().stream()
-                .map(memberService::findById)
-                .collect(Collectors.toSet());
-        project.setMembers(members);
+        // Gerente e membros já carregados na validação
+        project.setManager(team.manager());
+        project.setMembers(team.members());
 
         // Calcular risco
         project.calculateRiskClassification();
 
         Project savedProject = projectRepository.save(project);
+        portfolioStatsService.recordChange(null, ProjectStatsSnapshot.of(savedProject));
+        publishChanges(List.of(savedProject.getId()));
         return convertToDTO(savedProject);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkImportResultDTO importProjects(List<ProjectRequestDTO> requests, boolean allOrNothing) {
+        BulkImportRowResultDTO[] results = new BulkImportRowResultDTO[requests.size()];
+
+        // Pré-carregar membros e capacidade de todo o lote
+        Set<Long> memberIds = new HashSet<>();
+        Set<Long> allIds = new HashSet<>();
+        for (ProjectRequestDTO request : requests) {
+            if (request == null) {
+                continue;
+            }
+            if (request.getMemberIds() != null) {
+                memberIds.addAll(request.getMemberIds());
+            }
+            if (request.getManagerId() != null) {
+                allIds.add(request.getManagerId());
+            }
+        }
+        allIds.addAll(memberIds);
+
+        Map<Long, Member> loaded = allIds.isEmpty() ? Map.of() : memberService.findAllById(allIds).stream()
+                .collect(Collectors.toMap(Member::getId, member -> member));
+        Map<Long, Long> activeProjects = activeProjectsOf(memberIds);
+
+        List<Project> pending = new ArrayList<>();
+        List<Integer> pendingIndexes = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < requests.size(); i++) {
+            ProjectRequestDTO request = requests.get(i);
+            String error = request == null
+                    ? "Linha inválida: não foi possível interpretar o JSON"
+                    : validateImportRow(request, loaded, activeProjects);
+
+            if (error != null) {
+                results[i] = new BulkImportRowResultDTO(i, false, null, error);
+                continue;
+            }
+
+            // Vagas consumidas por linhas anteriores do mesmo lote também contam
+            request.getMemberIds().forEach(memberId -> activeProjects.merge(memberId, 1L, Long::sum));
+            pending.add(buildImportedProject(request, loaded, now));
+            pendingIndexes.add(i);
+        }
+
+        boolean hasInvalidRows = pending.size() < requests.size();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int chunkSize = Math.max(1, bulkImportProperties.getChunkSize());
+
+        if (allOrNothing && hasInvalidRows) {
+            pendingIndexes.forEach(i -> results[i] = new BulkImportRowResultDTO(i, false, null,
+                    "Importação cancelada: o lote contém linhas inválidas"));
+        } else if (allOrNothing) {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int from = 0; from < pending.size(); from += chunkSize) {
+                    insertChunk(pending.subList(from, Math.min(from + chunkSize, pending.size())));
+                }
+            });
+            markImported(results, pending, pendingIndexes, 0, pending.size());
+        } else {
+            for (int from = 0; from < pending.size(); from += chunkSize) {
+                int to = Math.min(from + chunkSize, pending.size());
+                List<Project> chunk = pending.subList(from, to);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insertChunk(chunk));
+                    markImported(results, pending, pendingIndexes, from, to);
+                } catch (DataAccessException | CustomException e) {
+                    String error = "Erro ao gravar lote: " + (e instanceof DataAccessException dataAccessException
+                            ? dataAccessException.getMostSpecificCause().getMessage()
+                            : e.getMessage());
+                    for (int k = from; k < to; k++) {
+                        int index = pendingIndexes.get(k);
+                        results[index] = new BulkImportRowResultDTO(index, false, null, error);
+                    }
+                }
+            }
+        }
+
+        BulkImportResultDTO result = new BulkImportResultDTO();
+        result.setAllOrNothing(allOrNothing);
+        result.setRows(Arrays.asList(results));
+        result.setTotal(results.length);
+        result.setImported((int) Arrays.stream(results).filter(BulkImportRowResultDTO::isSuccess).count());
+        result.setFailed(result.getTotal() - result.getImported());
+        return result;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ProjectDTO findById(Long id) {
@@ -78,49 +202,90 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     @Transactional(readOnly = true)
     public Page<ProjectDTO> findAll(Pageable pageable, String filter) {
+        validateSort(pageable);
         Page<Project> projects;
         if (filter != null && !filter.isEmpty()) {
             projects = projectRepository.findByNameContainingIgnoreCase(filter, pageable);
         } else {
             projects = projectRepository.findAll(pageable);
         }
-        return projects.map(this::convertToDTO);
+        return toDTOPage(projects);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProjectDTO> findAllByCursor(ProjectCursorRequestDTO requestDTO) {
+        ProjectKeysetQuery query = toKeysetQuery(requestDTO);
+        List<Project> projects = projectRepository.findByKeyset(query);
+        boolean hasNext = projects.size() > requestDTO.getSize();
+        List<Project> content = hasNext ? projects.subList(0, requestDTO.getSize()) : projects;
+
+        CursorPageDTO<ProjectDTO> page = new CursorPageDTO<>();
+        Map<Long, Set<Long>> memberIds = findMemberIds(content);
+        page.setContent(content.stream()
+                .map(project -> convertToDTO(project, memberIds.getOrDefault(project.getId(), new HashSet<>())))
+                .collect(Collectors.toList()));
+        page.setSize(content.size());
+        page.setHasNext(hasNext);
+        if (hasNext) {
+            Project last = content.get(content.size() - 1);
+            page.setNextCursor(ProjectCursor.encode(query.getSortKey(), query.isAscending(),
+                    query.getSortKey().extract(last), last.getId()));
+        }
+        return page;
     }
 
     @Override
     @Transactional
     public ProjectDTO updateProject(Long id, ProjectRequestDTO requestDTO) {
+        return updateProject(id, requestDTO, null);
+    }
+
+    @Override
+    @Transactional
+    public ProjectDTO updateProject(Long id, ProjectRequestDTO requestDTO, Long expectedVersion) {
         Project existingProject = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + id));
+        checkVersion(existingProject, expectedVersion);
 
-        validateProjectRequest(requestDTO, id);
+        Set<Long> currentMemberIds = memberIdsOf(existingProject);
+        ProjectTeam team = validateAndLoadTeam(requestDTO, currentMemberIds);
+        ProjectStatsSnapshot before = ProjectStatsSnapshot.of(existingProject);
 
-        if (requestDTO.getStatus() != null && !requestDTO.getStatus().equals(existingProject.getStatus())) {
+        boolean statusChanged = requestDTO.getStatus() != null
+                && !requestDTO.getStatus().equals(existingProject.getStatus());
+        if (statusChanged) {
             validateStatusTransition(existingProject.getStatus(), requestDTO.getStatus());
-        }
 
-        if (!existingProject.canBeDeleted() && requestDTO.getStatus() != null &&
-                !requestDTO.getStatus().equals(existingProject.getStatus())) {
-            throw new CustomException("Não é possível alterar status de projetos com status iniciado, em andamento ou encerrado");
+            if (projectWorkflow.isLocked(existingProject.getStatus())) {
+                throw new CustomException("Não é possível alterar status de projetos com status iniciado, em andamento ou encerrado");
+            }
+
+            statusHistoryService.recordTransition(id, existingProject.getStatus(), requestDTO.getStatus(), null);
+            projectWorkflow.transition(existingProject, requestDTO.getStatus());
         }
 
-        modelMapper.map(requestDTO, existingProject);
+        projectMapper.updateEntity(requestDTO, existingProject);
 
         // Atualizar gerente se necessário
         if (!existingProject.getManager().getId().equals(requestDTO.getManagerId())) {
-            Member newManager = memberService.findById(requestDTO.getManagerId());
-            existingProject.setManager(newManager);
+            existingProject.setManager(team.manager());
         }
 
         // Atualizar membros
-        Set<Member> newMembers = requestDTO.getMemberIds().stream()
-                .map(memberService::findById)
-                .collect(Collectors.toSet());
-        existingProject.setMembers(newMembers);
+        existingProject.setMembers(team.members());
 
         existingProject.calculateRiskClassification();
 
-        Project updatedProject = projectRepository.save(existingProject);
+        // Vagas dos membros que entram, saem ou mudam de situação junto com o status
+        applyCapacityChanges(capacityDeltas(
+                isActive(before.status()) ? currentMemberIds : Set.of(),
+                isActive(existingProject.getStatus()) ? requestDTO.getMemberIds() : Set.of()));
+
+        // Edição completa não é repetida: outra escrita entre a leitura e o UPDATE é um conflito real
+        Project updatedProject = saveChecked(existingProject, expectedVersion);
+        portfolioStatsService.recordChange(before, ProjectStatsSnapshot.of(updatedProject));
+        publishChanges(List.of(id));
         return convertToDTO(updatedProject);
     }
 
@@ -130,136 +295,246 @@ public class ProjectServiceImpl implements ProjectService {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + id));
 
-        if (!project.canBeDeleted()) {
+        if (projectWorkflow.isLocked(project.getStatus())) {
             throw new CustomException("Não é possível excluir projetos com status iniciado, em andamento ou encerrado");
         }
 
+        if (isActive(project.getStatus())) {
+            applyCapacityChanges(capacityDeltas(memberIdsOf(project), Set.of()));
+        }
+        portfolioStatsService.recordChange(ProjectStatsSnapshot.of(project), null);
         projectRepository.delete(project);
+        projectRepository.recordDeletion(id, LocalDateTime.now());
+        publishChanges(List.of(id));
     }
 
     @Override
     @Transactional(readOnly = true)
     public PortfolioReportDTO generatePortfolioReport() {
-        PortfolioReportDTO report = new PortfolioReportDTO();
+        // Leitura das estatísticas mantidas a cada escrita, sem agregar a tabela de projetos
+        return portfolioStatsService.getReport();
+    }
 
-        Map<String, Long> projectsByStatus = new HashMap<>();
-        Map<String, BigDecimal> budgetByStatus = new HashMap<>();
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProjectDTO updateProjectStatus(Long id, ProjectStatus newStatus) {
+        return updateProjectStatus(id, newStatus, null);
+    }
 
-        projectRepository.countProjectsByStatus().forEach(arr -> {
-            ProjectStatus status = (ProjectStatus) arr[0];
-            Long count = (Long) arr[1];
-            projectsByStatus.put(status.getDisplayName(), count);
-        });
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProjectDTO updateProjectStatus(Long id, ProjectStatus newStatus, String reason) {
+        return updateProjectStatus(id, newStatus, reason, null);
+    }
 
-        projectRepository.sumBudgetByStatus().forEach(arr -> {
-            ProjectStatus status = (ProjectStatus) arr[0];
-            BigDecimal total = (BigDecimal) arr[1];
-            budgetByStatus.put(status.getDisplayName(), total != null ? total : BigDecimal.ZERO);
-        });
+    /**
+     * Cada tentativa roda em sua própria transação. Se outra escrita alterou o projeto entre a
+     * leitura e o UPDATE, a transição é refeita com espera crescente, desde que o status de origem
+     * continue o mesmo (ex.: a outra escrita mudou só a descrição). Com If-Match não há nova
+     * tentativa: a versão que o cliente conhecia já não é a atual.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProjectDTO updateProjectStatus(Long id, ProjectStatus newStatus, String reason, Long expectedVersion) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ProjectStatus[] observedStatus = new ProjectStatus[1];
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status ->
+                        transitionStatus(id, newStatus, reason, expectedVersion, observedStatus));
+            } catch (OptimisticLockingFailureException e) {
+                if (expectedVersion != null) {
+                    throw staleVersion(id, e);
+                }
+                if (attempt >= MAX_STATUS_UPDATE_ATTEMPTS) {
+                    throw new ConflictException("Projeto " + id + " alterado concorrentemente; tente novamente", e);
+                }
+                backOff(attempt);
+            }
+        }
+    }
 
-        report.setProjectsByStatus(projectsByStatus);
-        report.setBudgetByStatus(budgetByStatus);
+    private ProjectDTO transitionStatus(Long id, ProjectStatus newStatus, String reason, Long expectedVersion,
+                                       ProjectStatus[] observedStatus) {
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + id));
+        checkVersion(project, expectedVersion);
 
-        Double averageDuration = projectRepository.averageDurationOfFinishedProjects();
-        report.setAverageDurationDays(averageDuration != null ? averageDuration : 0.0);
+        // Numa nova tentativa, outro status de origem significa que a outra escrita também foi uma transição
+        if (observedStatus[0] == null) {
+            observedStatus[0] = project.getStatus();
+        } else if (observedStatus[0] != project.getStatus()) {
+            throw new ConflictException("Status do projeto alterado concorrentemente");
+        }
 
-        Long uniqueMembers = projectRepository.countDistinctMembersInProjects();
-        report.setUniqueMembersCount(uniqueMembers != null ? uniqueMembers : 0L);
+        // Tabela de transições, guardas e ações (ex.: data real de término) do fluxo configurado
+        ProjectStatsSnapshot before = ProjectStatsSnapshot.of(project);
+        projectWorkflow.transition(project, newStatus);
+        statusHistoryService.recordTransition(id, before.status(), newStatus, reason);
+        if (isActive(before.status()) != isActive(newStatus)) {
+            Set<Long> memberIds = memberIdsOf(project);
+            applyCapacityChanges(isActive(newStatus)
+                    ? capacityDeltas(Set.of(), memberIds)
+                    : capacityDeltas(memberIds, Set.of()));
+        }
 
-        return report;
+        // O conflito de versão sobe para o laço de novas tentativas, que desfaz esta transação
+        Project updatedProject = projectRepository.saveAndFlush(project);
+        portfolioStatsService.recordChange(before, ProjectStatsSnapshot.of(updatedProject));
+        publishChanges(List.of(id));
+        return convertToDTO(updatedProject);
     }
 
     @Override
     @Transactional
-    public ProjectDTO updateProjectStatus(Long id, ProjectStatus newStatus) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + id));
-
-        if (newStatus != ProjectStatus.CANCELLED) {
-            validateStatusTransition(project.getStatus(), newStatus);
+    public BulkStatusUpdateResultDTO updateProjectsStatus(BulkStatusUpdateRequestDTO requestDTO) {
+        ProjectStatus newStatus = requestDTO.getNewStatus();
+        boolean byIds = requestDTO.getIds() != null && !requestDTO.getIds().isEmpty();
+
+        List<Object[]> rows;
+        if (byIds) {
+            rows = projectRepository.findStatusesByIds(requestDTO.getIds());
+        } else if (requestDTO.getStatus() != null || requestDTO.getManagerId() != null) {
+            rows = projectRepository.findStatusesByFilter(requestDTO.getStatus(), requestDTO.getManagerId());
+        } else {
+            throw new CustomException("Informe os IDs dos projetos ou um filtro por status ou gerente");
         }
 
-        project.setStatus(newStatus);
+        Map<Long, ProjectStatus> currentStatuses = new HashMap<>();
+        rows.forEach(arr -> currentStatuses.put((Long) arr[0], (ProjectStatus) arr[1]));
+
+        Collection<Long> projectIds = byIds
+                ? new LinkedHashSet<>(requestDTO.getIds())
+                : rows.stream().map(arr -> (Long) arr[0]).collect(Collectors.toList());
+
+        // Validação em memória, agrupando os aceitos pelo status de origem
+        Map<Long, String> errors = new HashMap<>();
+        Map<ProjectStatus, List<Long>> acceptedBySource = new EnumMap<>(ProjectStatus.class);
+        for (Long projectId : projectIds) {
+            ProjectStatus currentStatus = currentStatuses.get(projectId);
+            if (currentStatus == null) {
+                errors.put(projectId, "Projeto não encontrado com ID: " + projectId);
+            } else if (!projectWorkflow.canTransition(currentStatus, newStatus)) {
+                errors.put(projectId, "Transição de status inválida. A sequência deve ser respeitada");
+            } else {
+                acceptedBySource.computeIfAbsent(currentStatus, status -> new ArrayList<>()).add(projectId);
+            }
+        }
 
-        if (newStatus == ProjectStatus.COMPLETED) {
-            project.setActualEndDate(LocalDate.now());
+        // Guardas precisam da entidade: só são carregadas quando o destino possui alguma
+        if (projectWorkflow.hasGuards(newStatus) && !acceptedBySource.isEmpty()) {
+            List<Long> candidates = acceptedBySource.values().stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+            projectRepository.findAllById(candidates).forEach(project -> {
+                // O grupo é o do status lido acima; um projeto que mudou desde então não é avaliado
+                ProjectStatus readStatus = currentStatuses.get(project.getId());
+                String error = project.getStatus() != readStatus
+                        ? "Status do projeto alterado concorrentemente"
+                        : projectWorkflow.checkGuards(project, newStatus);
+                if (error != null) {
+                    errors.put(project.getId(), error);
+                    acceptedBySource.get(readStatus).remove(project.getId());
+                }
+            });
+            acceptedBySource.values().removeIf(List::isEmpty);
         }
 
-        Project updatedProject = projectRepository.save(project);
-        return convertToDTO(updatedProject);
+        // Um UPDATE por status de origem. O instante, na precisão da coluna, identifica as
+        // linhas gravadas por esta chamada
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        acceptedBySource.forEach((currentStatus, ids) -> {
+            int updated = newStatus == ProjectStatus.COMPLETED
+                    ? projectRepository.completeInBulk(ids, currentStatus, newStatus, now.toLocalDate(), now)
+                    : projectRepository.updateStatusInBulk(ids, currentStatus, newStatus, now);
+
+            // Um projeto levado ao mesmo destino por outra requisição também fica de fora do
+            // UPDATE; o histórico, as estatísticas e a capacidade já foram registrados por ela
+            if (updated < ids.size()) {
+                Set<Long> applied = new HashSet<>(projectRepository.findIdsUpdatedAt(ids, now));
+                ids.stream()
+                        .filter(projectId -> !applied.contains(projectId))
+                        .forEach(projectId -> errors.put(projectId, "Status do projeto alterado concorrentemente"));
+            }
+        });
+
+        Map<Long, ProjectStatus> transitioned = new HashMap<>();
+        acceptedBySource.forEach((currentStatus, ids) -> ids.stream()
+                .filter(projectId -> !errors.containsKey(projectId))
+                .forEach(projectId -> transitioned.put(projectId, currentStatus)));
+        statusHistoryService.recordTransitions(transitioned, newStatus, requestDTO.getReason());
+        recordBulkTransitionStats(transitioned);
+        recordBulkTransitionCapacity(transitioned, newStatus);
+        publishChanges(transitioned.keySet());
+
+        List<BulkStatusUpdateItemDTO> results = projectIds.stream()
+                .map(projectId -> new BulkStatusUpdateItemDTO(projectId, currentStatuses.get(projectId),
+                        !errors.containsKey(projectId), errors.get(projectId)))
+                .collect(Collectors.toList());
+
+        BulkStatusUpdateResultDTO result = new BulkStatusUpdateResultDTO();
+        result.setNewStatus(newStatus);
+        result.setResults(results);
+        result.setTotal(results.size());
+        result.setRejected(errors.size());
+        result.setAccepted(results.size() - errors.size());
+        return result;
     }
 
     @Override
     public void validateStatusTransition(ProjectStatus currentStatus, ProjectStatus newStatus) {
-        if (newStatus == ProjectStatus.CANCELLED) {
-            return; // Cancelamento pode ocorrer a qualquer momento
-        }
-
-        int currentIndex = STATUS_ORDER.indexOf(currentStatus);
-        int newIndex = STATUS_ORDER.indexOf(newStatus);
+        projectWorkflow.validateTransition(currentStatus, newStatus);
+    }
 
-        if (currentIndex == -1 || newIndex == -1 || newIndex != currentIndex + 1) {
-            throw new CustomException("Transição de status inválida. A sequência deve ser respeitada");
+    @Override
+    @Transactional(readOnly = true)
+    public Set<ProjectStatus> findAllowedTransitions(Long id) {
+        List<Object[]> rows = projectRepository.findStatusesByIds(List.of(id));
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("Projeto não encontrado com ID: " + id);
         }
+        return projectWorkflow.nextStatuses((ProjectStatus) rows.get(0)[1]);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ProjectDTO> findByStatus(ProjectStatus status, Pageable pageable) {
+        validateSort(pageable);
         Page<Project> projects = projectRepository.findByStatus(status, pageable);
-        return projects.map(this::convertToDTO);
+        return toDTOPage(projects);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ProjectDTO> findByManagerId(Long managerId, Pageable pageable) {
+        validateSort(pageable);
         Page<Project> projects = projectRepository.findByManagerId(managerId, pageable);
-        return projects.map(this::convertToDTO);
+        return toDTOPage(projects);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ProjectDTO> findByMemberId(Long memberId, Pageable pageable) {
+        validateSort(pageable);
         Page<Project> projects = projectRepository.findByMemberId(memberId, pageable);
-        return projects.map(this::convertToDTO);
+        return toDTOPage(projects);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public void validateProjectRequest(ProjectRequestDTO requestDTO, Long projectId) {
-        // Validar gerente
-        validateManager(requestDTO.getManagerId());
-
-        // Validar membros
-        if (requestDTO.getMemberIds() == null || requestDTO.getMemberIds().isEmpty()) {
-            throw new CustomException("O projeto deve ter pelo menos 1 membro");
-        }
-
-        if (requestDTO.getMemberIds().size() > 10) {
-            throw new CustomException("O projeto não pode ter mais de 10 membros");
-        }
-
-        for (Long memberId : requestDTO.getMemberIds()) {
-            validateEmployee(memberId);
-            if (projectId == null || !isMemberAlreadyInProject(memberId, projectId)) {
-                if (!isMemberAvailableForProject(memberId)) {
-                    throw new CustomException("Membro com ID " + memberId + " já está em 3 projetos ativos");
-                }
-            }
-        }
-
-        // Validar datas
-        if (requestDTO.getStartDate() != null && requestDTO.getExpectedEndDate() != null) {
-            if (requestDTO.getExpectedEndDate().isBefore(requestDTO.getStartDate())) {
-                throw new CustomException("A data de término prevista não pode ser anterior à data de início");
-            }
-        }
+        Set<Long> currentMemberIds = projectId == null ? Set.of() : projectRepository.findById(projectId)
+                .map(this::memberIdsOf)
+                .orElse(Set.of());
+        validateAndLoadTeam(requestDTO, currentMemberIds);
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean isMemberAvailableForProject(Long memberId) {
-        Long activeProjects = projectRepository.countActiveProjectsByMemberId(memberId);
-        return activeProjects < 3;
+        // Leitura do contador mantido, sem contar os projetos do membro
+        return memberCapacityRepository.findActiveProjectCount(memberId) < MAX_ACTIVE_PROJECTS_PER_MEMBER;
     }
 
     @Override
@@ -278,33 +553,452 @@ public class ProjectServiceImpl implements ProjectService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> findById(Long id, String fields) {
+        Set<ProjectField> selected = ProjectField.parse(fields);
+        List<ProjectField> columns = ProjectField.columnsOf(selected);
+        Object[] row = projectRepository.findFieldsById(id, columns)
+                .orElseThrow(() -> new ResourceNotFoundException("Projeto não encontrado com ID: " + id));
+        return toFieldsPage(Collections.singletonList(row), columns, selected).get(0);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findAll(Pageable pageable, String filter, String fields) {
+        ProjectFilter projectFilter = new ProjectFilter();
+        projectFilter.setName(filter);
+        return findFields(projectFilter, pageable, fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<Map<String, Object>> findAllByCursor(ProjectCursorRequestDTO requestDTO, String fields) {
+        ProjectKeysetQuery query = toKeysetQuery(requestDTO);
+        Set<ProjectField> selected = ProjectField.parse(fields);
+
+        // A chave de ordenação é projetada mesmo se não pedida, para montar o próximo cursor
+        Set<ProjectField> projected = EnumSet.copyOf(selected);
+        ProjectField sortField = ProjectField.fromProperty(query.getSortKey().getProperty());
+        projected.add(sortField);
+        List<ProjectField> columns = ProjectField.columnsOf(projected);
+
+        List<Object[]> rows = projectRepository.findFieldsByKeyset(query, columns);
+        boolean hasNext = rows.size() > requestDTO.getSize();
+        List<Object[]> content = hasNext ? rows.subList(0, requestDTO.getSize()) : rows;
+
+        CursorPageDTO<Map<String, Object>> page = new CursorPageDTO<>();
+        page.setContent(toFieldsPage(content, columns, selected));
+        page.setSize(content.size());
+        page.setHasNext(hasNext);
+        if (hasNext) {
+            Object[] last = content.get(content.size() - 1);
+            page.setNextCursor(ProjectCursor.encode(query.getSortKey(), query.isAscending(),
+                    last[columns.indexOf(sortField)], (Long) last[0]));
+        }
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findByStatus(ProjectStatus status, Pageable pageable, String fields) {
+        ProjectFilter filter = new ProjectFilter();
+        filter.setStatus(status);
+        return findFields(filter, pageable, fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findByManagerId(Long managerId, Pageable pageable, String fields) {
+        ProjectFilter filter = new ProjectFilter();
+        filter.setManagerId(managerId);
+        return findFields(filter, pageable, fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findByMemberId(Long memberId, Pageable pageable, String fields) {
+        ProjectFilter filter = new ProjectFilter();
+        filter.setMemberId(memberId);
+        return findFields(filter, pageable, fields);
+    }
+
     private ProjectDTO convertToDTO(Project project) {
-        ProjectDTO dto = modelMapper.map(project, ProjectDTO.class);
+        return convertToDTO(project, project.getMembers() != null ? memberIdsOf(project) : null);
+    }
+
+    private ProjectDTO convertToDTO(Project project, Set<Long> memberIds) {
+        return projectMapper.toDTO(project, memberIds);
+    }
+
+    /**
+     * Converte uma página sem carregar a coleção de membros de cada projeto: o gerente já
+     * vem no SELECT da página e os IDs de membros de todos os projetos vêm de uma única consulta.
+     */
+    private Page<ProjectDTO> toDTOPage(Page<Project> projects) {
+        Map<Long, Set<Long>> memberIds = findMemberIds(projects.getContent());
+        return projects.map(project -> convertToDTO(project, memberIds.getOrDefault(project.getId(), new HashSet<>())));
+    }
+
+    private Map<Long, Set<Long>> findMemberIds(List<Project> projects) {
+        return findMemberIdsByProjectIds(projects.stream()
+                .map(Project::getId)
+                .collect(Collectors.toList()));
+    }
+
+    private Map<Long, Set<Long>> findMemberIdsByProjectIds(List<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Set<Long>> memberIds = new HashMap<>();
+        projectRepository.findMemberIdsByProjectIds(projectIds).forEach(arr ->
+                memberIds.computeIfAbsent(((Number) arr[0]).longValue(), id -> new HashSet<>())
+                        .add(((Number) arr[1]).longValue()));
+        return memberIds;
+    }
+
+    private Page<Map<String, Object>> findFields(ProjectFilter filter, Pageable pageable, String fields) {
+        validateSort(pageable);
+        Set<ProjectField> selected = ProjectField.parse(fields);
+        List<ProjectField> columns = ProjectField.columnsOf(selected);
+
+        Page<Object[]> rows = projectRepository.findFields(filter, columns, pageable);
+        return new PageImpl<>(toFieldsPage(rows.getContent(), columns, selected),
+                rows.getPageable(), rows.getTotalElements());
+    }
+
+    /**
+     * Monta um mapa por linha somente com os campos pedidos. A consulta de membros só é
+     * executada quando memberIds foi pedido.
+     *
+     * @param columns colunas projetadas, na mesma ordem dos valores de cada linha (id primeiro)
+     */
+    private List<Map<String, Object>> toFieldsPage(List<Object[]> rows, List<ProjectField> columns,
+                                                   Set<ProjectField> selected) {
+        Map<Long, Set<Long>> memberIds = selected.contains(ProjectField.MEMBER_IDS)
+                ? findMemberIdsByProjectIds(rows.stream().map(row -> (Long) row[0]).collect(Collectors.toList()))
+                : Map.of();
+
+        List<Map<String, Object>> content = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                ProjectField field = columns.get(i);
+                if (selected.contains(field)) {
+                    values.put(field.getProperty(), field.toValue(row[i]));
+                }
+            }
+            if (selected.contains(ProjectField.MEMBER_IDS)) {
+                values.put(ProjectField.MEMBER_IDS.getProperty(),
+                        memberIds.getOrDefault((Long) row[0], new HashSet<>()));
+            }
+            content.add(values);
+        }
+        return content;
+    }
+
+    /**
+     * Valida gerente e membros da requisição com uma única busca de todos os membros envolvidos;
+     * a capacidade vem do contador de projetos ativos de cada membro. Todas as falhas de membros
+     * são reportadas juntas em uma única exceção. A checagem antecipa a mensagem de erro: quem
+     * garante o limite sob concorrência é a reserva em {@link #applyCapacityChanges}.
+     *
+     * @param currentMemberIds membros já alocados no projeto (não consomem nova vaga)
+     * @return gerente e membros carregados, prontos para serem associados ao projeto
+     */
+    private ProjectTeam validateAndLoadTeam(ProjectRequestDTO requestDTO, Set<Long> currentMemberIds) {
+        String shapeError = requestShapeError(requestDTO);
+        if (shapeError != null) {
+            throw new CustomException(shapeError);
+        }
+
+        // Gerente e membros em uma única consulta
+        Long managerId = requestDTO.getManagerId();
+        Set<Long> memberIds = requestDTO.getMemberIds();
+        Set<Long> ids = new HashSet<>(memberIds);
+        ids.add(managerId);
+        Map<Long, Member> loaded = memberService.findAllById(ids).stream()
+                .collect(Collectors.toMap(Member::getId, member -> member));
+
+        Member manager = loaded.get(managerId);
+        if (manager == null) {
+            throw new ResourceNotFoundException("Membro não encontrado com ID: " + managerId);
+        }
+        if (!"gerente".equalsIgnoreCase(manager.getAssignment())) {
+            throw new CustomException("O membro com ID " + managerId + " não é um gerente");
+        }
 
-        if (project.getManager() != null) {
-            dto.setManagerId(project.getManager().getId());
-            dto.setManagerName(project.getManager().getName());
+        List<Long> missing = memberIds.stream()
+                .filter(memberId -> !loaded.containsKey(memberId))
+                .sorted()
+                .collect(Collectors.toList());
+        if (missing.size() == 1) {
+            throw new ResourceNotFoundException("Membro não encontrado com ID: " + missing.get(0));
         }
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException("Membros não encontrados com IDs: " + missing);
+        }
+
+        // Apenas membros novos no projeto consomem vaga; só o contador deles é lido do banco
+        Set<Long> newMemberIds = new HashSet<>(memberIds);
+        newMemberIds.removeAll(currentMemberIds);
+        Map<Long, Long> activeProjects = activeProjectsOf(newMemberIds);
 
-        if (project.getMembers() != null) {
-            dto.setMemberIds(project.getMembers().stream()
-                    .map(Member::getId)
-                    .collect(Collectors.toSet()));
+        List<String> errors = collectMemberErrors(memberIds, loaded, activeProjects, currentMemberIds);
+        if (!errors.isEmpty()) {
+            throw new CustomException(String.join("; ", errors));
         }
 
-        return dto;
+        Set<Member> members = memberIds.stream()
+                .map(loaded::get)
+                .collect(Collectors.toSet());
+        return new ProjectTeam(manager, members);
     }
 
-    private boolean isMemberAlreadyInProject(Long memberId, Long projectId) {
-        if (projectId == null) {
-            return false; // É uma criação nova
+    /**
+     * Regras da requisição que não dependem do banco: quantidade de membros e datas.
+     *
+     * @return mensagem de erro ou {@code null} se a requisição é válida
+     */
+    private String requestShapeError(ProjectRequestDTO requestDTO) {
+        Set<Long> memberIds = requestDTO.getMemberIds();
+        if (memberIds == null || memberIds.isEmpty()) {
+            return "O projeto deve ter pelo menos 1 membro";
         }
 
-        Optional<Project> project = projectRepository.findById(projectId);
-        if (project.isPresent()) {
-            return project.get().getMembers().stream()
-                    .anyMatch(member -> member.getId().equals(memberId));
+        if (memberIds.size() > MAX_MEMBERS_PER_PROJECT) {
+            return "O projeto não pode ter mais de 10 membros";
+        }
+
+        if (requestDTO.getStartDate() != null && requestDTO.getExpectedEndDate() != null
+                && requestDTO.getExpectedEndDate().isBefore(requestDTO.getStartDate())) {
+            return "A data de término prevista não pode ser anterior à data de início";
+        }
+
+        return null;
+    }
+
+    private List<String> collectMemberErrors(Set<Long> memberIds, Map<Long, Member> loaded,
+                                             Map<Long, Long> activeProjects, Set<Long> currentMemberIds) {
+        List<String> errors = new ArrayList<>();
+        for (Long memberId : new TreeSet<>(memberIds)) {
+            Member member = loaded.get(memberId);
+            if (member == null) {
+                errors.add("Membro não encontrado com ID: " + memberId);
+            } else if (!"funcionario".equalsIgnoreCase(member.getAssignment())) {
+                errors.add("O membro com ID " + memberId + " não é um funcionário");
+            } else if (!currentMemberIds.contains(memberId)
+                    && activeProjects.getOrDefault(memberId, 0L) >= MAX_ACTIVE_PROJECTS_PER_MEMBER) {
+                errors.add("Membro com ID " + memberId + " já está em 3 projetos ativos");
+            }
         }
-        return false;
+        return errors;
+    }
+
+    private String validateImportRow(ProjectRequestDTO request, Map<Long, Member> loaded,
+                                     Map<Long, Long> activeProjects) {
+        List<String> errors = new ArrayList<>();
+
+        for (ConstraintViolation<ProjectRequestDTO> violation : validator.validate(request)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+
+        String shapeError = requestShapeError(request);
+        if (shapeError != null) {
+            errors.add(shapeError);
+        }
+
+        if (!errors.isEmpty()) {
+            return String.join("; ", errors);
+        }
+
+        Member manager = loaded.get(request.getManagerId());
+        if (manager == null) {
+            errors.add("Membro não encontrado com ID: " + request.getManagerId());
+        } else if (!"gerente".equalsIgnoreCase(manager.getAssignment())) {
+            errors.add("O membro com ID " + request.getManagerId() + " não é um gerente");
+        }
+
+        errors.addAll(collectMemberErrors(request.getMemberIds(), loaded, activeProjects, Set.of()));
+        return errors.isEmpty() ? null : String.join("; ", errors);
+    }
+
+    private Project buildImportedProject(ProjectRequestDTO request, Map<Long, Member> loaded, LocalDateTime now) {
+        Project project = projectMapper.toEntity(request);
+        project.setStatus(ProjectStatus.UNDER_REVIEW);
+        project.setManager(loaded.get(request.getManagerId()));
+        project.setMembers(request.getMemberIds().stream()
+                .map(loaded::get)
+                .collect(Collectors.toSet()));
+        project.setCreatedAt(now);
+        project.setUpdatedAt(now);
+        project.calculateRiskClassification();
+        return project;
+    }
+
+    private void insertChunk(List<Project> chunk) {
+        List<Long> ids = projectBatchRepository.nextProjectIds(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            chunk.get(i).setId(ids.get(i));
+        }
+        Map<Long, Integer> reserved = new HashMap<>();
+        chunk.forEach(project -> project.getMembers()
+                .forEach(member -> reserved.merge(member.getId(), 1, Integer::sum)));
+        applyCapacityChanges(reserved);
+
+        projectBatchRepository.insertAll(chunk);
+        portfolioStatsService.recordChanges(List.of(),
+                chunk.stream().map(ProjectStatsSnapshot::of).collect(Collectors.toList()));
+        publishChanges(ids);
+    }
+
+    // Entregue aos ouvintes somente após o commit (ex.: motor de análise em memória)
+    private void publishChanges(Collection<Long> projectIds) {
+        if (!projectIds.isEmpty()) {
+            eventPublisher.publishEvent(new ProjectsChangedEvent(new HashSet<>(projectIds)));
+        }
+    }
+
+    // Transição em lote não mexe em membros nem em orçamento: apenas o status (e a data de término) mudam
+    private void recordBulkTransitionStats(Map<Long, ProjectStatus> previousStatuses) {
+        if (previousStatuses.isEmpty()) {
+            return;
+        }
+        List<ProjectStatsSnapshot> removed = new ArrayList<>();
+        List<ProjectStatsSnapshot> added = new ArrayList<>();
+        projectRepository.findStatsFieldsByIds(previousStatuses.keySet()).forEach(arr -> {
+            ProjectStatsSnapshot after = new ProjectStatsSnapshot((ProjectStatus) arr[1], (BigDecimal) arr[2],
+                    (LocalDate) arr[3], (LocalDate) arr[4], Set.of());
+            removed.add(after.withStatus(previousStatuses.get((Long) arr[0]), after.actualEndDate()));
+            added.add(after);
+        });
+        portfolioStatsService.recordChanges(removed, added);
+    }
+
+    private void markImported(BulkImportRowResultDTO[] results, List<Project> pending,
+                              List<Integer> pendingIndexes, int from, int to) {
+        for (int k = from; k < to; k++) {
+            int index = pendingIndexes.get(k);
+            results[index] = new BulkImportRowResultDTO(index, true, pending.get(k).getId(), null);
+        }
+    }
+
+    private ProjectKeysetQuery toKeysetQuery(ProjectCursorRequestDTO requestDTO) {
+        int size = requestDTO.getSize();
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new CustomException("O tamanho da página deve estar entre 1 e " + MAX_CURSOR_PAGE_SIZE);
+        }
+
+        ProjectKeysetQuery query = new ProjectKeysetQuery();
+        if (requestDTO.getCursor() != null && !requestDTO.getCursor().isEmpty()) {
+            ProjectCursor.decodeInto(requestDTO.getCursor(), query);
+        } else {
+            query.setSortKey(ProjectSortKey.fromProperty(requestDTO.getSort()));
+            query.setAscending(!"desc".equalsIgnoreCase(requestDTO.getDirection()));
+        }
+        query.setName(requestDTO.getName());
+        query.setStatus(requestDTO.getStatus());
+        query.setManagerId(requestDTO.getManagerId());
+        // Uma linha a mais indica se existe próxima página, dispensando o COUNT
+        query.setLimit(size + 1);
+        return query;
+    }
+
+    // Ordenação apenas por campos cobertos por índice
+    private void validateSort(Pageable pageable) {
+        pageable.getSort().forEach(order -> ProjectSortKey.fromProperty(order.getProperty()));
+    }
+
+    private void checkVersion(Project project, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+            throw new PreconditionFailedException("Projeto " + project.getId() + " está na versão "
+                    + project.getVersion() + ", não na versão " + expectedVersion + " informada em If-Match");
+        }
+    }
+
+    // O flush dispara o UPDATE com a versão agora, para o conflito ser tratado aqui e não no commit
+    private Project saveChecked(Project project, Long expectedVersion) {
+        try {
+            return projectRepository.saveAndFlush(project);
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersion != null) {
+                throw staleVersion(project.getId(), e);
+            }
+            throw new ConflictException("Projeto " + project.getId() + " alterado concorrentemente; "
+                    + "recarregue e tente novamente", e);
+        }
+    }
+
+    private PreconditionFailedException staleVersion(Long id, Throwable cause) {
+        return new PreconditionFailedException("Projeto " + id + " foi alterado depois da versão informada em If-Match",
+                cause);
+    }
+
+    // Espera exponencial com variação aleatória, para tentativas concorrentes não colidirem de novo
+    private void backOff(int attempt) {
+        long delay = STATUS_RETRY_BACKOFF_MS << (attempt - 1);
+        try {
+            Thread.sleep(delay + ThreadLocalRandom.current().nextLong(delay));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Atualização de status interrompida");
+        }
+    }
+
+    // O contador muda a cada escrita de projeto e por isso não vem do cache de membros
+    private Map<Long, Long> activeProjectsOf(Set<Long> memberIds) {
+        return memberCapacityRepository.findActiveProjectCounts(memberIds);
+    }
+
+    private static boolean isActive(ProjectStatus status) {
+        return status != ProjectStatus.COMPLETED && status != ProjectStatus.CANCELLED;
+    }
+
+    // +1 para quem passa a ocupar vaga no projeto, -1 para quem deixa de ocupar
+    private static Map<Long, Integer> capacityDeltas(Set<Long> before, Set<Long> after) {
+        Map<Long, Integer> deltas = new HashMap<>();
+        after.stream().filter(memberId -> !before.contains(memberId)).forEach(memberId -> deltas.put(memberId, 1));
+        before.stream().filter(memberId -> !after.contains(memberId)).forEach(memberId -> deltas.put(memberId, -1));
+        return deltas;
+    }
+
+    /**
+     * Aplica as variações no contador de projetos ativos. Uma reserva que ultrapassaria o
+     * limite lança exceção e a transação inteira, incluindo as demais reservas, é desfeita.
+     */
+    private void applyCapacityChanges(Map<Long, Integer> deltas) {
+        List<Long> full = memberCapacityRepository.applyDeltas(deltas, MAX_ACTIVE_PROJECTS_PER_MEMBER);
+        if (!full.isEmpty()) {
+            throw new CustomException(full.stream()
+                    .map(memberId -> "Membro com ID " + memberId + " já está em 3 projetos ativos")
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    // Projetos que entram ou saem de COMPLETED/CANCELLED liberam (ou ocupam) a vaga de cada membro
+    private void recordBulkTransitionCapacity(Map<Long, ProjectStatus> previousStatuses, ProjectStatus newStatus) {
+        List<Long> changed = previousStatuses.entrySet().stream()
+                .filter(entry -> isActive(entry.getValue()) != isActive(newStatus))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        int delta = isActive(newStatus) ? 1 : -1;
+        Map<Long, Integer> deltas = new HashMap<>();
+        projectRepository.findMemberIdsByProjectIds(changed)
+                .forEach(arr -> deltas.merge(((Number) arr[1]).longValue(), delta, Integer::sum));
+        applyCapacityChanges(deltas);
+    }
+
+    private Set<Long> memberIdsOf(Project project) {
+        return project.getMembers().stream()
+                .map(Member::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private record ProjectTeam(Member manager, Set<Member> members) {
     }
 }
\ No newline at end of file
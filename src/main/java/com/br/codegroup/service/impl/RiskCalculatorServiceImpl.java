@@ -1,6 +1,11 @@
 package com.br.codegroup.service.impl;
 
+import com.br.codegroup.config.RiskProperties;
 import com.br.codegroup.domain.Project;
+import com.br.codegroup.domain.RiskClassification;
+import com.br.codegroup.domain.RiskPolicy;
+import com.br.codegroup.dto.RiskEvaluationRequestDTO;
+import com.br.codegroup.dto.RiskEvaluationResultDTO;
 import com.br.codegroup.exception.CustomException;
 import com.br.codegroup.repository.ProjectRepository;
 import com.br.codegroup.service.RiskCalculatorService;
@@ -9,29 +14,20 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class RiskCalculatorServiceImpl implements RiskCalculatorService {
 
     private final ProjectRepository projectRepository;
+    private final RiskPolicy riskPolicy;
+    private final RiskProperties riskProperties;
 
     @Override
     public String calculateRisk(BigDecimal budget, LocalDate startDate, LocalDate expectedEndDate) {
-        long months = ChronoUnit.MONTHS.between(startDate, expectedEndDate);
-
-        if (budget.compareTo(new BigDecimal("100000")) <= 0 && months <= 3) {
-            return "Baixo risco";
-        } else if ((budget.compareTo(new BigDecimal("100000")) > 0 &&
-                budget.compareTo(new BigDecimal("500000")) <= 0) ||
-                (months > 3 && months <= 6)) {
-            return "Médio risco";
-        } else if (budget.compareTo(new BigDecimal("500000")) > 0 || months > 6) {
-            return "Alto risco";
-        }
-
-        return "Risco não classificado";
+        return riskPolicy.classify(budget, startDate, expectedEndDate).getDisplayName();
     }
 
     @Override
@@ -45,4 +41,40 @@ public class RiskCalculatorServiceImpl implements RiskCalculatorService {
                 project.getExpectedEndDate()
         );
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<RiskEvaluationResultDTO> evaluate(List<RiskEvaluationRequestDTO> scenarios) {
+        if (scenarios.size() > riskProperties.getMaxBatchSize()) {
+            throw new CustomException("A avaliação aceita no máximo " + riskProperties.getMaxBatchSize() + " cenários por chamada");
+        }
+
+        List<RiskEvaluationResultDTO> results = new ArrayList<>(scenarios.size());
+        for (int i = 0; i < scenarios.size(); i++) {
+            RiskEvaluationRequestDTO scenario = scenarios.get(i);
+            String error = scenarioError(scenario);
+            if (error != null) {
+                results.add(new RiskEvaluationResultDTO(i, null, null, error));
+                continue;
+            }
+
+            RiskClassification risk = riskPolicy.classify(
+                    scenario.getBudget(), scenario.getStartDate(), scenario.getExpectedEndDate());
+            results.add(new RiskEvaluationResultDTO(i, risk.name(), risk.getDisplayName(), null));
+        }
+        return results;
+    }
+
+    private String scenarioError(RiskEvaluationRequestDTO scenario) {
+        if (scenario == null || scenario.getBudget() == null
+                || scenario.getStartDate() == null || scenario.getExpectedEndDate() == null) {
+            return "Orçamento, data de início e data prevista de término são obrigatórios";
+        }
+        if (scenario.getBudget().signum() < 0) {
+            return "O orçamento não pode ser negativo";
+        }
+        if (scenario.getBudget().compareTo(RiskPolicy.MAX_BUDGET) > 0) {
+            return "O orçamento não pode ser maior que " + RiskPolicy.MAX_BUDGET.toPlainString();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,160 @@
+package com.br.codegroup.service.impl;
+
+import com.br.codegroup.config.RiskProperties;
+import com.br.codegroup.domain.ProjectsChangedEvent;
+import com.br.codegroup.domain.RiskClassification;
+import com.br.codegroup.domain.RiskPolicy;
+import com.br.codegroup.dto.RiskRecalculationStatusDTO;
+import com.br.codegroup.dto.RiskRecalculationStatusDTO.State;
+import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.repository.ProjectRiskChange;
+import com.br.codegroup.repository.ProjectRiskRepository;
+import com.br.codegroup.repository.ProjectRiskRow;
+import com.br.codegroup.service.RiskRecalculationService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Reclassifica o risco de todo o portfólio com a política ativa. Os projetos são lidos
+ * em blocos pela chave primária, cada bloco é gravado em sua própria transação curta e
+ * entre blocos há uma pausa configurável. O progresso fica em memória: lastProcessedId
+ * só avança depois que o bloco foi gravado, então pode ser usado para retomar.
+ */
+@Service
+@RequiredArgsConstructor
+public class RiskRecalculationServiceImpl implements RiskRecalculationService {
+
+    private final ProjectRiskRepository projectRiskRepository;
+    private final RiskPolicy riskPolicy;
+    private final RiskProperties riskProperties;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Uma única execução por vez, fora das threads de requisição
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "risk-recalculation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private RiskRecalculationStatusDTO status = new RiskRecalculationStatusDTO();
+    private volatile boolean cancelRequested;
+
+    @Override
+    public synchronized RiskRecalculationStatusDTO start(Long fromId) {
+        if (status.getState() == State.RUNNING) {
+            throw new CustomException("Já existe uma reclassificação de risco em andamento");
+        }
+
+        long startId = fromId != null ? fromId : 0L;
+        status = new RiskRecalculationStatusDTO();
+        status.setState(State.RUNNING);
+        status.setStartedAt(LocalDateTime.now());
+        status.setFromId(startId);
+        status.setLastProcessedId(startId);
+        cancelRequested = false;
+
+        executor.execute(() -> run(startId));
+        return getStatus();
+    }
+
+    @Override
+    public synchronized RiskRecalculationStatusDTO getStatus() {
+        RiskRecalculationStatusDTO copy = new RiskRecalculationStatusDTO();
+        copy.setState(status.getState());
+        copy.setStartedAt(status.getStartedAt());
+        copy.setFinishedAt(status.getFinishedAt());
+        copy.setFromId(status.getFromId());
+        copy.setLastProcessedId(status.getLastProcessedId());
+        copy.setScanned(status.getScanned());
+        copy.setUpdated(status.getUpdated());
+        copy.setSkipped(status.getSkipped());
+        copy.setError(status.getError());
+        return copy;
+    }
+
+    @Override
+    public RiskRecalculationStatusDTO cancel() {
+        cancelRequested = true;
+        return getStatus();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        cancelRequested = true;
+        executor.shutdownNow();
+    }
+
+    private void run(long startId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int chunkSize = Math.max(1, riskProperties.getRecalculation().getChunkSize());
+        long pauseMs = riskProperties.getRecalculation().getPauseMs();
+        long lastId = startId;
+
+        try {
+            while (!cancelRequested) {
+                List<ProjectRiskRow> rows = projectRiskRepository.findChunkAfter(lastId, chunkSize);
+                if (rows.isEmpty()) {
+                    finish(State.COMPLETED, null);
+                    return;
+                }
+
+                List<ProjectRiskChange> changes = new ArrayList<>();
+                for (ProjectRiskRow row : rows) {
+                    RiskClassification risk = riskPolicy.classify(row.totalBudget(), row.startDate(), row.expectedEndDate());
+                    if (risk != row.riskClassification()) {
+                        changes.add(new ProjectRiskChange(row.id(), row.version(), risk));
+                    }
+                }
+                List<Long> applied = changes.isEmpty() ? List.of() : transactionTemplate.execute(tx -> {
+                    List<Long> ids = projectRiskRepository.updateRiskClassifications(changes, LocalDateTime.now());
+                    if (!ids.isEmpty()) {
+                        eventPublisher.publishEvent(new ProjectsChangedEvent(Set.copyOf(ids)));
+                    }
+                    return ids;
+                });
+
+                lastId = rows.get(rows.size() - 1).id();
+                progress(lastId, rows.size(), applied.size(), changes.size() - applied.size());
+
+                if (rows.size() < chunkSize) {
+                    finish(State.COMPLETED, null);
+                    return;
+                }
+                if (pauseMs > 0) {
+                    Thread.sleep(pauseMs);
+                }
+            }
+            finish(State.CANCELLED, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finish(State.CANCELLED, null);
+        } catch (RuntimeException e) {
+            finish(State.FAILED, e.getMessage());
+        }
+    }
+
+    private synchronized void progress(long lastId, int scanned, int updated, int skipped) {
+        status.setLastProcessedId(lastId);
+        status.setScanned(status.getScanned() + scanned);
+        status.setUpdated(status.getUpdated() + updated);
+        status.setSkipped(status.getSkipped() + skipped);
+    }
+
+    private synchronized void finish(State state, String error) {
+        status.setState(state);
+        status.setFinishedAt(LocalDateTime.now());
+        status.setError(error);
+    }
+}
@@ -0,0 +1,179 @@
+package com.br.codegroup.service.impl;
+
+import com.br.codegroup.config.AnalyticsProperties;
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.dto.CycleTimeReportDTO;
+import com.br.codegroup.dto.FunnelReportDTO;
+import com.br.codegroup.dto.FunnelStageDTO;
+import com.br.codegroup.dto.StatusCycleTimeDTO;
+import com.br.codegroup.dto.StatusTransitionCountDTO;
+import com.br.codegroup.dto.StuckProjectDTO;
+import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.repository.StatusAnalyticsRepository;
+import com.br.codegroup.repository.StatusTransitionStats;
+import com.br.codegroup.service.StatusAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Relatórios de tempo por status e funil a partir do histórico de transições. Dias já
+ * encerrados são lidos de status_transition_daily (consolidados sob demanda, uma única
+ * vez por dia); somente o trecho ainda não consolidado passa pela janela LAG.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatusAnalyticsServiceImpl implements StatusAnalyticsService {
+
+    private static final double SECONDS_PER_DAY = 86400.0;
+
+    private final StatusAnalyticsRepository statusAnalyticsRepository;
+    private final AnalyticsProperties analyticsProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public CycleTimeReportDTO getCycleTime(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(analyticsProperties.getDefaultDays() - 1L);
+        Map<ProjectStatus, StatusTransitionStats> bySource = new EnumMap<>(ProjectStatus.class);
+        collect(start, end).forEach(stats -> bySource.merge(stats.fromStatus(),
+                new StatusTransitionStats(stats.fromStatus(), null, stats.transitions(), stats.totalSeconds(),
+                        stats.maxSeconds()),
+                StatusTransitionStats::merge));
+
+        List<StatusCycleTimeDTO> statuses = new ArrayList<>();
+        bySource.forEach((status, stats) -> {
+            StatusCycleTimeDTO dto = new StatusCycleTimeDTO();
+            dto.setStatus(status);
+            dto.setDisplayName(status.getDisplayName());
+            dto.setTransitions(stats.transitions());
+            dto.setAverageDays(stats.totalSeconds() / stats.transitions() / SECONDS_PER_DAY);
+            dto.setMaxDays(stats.maxSeconds() / SECONDS_PER_DAY);
+            statuses.add(dto);
+        });
+
+        CycleTimeReportDTO report = new CycleTimeReportDTO();
+        report.setFrom(start);
+        report.setTo(end);
+        report.setStatuses(statuses);
+        report.setStuck(findStuck(statuses));
+        return report;
+    }
+
+    @Override
+    public FunnelReportDTO getFunnel(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(analyticsProperties.getDefaultDays() - 1L);
+        List<StatusTransitionStats> transitions = collect(start, end);
+
+        Map<ProjectStatus, FunnelStageDTO> stages = new EnumMap<>(ProjectStatus.class);
+        for (StatusTransitionStats stats : transitions) {
+            FunnelStageDTO target = stage(stages, stats.toStatus());
+            target.setEntered(target.getEntered() + stats.transitions());
+
+            FunnelStageDTO source = stage(stages, stats.fromStatus());
+            source.setExited(source.getExited() + stats.transitions());
+            if (stats.toStatus() == ProjectStatus.CANCELLED) {
+                source.setCancelled(source.getCancelled() + stats.transitions());
+            } else {
+                source.setAdvanced(source.getAdvanced() + stats.transitions());
+            }
+        }
+        stages.values().forEach(stage -> stage.setConversionRate(
+                stage.getExited() > 0 ? (double) stage.getAdvanced() / stage.getExited() : null));
+
+        FunnelReportDTO report = new FunnelReportDTO();
+        report.setFrom(start);
+        report.setTo(end);
+        report.setStages(new ArrayList<>(stages.values()));
+        report.setTransitions(transitions.stream()
+                .map(stats -> new StatusTransitionCountDTO(stats.fromStatus(), stats.toStatus(), stats.transitions()))
+                .collect(Collectors.toList()));
+        return report;
+    }
+
+    @Override
+    public LocalDate rollUp() {
+        LocalDate cutoff = LocalDateTime.now().minusMinutes(analyticsProperties.getRollupGraceMinutes()).toLocalDate();
+        LocalDate rolledUpUntil = statusAnalyticsRepository.findRolledUpUntil().orElse(null);
+        if (rolledUpUntil != null && !rolledUpUntil.isBefore(cutoff)) {
+            return rolledUpUntil;
+        }
+
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            // Relido sob bloqueio: outra chamada pode ter consolidado enquanto esperávamos
+            LocalDate from = statusAnalyticsRepository.lockRolledUpUntil()
+                    .or(statusAnalyticsRepository::findFirstChangeDay)
+                    .orElse(cutoff);
+            if (from.isBefore(cutoff)) {
+                statusAnalyticsRepository.rollUp(from, cutoff);
+                return cutoff;
+            }
+            return from;
+        });
+    }
+
+    // Soma os dias consolidados e calcula na hora apenas o restante do período, agregando por (de, para)
+    private List<StatusTransitionStats> collect(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            throw new CustomException("Período inválido: a data inicial deve ser anterior ou igual à final");
+        }
+        LocalDate endExclusive = end.plusDays(1);
+        LocalDate rolledUpUntil = rollUp();
+
+        List<StatusTransitionStats> rows = new ArrayList<>();
+        if (start.isBefore(rolledUpUntil)) {
+            rows.addAll(statusAnalyticsRepository.sumDaily(start, min(endExclusive, rolledUpUntil)));
+        }
+        if (endExclusive.isAfter(rolledUpUntil)) {
+            LocalDate liveStart = start.isAfter(rolledUpUntil) ? start : rolledUpUntil;
+            rows.addAll(statusAnalyticsRepository.computeLive(liveStart.atStartOfDay(), endExclusive.atStartOfDay()));
+        }
+
+        Map<List<ProjectStatus>, StatusTransitionStats> merged = new LinkedHashMap<>();
+        rows.forEach(stats -> merged.merge(List.of(stats.fromStatus(), stats.toStatus()), stats,
+                StatusTransitionStats::merge));
+        return new ArrayList<>(merged.values());
+    }
+
+    private List<StuckProjectDTO> findStuck(List<StatusCycleTimeDTO> statuses) {
+        Map<ProjectStatus, Double> averageDays = statuses.stream()
+                .collect(Collectors.toMap(StatusCycleTimeDTO::getStatus, StatusCycleTimeDTO::getAverageDays));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<StuckProjectDTO> stuck = new ArrayList<>();
+        for (ProjectStatus status : analyticsProperties.getStuckStatuses()) {
+            Double average = averageDays.get(status);
+            if (average == null) {
+                continue; // Sem base de comparação no período
+            }
+            long thresholdSeconds = (long) (average * analyticsProperties.getStuckFactor() * SECONDS_PER_DAY);
+            stuck.addAll(statusAnalyticsRepository.findStuck(status, now.minusSeconds(thresholdSeconds),
+                    analyticsProperties.getStuckLimit(), now));
+        }
+        return stuck;
+    }
+
+    private static FunnelStageDTO stage(Map<ProjectStatus, FunnelStageDTO> stages, ProjectStatus status) {
+        return stages.computeIfAbsent(status, key -> {
+            FunnelStageDTO stage = new FunnelStageDTO();
+            stage.setStatus(key);
+            stage.setDisplayName(key.getDisplayName());
+            return stage;
+        });
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,264 @@
+package com.br.codegroup.service.impl;
+
+import com.br.codegroup.config.StatusHistoryProperties;
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.repository.StatusHistoryEntry;
+import com.br.codegroup.repository.StatusHistoryRepository;
+import com.br.codegroup.service.StatusHistoryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Histórico de status com gravação write-behind. As transições entram em uma fila em
+ * memória somente depois do commit (um rollback não deixa histórico) e são gravadas em
+ * INSERTs em batch por uma thread própria, quando a fila atinge o tamanho do lote ou a
+ * cada intervalo configurado. Um lote que falha volta para um buffer de novas tentativas,
+ * com espera exponencial, e só é descartado depois de app.status-history.max-attempts
+ * falhas. No encerramento da aplicação a fila e o buffer são descarregados.
+ *
+ * Métricas: status.history.queue.size, status.history.retry.size, status.history.flush
+ * (latência por lote), status.history.written, status.history.failed (registros em
+ * tentativas que falharam) e status.history.dropped.
+ */
+@Slf4j
+@Service
+public class StatusHistoryServiceImpl implements StatusHistoryService {
+
+    private final StatusHistoryRepository statusHistoryRepository;
+    private final StatusHistoryProperties properties;
+    private final BlockingQueue<StatusHistoryEntry> queue;
+    private final Queue<FailedBatch> retries = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger retryingEntries = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "status-history-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public StatusHistoryServiceImpl(StatusHistoryRepository statusHistoryRepository,
+                                    StatusHistoryProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.properties = properties;
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+
+        Gauge.builder("status.history.queue.size", queue, BlockingQueue::size)
+                .description("Transições de status aguardando gravação")
+                .register(meterRegistry);
+        Gauge.builder("status.history.retry.size", retryingEntries, AtomicInteger::get)
+                .description("Transições de lotes que falharam aguardando nova tentativa")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("status.history.flush")
+                .description("Tempo de gravação de cada lote do histórico de status")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("status.history.written").register(meterRegistry);
+        this.failedCounter = Counter.builder("status.history.failed").register(meterRegistry);
+        this.droppedCounter = Counter.builder("status.history.dropped").register(meterRegistry);
+
+        long interval = Math.max(1, properties.getFlushIntervalMs());
+        writer.scheduleWithFixedDelay(() -> flushQuietly(false), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordTransition(Long projectId, ProjectStatus previousStatus, ProjectStatus newStatus, String reason) {
+        enqueueAfterCommit(List.of(
+                new StatusHistoryEntry(projectId, previousStatus, newStatus, LocalDateTime.now(), currentUsername(), reason)));
+    }
+
+    @Override
+    public void recordTransitions(Map<Long, ProjectStatus> previousStatuses, ProjectStatus newStatus, String reason) {
+        if (previousStatuses.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        String username = currentUsername();
+        enqueueAfterCommit(previousStatuses.entrySet().stream()
+                .map(entry -> new StatusHistoryEntry(entry.getKey(), entry.getValue(), newStatus, now, username, reason))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public int flush() {
+        return flush(true);
+    }
+
+    @Override
+    public int getQueueSize() {
+        return queue.size() + retryingEntries.get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+    }
+
+    // retryNow ignora a espera dos lotes que falharam (descarga explícita e encerramento)
+    private synchronized int flush(boolean retryNow) {
+        int written = retryFailedBatches(retryNow);
+        int batchSize = Math.max(1, properties.getBatchSize());
+        while (!queue.isEmpty()) {
+            List<StatusHistoryEntry> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+            if (queue.drainTo(batch, batchSize) == 0) {
+                break;
+            }
+            if (!write(batch, 0)) {
+                // Banco indisponível: o restante da fila aguarda a próxima descarga
+                break;
+            }
+            written += batch.size();
+        }
+        return written;
+    }
+
+    private int retryFailedBatches(boolean retryNow) {
+        int written = 0;
+        long now = System.nanoTime();
+        for (int pending = retries.size(); pending > 0; pending--) {
+            FailedBatch failed = retries.poll();
+            if (failed == null) {
+                break;
+            }
+            if (!retryNow && failed.retryAt() - now > 0) {
+                retries.add(failed);
+                continue;
+            }
+            retryingEntries.addAndGet(-failed.entries().size());
+            if (write(failed.entries(), failed.attempts())) {
+                written += failed.entries().size();
+            }
+        }
+        return written;
+    }
+
+    private void enqueueAfterCommit(List<StatusHistoryEntry> entries) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entries);
+                }
+            });
+        } else {
+            enqueue(entries);
+        }
+    }
+
+    private void enqueue(List<StatusHistoryEntry> entries) {
+        List<StatusHistoryEntry> overflow = null;
+        for (StatusHistoryEntry entry : entries) {
+            if (!queue.offer(entry)) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(entry);
+            }
+        }
+
+        // Fila cheia: a gravação deixa de ser assíncrona para não perder registros
+        if (overflow != null) {
+            write(overflow, 0);
+        }
+
+        if (writer.isShutdown()) {
+            // Encerramento em andamento: sem a thread de gravação, a descarga é feita aqui
+            flushQuietly(true);
+        } else if (queue.size() >= properties.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+            try {
+                writer.execute(() -> {
+                    flushRequested.set(false);
+                    flushQuietly(false);
+                });
+            } catch (RejectedExecutionException e) {
+                // O executor foi encerrado entre a verificação e o envio
+                flushRequested.set(false);
+                flushQuietly(true);
+            }
+        }
+    }
+
+    // Retorna false quando o lote falhou; ele segue para o buffer de novas tentativas
+    private boolean write(List<StatusHistoryEntry> batch, int previousAttempts) {
+        long start = System.nanoTime();
+        try {
+            Set<String> usernames = batch.stream()
+                    .map(StatusHistoryEntry::username)
+                    .filter(username -> username != null)
+                    .collect(Collectors.toSet());
+            Map<String, Long> actors = statusHistoryRepository.findMemberIdsByUsernames(usernames);
+            statusHistoryRepository.insertAll(batch, actors);
+            writtenCounter.increment(batch.size());
+            return true;
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            retryLater(batch, previousAttempts + 1, e);
+            return false;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void retryLater(List<StatusHistoryEntry> batch, int attempts, RuntimeException cause) {
+        if (attempts >= Math.max(1, properties.getMaxAttempts())) {
+            droppedCounter.increment(batch.size());
+            log.error("Descartados {} registros do histórico de status após {} tentativas: {}",
+                    batch.size(), attempts, batch, cause);
+            return;
+        }
+        long backoffMs = Math.min(properties.getMaxRetryBackoffMs(),
+                Math.max(1, properties.getRetryBackoffMs()) << Math.min(attempts - 1, 20));
+        log.warn("Falha ao gravar {} registros do histórico de status (tentativa {}); nova tentativa em {} ms",
+                batch.size(), attempts, backoffMs, cause);
+        retryingEntries.addAndGet(batch.size());
+        retries.add(new FailedBatch(batch, attempts, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs)));
+    }
+
+    private void flushQuietly(boolean retryNow) {
+        try {
+            flush(retryNow);
+        } catch (RuntimeException e) {
+            log.error("Falha ao descarregar a fila do histórico de status", e);
+        }
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+
+    private record FailedBatch(List<StatusHistoryEntry> entries, int attempts, long retryAt) {
+    }
+}
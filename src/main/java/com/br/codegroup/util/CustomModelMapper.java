@@ -1,15 +0,0 @@
-package com.br.codegroup.util;
-
-import org.modelmapper.ModelMapper;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-
-
-@Configuration
-public class CustomModelMapper {
-
-    @Bean
-    public ModelMapper getModelMapper(){
-        return new ModelMapper();
-    }
-}
\ No newline at end of file
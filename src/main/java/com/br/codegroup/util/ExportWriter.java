@@ -0,0 +1,168 @@
+package com.br.codegroup.util;
+
+import com.br.codegroup.exception.CustomException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Escreve linhas de exportação diretamente no fluxo de saída, uma por vez, em CSV (RFC 4180,
+ * com cabeçalho) ou NDJSON (um objeto por linha). Nada é acumulado além do buffer de escrita.
+ * Listas de IDs viram um array no NDJSON e valores separados por ";" no CSV.
+ */
+public abstract class ExportWriter implements Closeable {
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON(ProjectRequestStreamReader.NDJSON_MEDIA_TYPE, "ndjson");
+
+        private final String mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format fromString(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new CustomException("Formato de exportação inválido: " + value + ". Use csv ou ndjson");
+        }
+    }
+
+    protected final List<String> columns;
+
+    protected ExportWriter(List<String> columns) {
+        this.columns = columns;
+    }
+
+    public static ExportWriter open(Format format, OutputStream output, List<String> columns,
+                                    ObjectMapper objectMapper) throws IOException {
+        return format == Format.CSV
+                ? new CsvWriter(output, columns)
+                : new NdjsonWriter(output, columns, objectMapper);
+    }
+
+    // Um valor por coluna, na ordem do cabeçalho
+    public abstract void writeRow(Object[] values) throws IOException;
+
+    private static final class CsvWriter extends ExportWriter {
+
+        private final Writer writer;
+
+        private CsvWriter(OutputStream output, List<String> columns) throws IOException {
+            super(columns);
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+            writer.write(String.join(",", columns));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void writeRow(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = values[i];
+                if (value instanceof List<?> list) {
+                    for (int k = 0; k < list.size(); k++) {
+                        if (k > 0) {
+                            writer.write(';');
+                        }
+                        writer.write(String.valueOf(list.get(k)));
+                    }
+                } else if (value instanceof BigDecimal decimal) {
+                    writer.write(decimal.toPlainString());
+                } else if (value != null) {
+                    writeText(value.toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        // Aspas apenas quando o valor contém separador, aspas ou quebra de linha
+        private void writeText(String text) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < text.length() && !quote; i++) {
+                char c = text.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(text);
+                return;
+            }
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static final class NdjsonWriter extends ExportWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonWriter(OutputStream output, List<String> columns, ObjectMapper objectMapper) throws IOException {
+            super(columns);
+            this.generator = objectMapper.getFactory().createGenerator(output);
+            this.generator.setPrettyPrinter(null);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void writeRow(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                generator.writeFieldName(columns.get(i));
+                if (value instanceof List<?> list) {
+                    generator.writeStartArray();
+                    for (Object item : list) {
+                        generator.writeNumber((Long) item);
+                    }
+                    generator.writeEndArray();
+                } else if (value instanceof Long number) {
+                    generator.writeNumber(number);
+                } else if (value instanceof BigDecimal decimal) {
+                    generator.writeNumber(decimal);
+                } else if (value != null) {
+                    generator.writeString(value.toString());
+                } else {
+                    generator.writeNull();
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.br.codegroup.util;
+
+import com.br.codegroup.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica a posição de uma página de membros em um token opaco (Base64 URL-safe). A listagem
+ * é sempre ordenada por id, então basta o id da última linha entregue.
+ */
+public final class MemberCursor {
+
+    private static final String PREFIX = "m|";
+
+    private MemberCursor() {
+    }
+
+    public static String encode(Long lastId) {
+        String raw = PREFIX + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException(raw);
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (RuntimeException e) {
+            throw new CustomException("Cursor de paginação inválido", e);
+        }
+    }
+}
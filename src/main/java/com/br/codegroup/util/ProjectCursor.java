@@ -0,0 +1,39 @@
+package com.br.codegroup.util;
+
+import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.repository.ProjectKeysetQuery;
+import com.br.codegroup.repository.ProjectSortKey;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica a posição de uma página por cursor em um token opaco (Base64 URL-safe) com a
+ * chave de ordenação, a direção e os valores (chave, id) da última linha entregue.
+ */
+public final class ProjectCursor {
+
+    private ProjectCursor() {
+    }
+
+    public static String encode(ProjectSortKey sortKey, boolean ascending, Object lastValue, Long lastId) {
+        String raw = sortKey.name() + "|" + (ascending ? "a" : "d") + "|" + lastId + "|" + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void decodeInto(String token, ProjectKeysetQuery query) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // O valor vem por último porque pode conter o separador (ex.: nome do projeto)
+            String[] parts = raw.split("\\|", 4);
+            ProjectSortKey sortKey = ProjectSortKey.valueOf(parts[0]);
+
+            query.setSortKey(sortKey);
+            query.setAscending("a".equals(parts[1]));
+            query.setLastId(Long.valueOf(parts[2]));
+            query.setLastValue(sortKey.parseValue(parts[3]));
+        } catch (RuntimeException e) {
+            throw new CustomException("Cursor de paginação inválido", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.br.codegroup.util;
+
+import com.br.codegroup.exception.PreconditionFailedException;
+
+/**
+ * ETag forte de um projeto: a versão do controle de concorrência otimista entre aspas.
+ * O mesmo valor enviado em GET é aceito de volta em If-Match nas escritas.
+ */
+public final class ProjectETag {
+
+    private ProjectETag() {
+    }
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * @return versão esperada pelo cliente, ou {@code null} sem If-Match (ou com {@code *})
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        // ETags fracas nunca satisfazem If-Match (comparação forte)
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match inválido: " + ifMatch);
+        }
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match inválido: " + ifMatch, e);
+        }
+    }
+}
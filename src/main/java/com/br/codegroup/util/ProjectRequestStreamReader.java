@@ -0,0 +1,80 @@
+package com.br.codegroup.util;
+
+import com.br.codegroup.dto.ProjectRequestDTO;
+import com.br.codegroup.exception.CustomException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lê requisições de projeto de um corpo em JSON array ou NDJSON sem montar o documento
+ * inteiro em memória. Linhas que não podem ser convertidas viram {@code null} na lista,
+ * mantendo a posição original para o relatório de importação.
+ */
+public final class ProjectRequestStreamReader {
+
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    private ProjectRequestStreamReader() {
+    }
+
+    public static List<ProjectRequestDTO> read(InputStream input, ObjectMapper objectMapper, boolean ndjson)
+            throws IOException {
+        return ndjson ? readNdjson(input, objectMapper) : readArray(input, objectMapper);
+    }
+
+    private static List<ProjectRequestDTO> readArray(InputStream input, ObjectMapper objectMapper) throws IOException {
+        List<ProjectRequestDTO> rows = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new CustomException("O corpo da requisição deve ser um array JSON de projetos");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new CustomException("JSON inválido na importação de projetos: array não finalizado");
+                }
+                JsonNode node = objectMapper.readTree(parser);
+                rows.add(convert(node, objectMapper));
+            }
+        } catch (JsonProcessingException e) {
+            throw new CustomException("JSON inválido na importação de projetos", e);
+        }
+        return rows;
+    }
+
+    private static List<ProjectRequestDTO> readNdjson(InputStream input, ObjectMapper objectMapper) throws IOException {
+        List<ProjectRequestDTO> rows = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                rows.add(convert(objectMapper.readTree(line), objectMapper));
+            } catch (JsonProcessingException e) {
+                rows.add(null);
+            }
+        }
+        return rows;
+    }
+
+    private static ProjectRequestDTO convert(JsonNode node, ObjectMapper objectMapper) {
+        try {
+            return node != null && node.isObject() ? objectMapper.treeToValue(node, ProjectRequestDTO.class) : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.br.codegroup.workflow;
+
+import com.br.codegroup.domain.Project;
+import com.br.codegroup.domain.ProjectStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+// Encerramento registra a data real de término
+@Component
+public class CompleteProjectAction implements TransitionAction {
+
+    @Override
+    public ProjectStatus target() {
+        return ProjectStatus.COMPLETED;
+    }
+
+    @Override
+    public void apply(Project project) {
+        project.setActualEndDate(LocalDate.now());
+    }
+}
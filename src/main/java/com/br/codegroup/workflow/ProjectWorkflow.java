@@ -0,0 +1,117 @@
+package com.br.codegroup.workflow;
+
+import com.br.codegroup.domain.Project;
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.exception.CustomException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Máquina de estados dos projetos, compilada uma única vez a partir de WorkflowProperties.
+ * Cada status de origem vira uma máscara de bits com os destinos permitidos (inclusive os
+ * de app.workflow.any-time), de modo que validar uma transição e listar os próximos status
+ * não percorrem listas.
+ *
+ * Novos status ainda exigem uma constante em ProjectStatus e a migração da CHECK constraint;
+ * a configuração define apenas como os status existentes se encadeiam.
+ */
+@Component
+public class ProjectWorkflow {
+
+    private static final String INVALID_TRANSITION = "Transição de status inválida. A sequência deve ser respeitada";
+
+    private final long[] allowedMasks = new long[ProjectStatus.values().length];
+    private final Map<ProjectStatus, Set<ProjectStatus>> nextStatuses = new EnumMap<>(ProjectStatus.class);
+    private final long lockedMask;
+    private final Map<ProjectStatus, List<TransitionGuard>> guards = new EnumMap<>(ProjectStatus.class);
+    private final Map<ProjectStatus, List<TransitionAction>> actions = new EnumMap<>(ProjectStatus.class);
+
+    public ProjectWorkflow(WorkflowProperties properties, List<TransitionGuard> guards, List<TransitionAction> actions) {
+        long anyTimeMask = maskOf(properties.getAnyTime());
+        for (ProjectStatus status : ProjectStatus.values()) {
+            long mask = maskOf(properties.getTransitions().getOrDefault(status, Set.of())) | anyTimeMask;
+            allowedMasks[status.ordinal()] = mask;
+            nextStatuses.put(status, Collections.unmodifiableSet(statusesOf(mask)));
+        }
+        this.lockedMask = maskOf(properties.getLocked());
+
+        guards.forEach(guard -> this.guards.computeIfAbsent(guard.target(), target -> new ArrayList<>()).add(guard));
+        actions.forEach(action -> this.actions.computeIfAbsent(action.target(), target -> new ArrayList<>()).add(action));
+    }
+
+    public boolean canTransition(ProjectStatus from, ProjectStatus to) {
+        return (allowedMasks[from.ordinal()] & bit(to)) != 0;
+    }
+
+    public Set<ProjectStatus> nextStatuses(ProjectStatus from) {
+        return nextStatuses.get(from);
+    }
+
+    public boolean isLocked(ProjectStatus status) {
+        return (lockedMask & bit(status)) != 0;
+    }
+
+    public boolean hasGuards(ProjectStatus target) {
+        return guards.containsKey(target);
+    }
+
+    public void validateTransition(ProjectStatus from, ProjectStatus to) {
+        if (!canTransition(from, to)) {
+            throw new CustomException(INVALID_TRANSITION);
+        }
+    }
+
+    // Primeira mensagem de guarda que impede a entrada no status; nulo quando nenhuma impede
+    public String checkGuards(Project project, ProjectStatus target) {
+        for (TransitionGuard guard : guards.getOrDefault(target, List.of())) {
+            String error = guard.check(project);
+            if (error != null) {
+                return error;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Valida a transição (tabela e guardas), altera o status e executa as ações do destino.
+     */
+    public void transition(Project project, ProjectStatus target) {
+        validateTransition(project.getStatus(), target);
+        String guardError = checkGuards(project, target);
+        if (guardError != null) {
+            throw new CustomException(guardError);
+        }
+
+        project.setStatus(target);
+        actions.getOrDefault(target, List.of()).forEach(action -> action.apply(project));
+    }
+
+    private static long bit(ProjectStatus status) {
+        return 1L << status.ordinal();
+    }
+
+    private static long maskOf(Set<ProjectStatus> statuses) {
+        long mask = 0;
+        for (ProjectStatus status : statuses) {
+            mask |= bit(status);
+        }
+        return mask;
+    }
+
+    private static Set<ProjectStatus> statusesOf(long mask) {
+        Set<ProjectStatus> statuses = EnumSet.noneOf(ProjectStatus.class);
+        for (ProjectStatus status : ProjectStatus.values()) {
+            if ((mask & bit(status)) != 0) {
+                statuses.add(status);
+            }
+        }
+        return statuses;
+    }
+}
@@ -0,0 +1,12 @@
+package com.br.codegroup.workflow;
+
+import com.br.codegroup.domain.Project;
+import com.br.codegroup.domain.ProjectStatus;
+
+// Efeito colateral executado quando um projeto entra no status de destino
+public interface TransitionAction {
+
+    ProjectStatus target();
+
+    void apply(Project project);
+}
@@ -0,0 +1,16 @@
+package com.br.codegroup.workflow;
+
+import com.br.codegroup.domain.Project;
+import com.br.codegroup.domain.ProjectStatus;
+
+/**
+ * Condição adicional para entrar em um status, avaliada depois da tabela de transições.
+ * Implementações registradas como beans são associadas automaticamente ao seu destino.
+ */
+public interface TransitionGuard {
+
+    ProjectStatus target();
+
+    // Mensagem de erro quando o projeto não pode entrar no status; nulo quando pode
+    String check(Project project);
+}
@@ -0,0 +1,42 @@
+package com.br.codegroup.workflow;
+
+import com.br.codegroup.domain.ProjectStatus;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fluxo de status dos projetos (app.workflow.*). Os padrões reproduzem a sequência
+ * original: cada status avança apenas para o próximo e o cancelamento é sempre permitido.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.workflow")
+public class WorkflowProperties {
+
+    // Status de destino permitidos a partir de cada status
+    private Map<ProjectStatus, Set<ProjectStatus>> transitions = defaultTransitions();
+
+    // Status que podem ser alcançados a partir de qualquer outro
+    private Set<ProjectStatus> anyTime = EnumSet.of(ProjectStatus.CANCELLED);
+
+    // Status em que o projeto não pode ser excluído nem ter o status alterado pela edição
+    private Set<ProjectStatus> locked = EnumSet.of(
+            ProjectStatus.STARTED, ProjectStatus.IN_PROGRESS, ProjectStatus.COMPLETED);
+
+    private static Map<ProjectStatus, Set<ProjectStatus>> defaultTransitions() {
+        Map<ProjectStatus, Set<ProjectStatus>> transitions = new EnumMap<>(ProjectStatus.class);
+        transitions.put(ProjectStatus.UNDER_REVIEW, EnumSet.of(ProjectStatus.REVIEW_COMPLETED));
+        transitions.put(ProjectStatus.REVIEW_COMPLETED, EnumSet.of(ProjectStatus.REVIEW_APPROVED));
+        transitions.put(ProjectStatus.REVIEW_APPROVED, EnumSet.of(ProjectStatus.STARTED));
+        transitions.put(ProjectStatus.STARTED, EnumSet.of(ProjectStatus.PLANNED));
+        transitions.put(ProjectStatus.PLANNED, EnumSet.of(ProjectStatus.IN_PROGRESS));
+        transitions.put(ProjectStatus.IN_PROGRESS, EnumSet.of(ProjectStatus.COMPLETED));
+        return transitions;
+    }
+}
@@ -0,0 +1,20 @@
+-- Fotografia diária das estatísticas do portfólio (V9), para o gráfico de tendência.
+-- A chave primária por data atende a consulta por período com uma varredura de índice.
+
+CREATE TABLE portfolio_daily_snapshots (
+    snapshot_date DATE PRIMARY KEY,
+    completed_count BIGINT NOT NULL,
+    completed_duration_days BIGINT NOT NULL,
+    distinct_members BIGINT NOT NULL,
+    captured_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE portfolio_daily_status_snapshots (
+    snapshot_date DATE NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    project_count BIGINT NOT NULL,
+    total_budget NUMERIC(20, 2) NOT NULL,
+    PRIMARY KEY (snapshot_date, status),
+    CONSTRAINT fk_portfolio_daily_status_snapshot FOREIGN KEY (snapshot_date)
+        REFERENCES portfolio_daily_snapshots(snapshot_date) ON DELETE CASCADE
+);
@@ -0,0 +1,12 @@
+-- Suporte à retomada incremental do motor de análise em memória: a partir da marca d'água
+-- da fotografia local, são relidos os projetos alterados e removidos os excluídos.
+
+CREATE INDEX idx_projects_updated_at ON projects(updated_at);
+
+-- Exclusões de projetos; registros mais antigos que a retenção configurada são apagados
+CREATE TABLE project_tombstones (
+    project_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_project_tombstones_deleted_at ON project_tombstones(deleted_at);
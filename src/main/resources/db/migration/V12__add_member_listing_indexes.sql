@@ -0,0 +1,8 @@
+-- Paginação por cursor de membros filtrada por atribuição (atribuição + id como desempate)
+CREATE INDEX idx_members_assignment_id ON members(assignment, id);
+
+-- MAX(updated_at) do ETag da listagem lido direto do índice
+CREATE INDEX idx_members_updated_at ON members(updated_at);
+
+-- Coberto pelo índice composto acima
+DROP INDEX idx_members_assignment;
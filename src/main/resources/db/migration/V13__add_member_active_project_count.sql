@@ -0,0 +1,11 @@
+-- Projetos ativos (fora de COMPLETED e CANCELLED) de cada membro, mantido a cada escrita de
+-- projeto. A vaga é reservada com um UPDATE condicional, o que garante o limite sob concorrência.
+ALTER TABLE members ADD COLUMN active_project_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE members SET active_project_count = (
+    SELECT COUNT(*)
+    FROM project_members pm
+    JOIN projects p ON p.id = pm.project_id
+    WHERE pm.member_id = members.id
+      AND p.status NOT IN ('COMPLETED', 'CANCELLED')
+);
@@ -0,0 +1,3 @@
+-- Controle de concorrência otimista: toda escrita em projects incrementa a versão,
+-- inclusive as atualizações em lote e via JDBC.
+ALTER TABLE projects ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- O autor de uma transição é o usuário que a executou: changed_by referencia o membro
+-- associado a ele, quando existe, e changed_by_username guarda sempre o login.
+-- Transições sem usuário autenticado (rotinas internas) ficam sem autor.
+ALTER TABLE project_status_history ALTER COLUMN changed_by DROP NOT NULL;
+ALTER TABLE project_status_history ADD COLUMN changed_by_username VARCHAR(100);
@@ -0,0 +1,11 @@
+-- Índices compostos para paginação por cursor (chave de ordenação + id como desempate)
+CREATE INDEX idx_projects_name_id ON projects(name, id);
+CREATE INDEX idx_projects_start_date_id ON projects(start_date, id);
+
+-- Filtros por status e gerente seguidos de ordenação por id
+CREATE INDEX idx_projects_status_id ON projects(status, id);
+CREATE INDEX idx_projects_manager_id ON projects(manager_id, id);
+
+-- Cobertos pelos índices compostos acima
+DROP INDEX idx_projects_status;
+DROP INDEX idx_projects_manager;
@@ -0,0 +1,5 @@
+-- O histórico passa a ser gravado a cada transição; a exclusão de um projeto
+-- (permitida apenas nos status iniciais) remove também o seu histórico
+ALTER TABLE project_status_history DROP CONSTRAINT fk_status_history_project;
+ALTER TABLE project_status_history
+    ADD CONSTRAINT fk_status_history_project FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE;
@@ -0,0 +1,26 @@
+-- Janela LAG por projeto em ordem cronológica: substitui o índice apenas por project_id
+CREATE INDEX idx_status_history_project_changed ON project_status_history(project_id, changed_at);
+DROP INDEX idx_status_history_project;
+
+-- Filtro por período usado para localizar os projetos com transições no dia
+CREATE INDEX idx_status_history_changed ON project_status_history(changed_at);
+
+-- Consolidação diária das transições: quantidade e tempo (em segundos) passado no status de origem,
+-- atribuídos ao dia em que o projeto saiu dele
+CREATE TABLE status_transition_daily (
+    day DATE NOT NULL,
+    from_status VARCHAR(50) NOT NULL,
+    to_status VARCHAR(50) NOT NULL,
+    transitions BIGINT NOT NULL,
+    total_seconds NUMERIC(20, 3) NOT NULL,
+    max_seconds NUMERIC(20, 3) NOT NULL,
+    PRIMARY KEY (day, from_status, to_status)
+);
+
+-- Dias anteriores a rolled_up_until já estão consolidados
+CREATE TABLE status_analytics_state (
+    id INT PRIMARY KEY CHECK (id = 1),
+    rolled_up_until DATE
+);
+
+INSERT INTO status_analytics_state (id, rolled_up_until) VALUES (1, NULL);
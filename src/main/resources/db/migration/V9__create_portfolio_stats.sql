@@ -0,0 +1,41 @@
+-- Estatísticas do portfólio mantidas na mesma transação das escritas de projetos,
+-- para que o relatório não precise agregar a tabela de projetos a cada chamada
+
+-- Quantidade e orçamento por status (uma linha por status, inclusive os vazios)
+CREATE TABLE portfolio_status_stats (
+    status VARCHAR(50) PRIMARY KEY,
+    project_count BIGINT NOT NULL DEFAULT 0,
+    total_budget NUMERIC(20, 2) NOT NULL DEFAULT 0
+);
+
+-- Totais globais: duração dos projetos encerrados e membros distintos alocados
+CREATE TABLE portfolio_stats (
+    id INT PRIMARY KEY CHECK (id = 1),
+    completed_count BIGINT NOT NULL DEFAULT 0,
+    completed_duration_days BIGINT NOT NULL DEFAULT 0,
+    distinct_members BIGINT NOT NULL DEFAULT 0
+);
+
+-- Projetos por membro; a linha é removida quando o membro deixa de estar em algum projeto
+CREATE TABLE member_project_counts (
+    member_id BIGINT PRIMARY KEY,
+    project_count BIGINT NOT NULL CHECK (project_count >= 0),
+    CONSTRAINT fk_member_project_counts_member FOREIGN KEY (member_id) REFERENCES members(id)
+);
+
+INSERT INTO portfolio_status_stats (status, project_count, total_budget)
+SELECT s.status, COUNT(p.id), COALESCE(SUM(p.total_budget), 0)
+FROM (VALUES ('UNDER_REVIEW'), ('REVIEW_COMPLETED'), ('REVIEW_APPROVED'), ('STARTED'),
+             ('PLANNED'), ('IN_PROGRESS'), ('COMPLETED'), ('CANCELLED')) AS s(status)
+LEFT JOIN projects p ON p.status = s.status
+GROUP BY s.status;
+
+INSERT INTO member_project_counts (member_id, project_count)
+SELECT member_id, COUNT(*) FROM project_members GROUP BY member_id;
+
+INSERT INTO portfolio_stats (id, completed_count, completed_duration_days, distinct_members)
+SELECT 1,
+       (SELECT COUNT(*) FROM projects WHERE status = 'COMPLETED' AND actual_end_date IS NOT NULL),
+       (SELECT COALESCE(SUM(actual_end_date - start_date), 0) FROM projects
+        WHERE status = 'COMPLETED' AND actual_end_date IS NOT NULL),
+       (SELECT COUNT(*) FROM member_project_counts);
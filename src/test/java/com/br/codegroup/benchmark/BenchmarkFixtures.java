@@ -0,0 +1,55 @@
+package com.br.codegroup.benchmark;
+
+import com.br.codegroup.domain.Member;
+import com.br.codegroup.domain.Project;
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.dto.ProjectDTO;
+import com.br.codegroup.mapper.ProjectMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// Dados de exemplo compartilhados pelos benchmarks
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static Member member(long id, String assignment) {
+        Member member = new Member();
+        member.setId(id);
+        member.setName("Membro " + id);
+        member.setAssignment(assignment);
+        member.setCreatedAt(LocalDateTime.now());
+        member.setUpdatedAt(LocalDateTime.now());
+        return member;
+    }
+
+    static Project project(long id, BigDecimal budget, int months) {
+        Project project = new Project();
+        project.setId(id);
+        project.setName("Projeto " + id);
+        project.setStartDate(LocalDate.of(2025, 1, 1));
+        project.setExpectedEndDate(LocalDate.of(2025, 1, 1).plusMonths(months));
+        project.setTotalBudget(budget);
+        project.setDescription("Descrição do projeto " + id + " com algum texto de contexto para o payload");
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setManager(member(1L, "gerente"));
+        project.calculateRiskClassification();
+        return project;
+    }
+
+    static List<ProjectDTO> projectDTOs(int count) {
+        ProjectMapper mapper = new ProjectMapper();
+        List<ProjectDTO> dtos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Project project = project(i + 1, BigDecimal.valueOf(50_000L + i * 10_000L), 2 + i % 8);
+            dtos.add(mapper.toDTO(project, Set.of(2L + i % 5, 10L + i % 7, 20L + i % 3)));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,101 @@
+package com.br.codegroup.benchmark;
+
+import com.br.codegroup.domain.Member;
+import com.br.codegroup.domain.Project;
+import com.br.codegroup.dto.MemberDTO;
+import com.br.codegroup.dto.ProjectDTO;
+import com.br.codegroup.dto.ProjectRequestDTO;
+import com.br.codegroup.mapper.MemberMapper;
+import com.br.codegroup.mapper.ProjectMapper;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por objeto dos mapeamentos de DTO: ModelMapper (configuração usada antes dos
+ * mapeadores explícitos, STRICT e com skip de nulos) contra ProjectMapper/MemberMapper.
+ *
+ * Execução: mvn -Pbenchmark test -Djmh.include=MappingBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private ProjectMapper projectMapper;
+    private MemberMapper memberMapper;
+
+    private Project project;
+    private Member member;
+    private ProjectRequestDTO requestDTO;
+    private Set<Long> memberIds;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setSkipNullEnabled(true)
+                .setFieldMatchingEnabled(true)
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE);
+        projectMapper = new ProjectMapper();
+        memberMapper = new MemberMapper();
+
+        project = BenchmarkFixtures.project(1L, BigDecimal.valueOf(250_000), 3);
+        member = project.getManager();
+
+        requestDTO = new ProjectRequestDTO();
+        requestDTO.setName("Projeto");
+        requestDTO.setStartDate(LocalDate.now());
+        requestDTO.setExpectedEndDate(LocalDate.now().plusMonths(3));
+        requestDTO.setTotalBudget(BigDecimal.valueOf(250000));
+        requestDTO.setDescription("Descrição do projeto");
+        requestDTO.setManagerId(1L);
+        requestDTO.setMemberIds(Set.of(2L, 3L));
+
+        memberIds = Set.of(2L, 3L);
+    }
+
+    @Benchmark
+    public ProjectDTO projectToDTO_modelMapper() {
+        ProjectDTO dto = modelMapper.map(project, ProjectDTO.class);
+        dto.setManagerId(project.getManager().getId());
+        dto.setManagerName(project.getManager().getName());
+        dto.setMemberIds(memberIds);
+        return dto;
+    }
+
+    @Benchmark
+    public ProjectDTO projectToDTO_projectMapper() {
+        return projectMapper.toDTO(project, memberIds);
+    }
+
+    @Benchmark
+    public Project requestToEntity_modelMapper() {
+        return modelMapper.map(requestDTO, Project.class);
+    }
+
+    @Benchmark
+    public Project requestToEntity_projectMapper() {
+        return projectMapper.toEntity(requestDTO);
+    }
+
+    @Benchmark
+    public MemberDTO memberToDTO_modelMapper() {
+        return modelMapper.map(member, MemberDTO.class);
+    }
+
+    @Benchmark
+    public MemberDTO memberToDTO_memberMapper() {
+        return memberMapper.toDTO(member);
+    }
+}
@@ -0,0 +1,57 @@
+package com.br.codegroup.benchmark;
+
+import com.br.codegroup.config.RiskProperties;
+import com.br.codegroup.domain.Project;
+import com.br.codegroup.domain.RiskClassification;
+import com.br.codegroup.domain.RiskPolicy;
+import com.br.codegroup.service.impl.RiskCalculatorServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classificação de risco, executada em toda criação/atualização de projeto (entidade) e
+ * no cálculo avulso do RiskCalculatorService. Um cenário por faixa de risco.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RiskClassificationBenchmark {
+
+    @Param({"LOW", "MEDIUM", "HIGH"})
+    private String scenario;
+
+    private Project project;
+    private RiskCalculatorServiceImpl riskCalculatorService;
+
+    @Setup
+    public void setUp() {
+        project = switch (scenario) {
+            case "LOW" -> BenchmarkFixtures.project(1L, BigDecimal.valueOf(80_000), 2);
+            case "MEDIUM" -> BenchmarkFixtures.project(1L, BigDecimal.valueOf(300_000), 5);
+            default -> BenchmarkFixtures.project(1L, BigDecimal.valueOf(900_000), 12);
+        };
+        riskCalculatorService = new RiskCalculatorServiceImpl(null, RiskPolicy.DEFAULT, new RiskProperties());
+    }
+
+    @Benchmark
+    public RiskClassification project_calculateRiskClassification() {
+        project.calculateRiskClassification();
+        return project.getRiskClassification();
+    }
+
+    @Benchmark
+    public RiskClassification riskPolicy_classifyPrimitive() {
+        return RiskPolicy.DEFAULT.classify(30_000_000L, 5L);
+    }
+
+    @Benchmark
+    public String riskCalculatorService_calculateRisk() {
+        return riskCalculatorService.calculateRisk(
+                project.getTotalBudget(), project.getStartDate(), project.getExpectedEndDate());
+    }
+}
@@ -0,0 +1,73 @@
+package com.br.codegroup.benchmark;
+
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.workflow.ProjectWorkflow;
+import com.br.codegroup.workflow.WorkflowProperties;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validação de transição de status no ProjectWorkflow, usada pela atualização individual e
+ * em lote. Mede o caminho aceito, percorrendo toda a sequência, o caminho rejeitado, que
+ * lança CustomException, e a consulta canTransition, que não lança exceção.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatusTransitionBenchmark {
+
+    private static final ProjectStatus[] SEQUENCE = {
+            ProjectStatus.UNDER_REVIEW,
+            ProjectStatus.REVIEW_COMPLETED,
+            ProjectStatus.REVIEW_APPROVED,
+            ProjectStatus.STARTED,
+            ProjectStatus.PLANNED,
+            ProjectStatus.IN_PROGRESS,
+            ProjectStatus.COMPLETED
+    };
+
+    private ProjectWorkflow workflow;
+
+    @Setup
+    public void setUp() {
+        // Fluxo compilado a partir da configuração padrão, sem guards nem ações
+        workflow = new ProjectWorkflow(new WorkflowProperties(), List.of(), List.of());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(6)
+    public void validTransitions() {
+        for (int i = 0; i < SEQUENCE.length - 1; i++) {
+            workflow.validateTransition(SEQUENCE[i], SEQUENCE[i + 1]);
+        }
+    }
+
+    @Benchmark
+    public void cancellation() {
+        workflow.validateTransition(ProjectStatus.IN_PROGRESS, ProjectStatus.CANCELLED);
+    }
+
+    @Benchmark
+    public void rejectedTransition(Blackhole blackhole) {
+        try {
+            workflow.validateTransition(ProjectStatus.UNDER_REVIEW, ProjectStatus.IN_PROGRESS);
+        } catch (CustomException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(6)
+    public void canTransition(Blackhole blackhole) {
+        for (int i = 0; i < SEQUENCE.length - 1; i++) {
+            blackhole.consume(workflow.canTransition(SEQUENCE[i], SEQUENCE[i + 1]));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.config.AuthTokenProperties;
+import com.br.codegroup.dto.LoginRequestDTO;
+import com.br.codegroup.dto.RefreshTokenRequestDTO;
+import com.br.codegroup.dto.TokenResponseDTO;
+import com.br.codegroup.exception.UnauthorizedException;
+import com.br.codegroup.service.AuthTokenService.TokenClaims;
+import com.br.codegroup.service.AuthTokenService.TokenType;
+import com.br.codegroup.service.impl.AuthServiceImpl;
+import com.br.codegroup.service.impl.AuthTokenServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceImplTest {
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private AuthTokenProperties tokenProperties;
+    private AuthTokenService authTokenService;
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        tokenProperties = new AuthTokenProperties();
+        tokenProperties.setSecret("chave-de-teste-com-pelo-menos-32-bytes");
+        authTokenService = new AuthTokenServiceImpl(tokenProperties, new ObjectMapper());
+        authService = new AuthServiceImpl(authenticationManager, userDetailsService, authTokenService, tokenProperties);
+    }
+
+    @Test
+    void login_WithValidCredentials_ShouldIssueAccessTokenVerifiedWithoutUserLookup() {
+        // Arrange
+        when(authenticationManager.authenticate(any())).thenReturn(UsernamePasswordAuthenticationToken.authenticated(
+                "manager", null, AuthorityUtils.createAuthorityList("ROLE_MANAGER")));
+
+        // Act
+        TokenResponseDTO tokens = authService.login(login("manager", "manager123"));
+        TokenClaims claims = authTokenService.verify(tokens.getAccessToken(), TokenType.ACCESS).orElseThrow();
+
+        // Assert
+        assertEquals("Bearer", tokens.getTokenType());
+        assertEquals(900, tokens.getExpiresIn());
+        assertEquals("manager", claims.username());
+        assertEquals(List.of("ROLE_MANAGER"), claims.authorities());
+        // Refresh token não serve como token de acesso, nem o contrário
+        assertTrue(authTokenService.verify(tokens.getRefreshToken(), TokenType.ACCESS).isEmpty());
+        assertTrue(authTokenService.verify(tokens.getAccessToken(), TokenType.REFRESH).isEmpty());
+        verify(authenticationManager, times(1)).authenticate(any());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void login_WithInvalidCredentials_ShouldThrowUnauthorizedException() {
+        // Arrange
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        // Act & Assert
+        UnauthorizedException exception = assertThrows(UnauthorizedException.class, () ->
+                authService.login(login("manager", "errada")));
+
+        assertEquals("Usuário ou senha inválidos", exception.getMessage());
+    }
+
+    @Test
+    void refresh_WithValidRefreshToken_ShouldReloadRolesAndIssueNewPair() {
+        // Arrange - o perfil do usuário mudou depois do login
+        String refreshToken = authTokenService.issue("user", List.of("ROLE_USER"), TokenType.REFRESH);
+        when(userDetailsService.loadUserByUsername("user"))
+                .thenReturn(User.withUsername("user").password("{noop}x").roles("MANAGER").build());
+
+        // Act
+        TokenResponseDTO tokens = authService.refresh(refresh(refreshToken));
+
+        // Assert
+        TokenClaims claims = authTokenService.verify(tokens.getAccessToken(), TokenType.ACCESS).orElseThrow();
+        assertEquals(List.of("ROLE_MANAGER"), claims.authorities());
+        verifyNoInteractions(authenticationManager);
+    }
+
+    @Test
+    void refresh_WithAccessToken_ShouldThrowUnauthorizedException() {
+        // Arrange
+        String accessToken = authTokenService.issue("user", List.of("ROLE_USER"), TokenType.ACCESS);
+
+        // Act & Assert
+        assertThrows(UnauthorizedException.class, () -> authService.refresh(refresh(accessToken)));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void verify_WithTamperedForeignOrExpiredToken_ShouldReject() {
+        // Arrange
+        String token = authTokenService.issue("user", List.of("ROLE_USER"), TokenType.ACCESS);
+        String[] parts = token.split("\\.");
+        String elevated = parts[0] + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(
+                new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8).replace("ROLE_USER", "ROLE_ADMIN")
+                        .getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+        AuthTokenProperties otherProperties = new AuthTokenProperties();
+        otherProperties.setSecret("outra-chave-de-teste-com-mais-de-32-bytes");
+        String foreign = new AuthTokenServiceImpl(otherProperties, new ObjectMapper())
+                .issue("user", List.of("ROLE_USER"), TokenType.ACCESS);
+
+        tokenProperties.setAccessTokenMinutes(0);
+        String expired = authTokenService.issue("user", List.of("ROLE_USER"), TokenType.ACCESS);
+
+        // Act & Assert
+        assertTrue(authTokenService.verify(token, TokenType.ACCESS).isPresent());
+        assertTrue(authTokenService.verify(elevated, TokenType.ACCESS).isEmpty());
+        assertTrue(authTokenService.verify(foreign, TokenType.ACCESS).isEmpty());
+        assertTrue(authTokenService.verify(expired, TokenType.ACCESS).isEmpty());
+        assertTrue(authTokenService.verify("nao.e.um-token", TokenType.ACCESS).isEmpty());
+    }
+
+    private LoginRequestDTO login(String username, String password) {
+        LoginRequestDTO request = new LoginRequestDTO();
+        request.setUsername(username);
+        request.setPassword(password);
+        return request;
+    }
+
+    private RefreshTokenRequestDTO refresh(String refreshToken) {
+        RefreshTokenRequestDTO request = new RefreshTokenRequestDTO();
+        request.setRefreshToken(refreshToken);
+        return request;
+    }
+}
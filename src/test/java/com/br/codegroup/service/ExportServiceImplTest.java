@@ -0,0 +1,130 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.repository.ExportRepository;
+import com.br.codegroup.service.impl.ExportServiceImpl;
+import com.br.codegroup.util.ExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceImplTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+
+    @Mock
+    private ExportRepository exportRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportServiceImpl(exportRepository, new ObjectMapper(), transactionManager);
+    }
+
+    @Test
+    void exportProjects_AsCsv_ShouldWriteHeaderEscapeTextAndJoinMemberIds() throws IOException {
+        // Arrange
+        stubProjects(projectRow(1L, "Portal, fase \"2\"", List.of(3L, 5L)), projectRow(2L, "ERP", List.of()));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportProjects(ExportWriter.Format.CSV, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, lines.length);
+        assertEquals(String.join(",", ExportRepository.PROJECT_COLUMNS), lines[0]);
+        assertEquals("1,\"Portal, fase \"\"2\"\"\",2025-01-01,2025-06-30,,150000.00,,STARTED,HIGH_RISK,7,3;5,"
+                + "2025-01-02T03:04:05,", lines[1]);
+        assertTrue(lines[2].startsWith("2,ERP,"));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void exportMembers_AsNdjson_ShouldWriteOneObjectPerLine() throws IOException {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<Object[]> consumer = invocation.getArgument(0);
+            consumer.accept(new Object[]{10L, "Ana", "funcionário", List.of(1L, 2L), CREATED, null});
+            consumer.accept(new Object[]{11L, "Bruno", "gerente", List.of(), CREATED, CREATED});
+            return null;
+        }).when(exportRepository).streamMembers(any());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportMembers(ExportWriter.Format.NDJSON, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"id\":10,\"name\":\"Ana\",\"assignment\":\"funcionário\",\"projectIds\":[1,2],"
+                + "\"createdAt\":\"2025-01-02T03:04:05\",\"updatedAt\":null}", lines[0]);
+        assertTrue(lines[1].contains("\"projectIds\":[]"));
+    }
+
+    @Test
+    void exportProjects_WhenClientDisconnects_ShouldStopAndRollBack() {
+        // Arrange - a escrita falha como em uma conexão encerrada pelo cliente
+        int available = 100_000;
+        int[] read = new int[1];
+        doAnswer(invocation -> {
+            Consumer<Object[]> consumer = invocation.getArgument(0);
+            for (long id = 1; id <= available; id++) {
+                read[0]++;
+                consumer.accept(projectRow(id, "Portal", List.of()));
+            }
+            return null;
+        }).when(exportRepository).streamProjects(any());
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Act & Assert
+        IOException exception = assertThrows(IOException.class,
+                () -> exportService.exportProjects(ExportWriter.Format.NDJSON, broken));
+        assertEquals("Broken pipe", exception.getMessage());
+        assertTrue(read[0] < available);
+        verify(transactionManager).rollback(any());
+    }
+
+    private void stubProjects(Object[]... rows) {
+        doAnswer(invocation -> {
+            Consumer<Object[]> consumer = invocation.getArgument(0);
+            for (Object[] row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).when(exportRepository).streamProjects(any());
+    }
+
+    private static Object[] projectRow(long id, String name, List<Long> memberIds) {
+        return new Object[]{id, name, Date.valueOf(LocalDate.of(2025, 1, 1)), Date.valueOf(LocalDate.of(2025, 6, 30)),
+                null, new BigDecimal("150000.00"), null, "STARTED", "HIGH_RISK", 7L, memberIds, CREATED, null};
+    }
+}
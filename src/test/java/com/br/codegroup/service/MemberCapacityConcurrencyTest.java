@@ -0,0 +1,224 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.config.BulkImportProperties;
+import com.br.codegroup.config.MemberCacheProperties;
+import com.br.codegroup.domain.Member;
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.dto.ProjectRequestDTO;
+import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.mapper.MemberMapper;
+import com.br.codegroup.mapper.ProjectMapper;
+import com.br.codegroup.repository.MemberCapacityRepository;
+import com.br.codegroup.repository.MemberRepository;
+import com.br.codegroup.repository.ProjectBatchRepository;
+import com.br.codegroup.service.impl.MemberServiceImpl;
+import com.br.codegroup.service.impl.ProjectServiceImpl;
+import com.br.codegroup.workflow.CompleteProjectAction;
+import com.br.codegroup.workflow.ProjectWorkflow;
+import com.br.codegroup.workflow.WorkflowProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Requisições concorrentes contra um banco real: o limite de 3 projetos ativos por membro
+ * precisa valer mesmo quando várias transações disputam a última vaga ao mesmo tempo.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({ProjectServiceImpl.class, ProjectMapper.class, BulkImportProperties.class, ProjectWorkflow.class,
+        WorkflowProperties.class, CompleteProjectAction.class, MemberServiceImpl.class, MemberMapper.class,
+        MemberCapacityRepository.class, MemberCacheProperties.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberCapacityConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ProjectBatchRepository projectBatchRepository;
+
+    @MockitoBean
+    private StatusHistoryService statusHistoryService;
+
+    @MockitoBean
+    private PortfolioStatsService portfolioStatsService;
+
+    @MockitoBean
+    private Validator validator;
+
+    private Member manager;
+    private List<Member> employees;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM project_members");
+        jdbcTemplate.update("DELETE FROM projects");
+        jdbcTemplate.update("DELETE FROM members");
+
+        manager = memberRepository.save(member("Gerente", "gerente"));
+        employees = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            employees.add(memberRepository.save(member("Funcionario " + i, "funcionario")));
+        }
+    }
+
+    @Test
+    void createProject_WithConcurrentRequestsForSameMember_ShouldAcceptExactlyThree() throws Exception {
+        // Arrange
+        Long memberId = employees.get(0).getId();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // Act - 64 criações disputando as 3 vagas do mesmo membro
+        int accepted = runConcurrently(64, i -> {
+            try {
+                projectService.createProject(request("Projeto " + i, Set.of(memberId)));
+                return 1;
+            } catch (CustomException e) {
+                rejected.incrementAndGet();
+                return 0;
+            }
+        });
+
+        // Assert
+        assertEquals(3, accepted);
+        assertEquals(61, rejected.get());
+        assertEquals(3, activeProjectsOf(memberId));
+        assertEquals(3, counterOf(memberId));
+    }
+
+    @Test
+    void mixedCreatesAndCancellations_ShouldKeepCounterEqualToActiveProjectsAndWithinLimit() throws Exception {
+        // Arrange
+        Queue<Long> cancellable = new ConcurrentLinkedQueue<>();
+        AtomicInteger rejectedByCapacity = new AtomicInteger();
+
+        // Act - criações com equipes aleatórias intercaladas com cancelamentos que liberam vagas
+        runConcurrently(400, i -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Long toCancel = random.nextInt(10) < 3 ? cancellable.poll() : null;
+            try {
+                if (toCancel != null) {
+                    projectService.updateProjectStatus(toCancel, ProjectStatus.CANCELLED);
+                } else {
+                    Set<Long> team = new HashSet<>();
+                    int size = 1 + random.nextInt(3);
+                    while (team.size() < size) {
+                        team.add(employees.get(random.nextInt(employees.size())).getId());
+                    }
+                    cancellable.add(projectService.createProject(request("Projeto " + i, team)).getId());
+                }
+                return 1;
+            } catch (CustomException e) {
+                rejectedByCapacity.incrementAndGet();
+                return 0;
+            }
+        });
+
+        // Assert
+        assertTrue(rejectedByCapacity.get() > 0);
+        for (Member employee : employees) {
+            int active = activeProjectsOf(employee.getId());
+            assertTrue(active <= 3, "Membro " + employee.getId() + " em " + active + " projetos ativos");
+            assertEquals(active, counterOf(employee.getId()));
+        }
+    }
+
+    private int runConcurrently(int operations, Operation operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < operations; i++) {
+                int index = i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return operation.run(index);
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(60, TimeUnit.SECONDS);
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int activeProjectsOf(Long memberId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM project_members pm JOIN projects p ON p.id = pm.project_id " +
+                        "WHERE pm.member_id = ? AND p.status NOT IN ('COMPLETED', 'CANCELLED')",
+                Integer.class, memberId);
+    }
+
+    private int counterOf(Long memberId) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT active_project_count FROM members WHERE id = ?", memberId);
+        return ((Number) row.get("active_project_count")).intValue();
+    }
+
+    private ProjectRequestDTO request(String name, Set<Long> memberIds) {
+        ProjectRequestDTO request = new ProjectRequestDTO();
+        request.setName(name);
+        request.setStartDate(LocalDate.now());
+        request.setExpectedEndDate(LocalDate.now().plusMonths(2));
+        request.setTotalBudget(BigDecimal.valueOf(50000));
+        request.setDescription("Descrição " + name);
+        request.setManagerId(manager.getId());
+        request.setMemberIds(memberIds);
+        return request;
+    }
+
+    private Member member(String name, String assignment) {
+        Member member = new Member();
+        member.setName(name);
+        member.setAssignment(assignment);
+        return member;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        int run(int index);
+    }
+}
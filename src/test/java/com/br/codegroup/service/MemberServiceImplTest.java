@@ -1,24 +1,35 @@
 package com.br.codegroup.service;
 
 
+import com.br.codegroup.config.MemberCacheProperties;
 import com.br.codegroup.domain.Member;
+import com.br.codegroup.dto.CursorPageDTO;
+import com.br.codegroup.dto.MemberCursorRequestDTO;
 import com.br.codegroup.dto.MemberDTO;
 import com.br.codegroup.dto.MemberRequestDTO;
 import com.br.codegroup.exception.CustomException;
 import com.br.codegroup.exception.ResourceNotFoundException;
+import com.br.codegroup.mapper.MemberMapper;
+import com.br.codegroup.repository.MemberListVersion;
 import com.br.codegroup.repository.MemberRepository;
 import com.br.codegroup.service.impl.MemberServiceImpl;
+import com.br.codegroup.util.MemberCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,10 +41,10 @@ class MemberServiceImplTest {
     @Mock
     private MemberRepository memberRepository;
 
-    @Mock
-    private ModelMapper modelMapper;
+    @Spy
+    private MemberMapper memberMapper = new MemberMapper();
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private MemberServiceImpl memberService;
 
     private Member member;
@@ -42,6 +53,10 @@ class MemberServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        memberService = new MemberServiceImpl(memberRepository, memberMapper, new MemberCacheProperties(),
+                meterRegistry);
+
         // Configuração dos objetos de teste
         member = new Member();
         member.setId(1L);
@@ -63,7 +78,6 @@ class MemberServiceImplTest {
         // Arrange
         when(memberRepository.existsByNameAndAssignment(anyString(), anyString())).thenReturn(false);
         when(memberRepository.save(any(Member.class))).thenReturn(member);
-        when(modelMapper.map(any(Member.class), eq(MemberDTO.class))).thenReturn(memberDTO);
 
         // Act
         MemberDTO result = memberService.createMember(memberRequestDTO);
@@ -110,7 +124,6 @@ class MemberServiceImplTest {
     void getMemberById_WithExistingId_ShouldReturnMemberDTO() {
         // Arrange
         when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
-        when(modelMapper.map(any(Member.class), eq(MemberDTO.class))).thenReturn(memberDTO);
 
         // Act
         MemberDTO result = memberService.getMemberById(1L);
@@ -151,8 +164,6 @@ class MemberServiceImplTest {
         memberDTO2.setAssignment("gerente");
 
         when(memberRepository.findAll()).thenReturn(Arrays.asList(member, member2));
-        when(modelMapper.map(member, MemberDTO.class)).thenReturn(memberDTO);
-        when(modelMapper.map(member2, MemberDTO.class)).thenReturn(memberDTO2);
 
         // Act
         List<MemberDTO> result = memberService.getAllMembers();
@@ -170,7 +181,6 @@ class MemberServiceImplTest {
     void getMembersByAssignment_WithValidAssignment_ShouldReturnFilteredList() {
         // Arrange
         when(memberRepository.findByAssignment("funcionario")).thenReturn(Arrays.asList(member));
-        when(modelMapper.map(any(Member.class), eq(MemberDTO.class))).thenReturn(memberDTO);
 
         // Act
         List<MemberDTO> result = memberService.getMembersByAssignment("funcionario");
@@ -226,9 +236,6 @@ class MemberServiceImplTest {
 
     @Test
     void convertToDTO_ShouldReturnMemberDTO() {
-        // Arrange
-        when(modelMapper.map(member, MemberDTO.class)).thenReturn(memberDTO);
-
         // Act
         MemberDTO result = memberService.convertToDTO(member);
 
@@ -237,7 +244,133 @@ class MemberServiceImplTest {
         assertEquals(1L, result.getId());
         assertEquals("João Silva", result.getName());
         assertEquals("funcionario", result.getAssignment());
+        verify(memberMapper, times(1)).toDTO(member);
+    }
+
+    @Test
+    void findAllByCursor_WithMorePages_ShouldReturnNextCursorFromLastMember() {
+        // Arrange
+        Member member2 = new Member();
+        member2.setId(7L);
+        member2.setName("Maria Santos");
+        member2.setAssignment("funcionario");
+        Member member3 = new Member();
+        member3.setId(9L);
+        member3.setName("Pedro Lima");
+        member3.setAssignment("funcionario");
+
+        MemberCursorRequestDTO requestDTO = new MemberCursorRequestDTO();
+        requestDTO.setCursor(MemberCursor.encode(0L));
+        requestDTO.setSize(2);
+        requestDTO.setAssignment("funcionario");
+        when(memberRepository.findByAssignmentAndIdGreaterThanOrderByIdAsc("funcionario", 0L, Limit.of(3)))
+                .thenReturn(List.of(member, member2, member3));
+
+        // Act
+        CursorPageDTO<MemberDTO> result = memberService.findAllByCursor(requestDTO);
+
+        // Assert
+        assertEquals(2, result.getSize());
+        assertTrue(result.isHasNext());
+        assertEquals(7L, MemberCursor.decode(result.getNextCursor()));
+        assertEquals("Maria Santos", result.getContent().get(1).getName());
+        verify(memberRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any());
+    }
+
+    @Test
+    void findAllByCursor_WithInvalidCursor_ShouldThrowCustomException() {
+        // Arrange
+        MemberCursorRequestDTO requestDTO = new MemberCursorRequestDTO();
+        requestDTO.setCursor("nao-e-um-cursor");
+
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class,
+                () -> memberService.findAllByCursor(requestDTO));
+
+        assertEquals("Cursor de paginação inválido", exception.getMessage());
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void getMembersETag_ShouldChangeOnlyWhenMembersChange() {
+        // Arrange
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 10, 14, 30);
+        when(memberRepository.findListVersion()).thenReturn(
+                new MemberListVersion(2, updatedAt),
+                new MemberListVersion(2, updatedAt),
+                new MemberListVersion(2, updatedAt.plusNanos(1_000)),
+                new MemberListVersion(3, updatedAt.plusNanos(1_000)));
+
+        // Act
+        String first = memberService.getMembersETag(null);
+        String unchanged = memberService.getMembersETag(null);
+        String edited = memberService.getMembersETag(null);
+        String created = memberService.getMembersETag(null);
+
+        // Assert
+        assertTrue(first.startsWith("\"") && first.endsWith("\""));
+        assertEquals(first, unchanged);
+        assertNotEquals(first, edited);
+        assertNotEquals(edited, created);
+        verify(memberRepository, never()).findAll();
+    }
 
-        verify(modelMapper, times(1)).map(member, MemberDTO.class);
+    @Test
+    void findById_WhenCached_ShouldQueryDatabaseOnceAndReturnIndependentCopies() {
+        // Arrange
+        member.setActiveProjectCount(2);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        // Act
+        Member first = memberService.findById(1L);
+        first.setName("Alterado pelo chamador");
+        Member second = memberService.findById(1L);
+
+        // Assert
+        assertEquals("João Silva", second.getName());
+        assertNotSame(member, second);
+        assertEquals(0, second.getActiveProjectCount());
+        verify(memberRepository, times(1)).findById(1L);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "member").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void findAllById_ShouldLoadOnlyMissingIdsInOneQuery() {
+        // Arrange
+        Member manager = new Member();
+        manager.setId(2L);
+        manager.setName("Maria Souza");
+        manager.setAssignment("gerente");
+
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(memberRepository.findAllById(any())).thenReturn(List.of(manager));
+        memberService.findById(1L);
+
+        // Act
+        List<Member> result = memberService.findAllById(Set.of(1L, 2L, 99L));
+
+        // Assert
+        assertEquals(Set.of(1L, 2L), result.stream().map(Member::getId).collect(Collectors.toSet()));
+        verify(memberRepository, times(1)).findAllById(argThat(ids ->
+                Set.copyOf((Collection<Long>) ids).equals(Set.of(2L, 99L))));
+        assertEquals(2L, memberService.findById(2L).getId());
+        verify(memberRepository, never()).findById(2L);
+    }
+
+    @Test
+    void createMember_ShouldInvalidateCachedEntry() {
+        // Arrange
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(memberRepository.existsByNameAndAssignment(anyString(), anyString())).thenReturn(false);
+        when(memberRepository.save(any(Member.class))).thenReturn(member);
+        memberService.findById(1L);
+
+        // Act
+        memberService.createMember(memberRequestDTO);
+        memberService.findById(1L);
+
+        // Assert
+        verify(memberRepository, times(2)).findById(1L);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,253 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.config.AnalyticsProperties;
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.domain.ProjectsChangedEvent;
+import com.br.codegroup.domain.RiskClassification;
+import com.br.codegroup.dto.PortfolioAnalyticsGroupDTO;
+import com.br.codegroup.dto.PortfolioAnalyticsQueryDTO;
+import com.br.codegroup.dto.PortfolioAnalyticsQueryDTO.Dimension;
+import com.br.codegroup.dto.PortfolioAnalyticsResultDTO;
+import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.repository.ProjectColumnRepository;
+import com.br.codegroup.repository.ProjectColumnRow;
+import com.br.codegroup.service.impl.PortfolioAnalyticsServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioAnalyticsServiceImplTest {
+
+    private static final LocalDate JAN = LocalDate.of(2025, 1, 15);
+    private static final LocalDate FEB = LocalDate.of(2025, 2, 10);
+
+    @Mock
+    private ProjectColumnRepository projectColumnRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AnalyticsProperties analyticsProperties;
+    private PortfolioAnalyticsServiceImpl portfolioAnalyticsService;
+
+    @BeforeEach
+    void setUp() {
+        analyticsProperties = new AnalyticsProperties();
+        portfolioAnalyticsService = new PortfolioAnalyticsServiceImpl(
+                projectColumnRepository, analyticsProperties, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        portfolioAnalyticsService.shutdown();
+    }
+
+    @Test
+    void query_ShouldGroupAndFilterLoadedProjects() {
+        // Arrange
+        load(List.of(
+                row(1L, ProjectStatus.STARTED, RiskClassification.LOW_RISK, 10L, JAN, "1000.50"),
+                row(2L, ProjectStatus.STARTED, RiskClassification.LOW_RISK, 10L, FEB, "2000.00"),
+                row(3L, ProjectStatus.STARTED, RiskClassification.HIGH_RISK, 20L, JAN, "900000.00"),
+                row(4L, ProjectStatus.PLANNED, RiskClassification.LOW_RISK, 20L, FEB, "500.00")));
+        PortfolioAnalyticsQueryDTO query = new PortfolioAnalyticsQueryDTO();
+        query.setGroupBy(List.of(Dimension.STATUS, Dimension.MANAGER));
+        query.setRiskClassifications(Set.of(RiskClassification.LOW_RISK));
+
+        // Act
+        PortfolioAnalyticsResultDTO result = portfolioAnalyticsService.query(query);
+
+        // Assert
+        assertEquals(3, result.getProjectCount());
+        assertEquals(0, new BigDecimal("3500.50").compareTo(result.getTotalBudget()));
+        assertEquals(2, result.getGroups().size());
+
+        PortfolioAnalyticsGroupDTO started = result.getGroups().get(0);
+        assertEquals(ProjectStatus.STARTED, started.getStatus());
+        assertEquals(10L, started.getManagerId());
+        assertNull(started.getRiskClassification());
+        assertEquals(2, started.getProjectCount());
+        assertEquals(0, new BigDecimal("1500.25").compareTo(started.getAverageBudget()));
+
+        PortfolioAnalyticsGroupDTO planned = result.getGroups().get(1);
+        assertEquals(ProjectStatus.PLANNED, planned.getStatus());
+        assertEquals(20L, planned.getManagerId());
+    }
+
+    @Test
+    void onProjectsChanged_ShouldRereadChangedRowsAndDropDeletedOnes() throws InterruptedException {
+        // Arrange
+        load(List.of(
+                row(1L, ProjectStatus.UNDER_REVIEW, RiskClassification.LOW_RISK, 10L, JAN, "100.00"),
+                row(2L, ProjectStatus.UNDER_REVIEW, RiskClassification.LOW_RISK, 10L, JAN, "200.00")));
+        when(projectColumnRepository.findByIds(any())).thenReturn(List.of(
+                row(1L, ProjectStatus.CANCELLED, RiskClassification.LOW_RISK, 10L, JAN, "150.00"),
+                row(3L, ProjectStatus.UNDER_REVIEW, RiskClassification.MEDIUM_RISK, 30L, FEB, "300.00")));
+        PortfolioAnalyticsQueryDTO query = new PortfolioAnalyticsQueryDTO();
+        query.setGroupBy(List.of(Dimension.STATUS));
+
+        // Act - o projeto 2 foi excluído e não volta na releitura
+        portfolioAnalyticsService.onProjectsChanged(new ProjectsChangedEvent(Set.of(1L, 2L, 3L)));
+
+        // Assert
+        PortfolioAnalyticsResultDTO result = awaitProjectCount(query, 2);
+        assertEquals(2, result.getGroups().size());
+        assertEquals(ProjectStatus.UNDER_REVIEW, result.getGroups().get(0).getStatus());
+        assertEquals(0, new BigDecimal("300.00").compareTo(result.getGroups().get(0).getTotalBudget()));
+        assertEquals(ProjectStatus.CANCELLED, result.getGroups().get(1).getStatus());
+        assertEquals(0, new BigDecimal("150.00").compareTo(result.getGroups().get(1).getTotalBudget()));
+    }
+
+    @Test
+    void query_ShouldReturnSameGroupsForParallelAndSequentialScans() {
+        // Arrange
+        Random random = new Random(42);
+        List<ProjectColumnRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 20000; id++) {
+            rows.add(row(id,
+                    ProjectStatus.values()[random.nextInt(ProjectStatus.values().length)],
+                    RiskClassification.values()[random.nextInt(RiskClassification.values().length)],
+                    1 + random.nextInt(50),
+                    JAN.plusDays(random.nextInt(400)),
+                    random.nextInt(1_000_000) + ".25"));
+        }
+        load(rows);
+        PortfolioAnalyticsQueryDTO query = new PortfolioAnalyticsQueryDTO();
+        query.setGroupBy(List.of(Dimension.RISK_CLASSIFICATION, Dimension.START_MONTH));
+        query.setStatuses(Set.of(ProjectStatus.STARTED, ProjectStatus.IN_PROGRESS));
+        query.setStartDateFrom(FEB);
+
+        // Act
+        analyticsProperties.getEngine().setParallelThreshold(Integer.MAX_VALUE);
+        PortfolioAnalyticsResultDTO sequential = portfolioAnalyticsService.query(query);
+        analyticsProperties.getEngine().setParallelThreshold(1);
+        PortfolioAnalyticsResultDTO parallel = portfolioAnalyticsService.query(query);
+
+        // Assert
+        long expected = rows.stream()
+                .filter(row -> row.status() == ProjectStatus.STARTED || row.status() == ProjectStatus.IN_PROGRESS)
+                .filter(row -> !row.startDate().isBefore(FEB))
+                .count();
+        assertEquals(expected, sequential.getProjectCount());
+        assertEquals(sequential.getGroups(), parallel.getGroups());
+        assertEquals("2025-02", sequential.getGroups().get(0).getStartMonth());
+    }
+
+    @Test
+    void start_ShouldRestoreSnapshotAndReadOnlyChangesSinceWatermark(@TempDir Path directory) throws Exception {
+        // Arrange - a primeira instância carrega tudo e grava a fotografia
+        analyticsProperties.getEngine().setSnapshotFile(directory.resolve("analytics.snapshot").toString());
+        analyticsProperties.getEngine().setReloadIntervalMinutes(0);
+        analyticsProperties.getEngine().setSnapshotIntervalMinutes(0);
+        load(List.of(
+                row(1L, ProjectStatus.UNDER_REVIEW, RiskClassification.LOW_RISK, 10L, JAN, "100.00"),
+                row(2L, ProjectStatus.PLANNED, null, 20L, FEB, "200.00"),
+                row(3L, ProjectStatus.STARTED, RiskClassification.HIGH_RISK, 10L, FEB, "300.00")));
+        portfolioAnalyticsService.writeSnapshot();
+        portfolioAnalyticsService.shutdown();
+
+        // Desde a fotografia, o projeto 1 mudou e o projeto 2 foi excluído
+        doAnswer(invocation -> {
+            invocation.<Consumer<ProjectColumnRow>>getArgument(1)
+                    .accept(row(1L, ProjectStatus.CANCELLED, RiskClassification.LOW_RISK, 10L, JAN, "100.00"));
+            return null;
+        }).when(projectColumnRepository).streamChangedSince(any(), any());
+        when(projectColumnRepository.findDeletedSince(any())).thenReturn(List.of(2L));
+        portfolioAnalyticsService = new PortfolioAnalyticsServiceImpl(
+                projectColumnRepository, analyticsProperties, transactionManager);
+        PortfolioAnalyticsQueryDTO query = new PortfolioAnalyticsQueryDTO();
+        query.setGroupBy(List.of(Dimension.STATUS, Dimension.RISK_CLASSIFICATION));
+
+        // Act
+        portfolioAnalyticsService.start();
+        PortfolioAnalyticsResultDTO result = awaitLoaded(query);
+
+        // Assert - sem nova carga completa
+        verify(projectColumnRepository, times(1)).streamAll(any());
+        assertEquals(2, result.getProjectCount());
+        assertEquals(ProjectStatus.STARTED, result.getGroups().get(0).getStatus());
+        assertEquals(RiskClassification.HIGH_RISK, result.getGroups().get(0).getRiskClassification());
+        assertEquals(ProjectStatus.CANCELLED, result.getGroups().get(1).getStatus());
+    }
+
+    @Test
+    void start_WithCorruptedSnapshot_ShouldFallBackToFullLoad(@TempDir Path directory) throws Exception {
+        // Arrange
+        Path file = directory.resolve("analytics.snapshot");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+        analyticsProperties.getEngine().setSnapshotFile(file.toString());
+        analyticsProperties.getEngine().setReloadIntervalMinutes(0);
+        analyticsProperties.getEngine().setSnapshotIntervalMinutes(0);
+        doAnswer(invocation -> {
+            invocation.<Consumer<ProjectColumnRow>>getArgument(0)
+                    .accept(row(1L, ProjectStatus.STARTED, RiskClassification.LOW_RISK, 10L, JAN, "100.00"));
+            return null;
+        }).when(projectColumnRepository).streamAll(any());
+
+        // Act
+        portfolioAnalyticsService.start();
+        PortfolioAnalyticsResultDTO result = awaitLoaded(new PortfolioAnalyticsQueryDTO());
+
+        // Assert
+        assertEquals(1, result.getProjectCount());
+        verify(projectColumnRepository, never()).streamChangedSince(any(), any());
+    }
+
+    private PortfolioAnalyticsResultDTO awaitLoaded(PortfolioAnalyticsQueryDTO query) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            try {
+                return portfolioAnalyticsService.query(query);
+            } catch (CustomException e) {
+                Thread.sleep(10);
+            }
+        }
+        return fail("Motor de análise não carregou a tempo");
+    }
+
+    private void load(List<ProjectColumnRow> rows) {
+        doAnswer(invocation -> {
+            rows.forEach(invocation.<Consumer<ProjectColumnRow>>getArgument(0));
+            return null;
+        }).when(projectColumnRepository).streamAll(any());
+        portfolioAnalyticsService.reload();
+    }
+
+    private PortfolioAnalyticsResultDTO awaitProjectCount(PortfolioAnalyticsQueryDTO query, long count)
+            throws InterruptedException {
+        PortfolioAnalyticsResultDTO result = null;
+        for (int i = 0; i < 200; i++) {
+            result = portfolioAnalyticsService.query(query);
+            if (result.getProjectCount() == count && result.getGroups().size() == 2
+                    && result.getGroups().get(1).getStatus() == ProjectStatus.CANCELLED) {
+                return result;
+            }
+            Thread.sleep(10);
+        }
+        return result;
+    }
+
+    private static ProjectColumnRow row(long id, ProjectStatus status, RiskClassification risk, long managerId,
+                                        LocalDate startDate, String budget) {
+        return new ProjectColumnRow(id, status, risk, managerId, startDate, new BigDecimal(budget));
+    }
+}
@@ -0,0 +1,166 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.config.ReportJobProperties;
+import com.br.codegroup.dto.PortfolioReportDTO;
+import com.br.codegroup.dto.PortfolioReportFilterDTO;
+import com.br.codegroup.dto.ReportJobDTO;
+import com.br.codegroup.dto.ReportJobDTO.State;
+import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.exception.ResourceNotFoundException;
+import com.br.codegroup.exception.ServiceUnavailableException;
+import com.br.codegroup.repository.PortfolioReportRepository;
+import com.br.codegroup.service.impl.PortfolioReportJobServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioReportJobServiceImplTest {
+
+    @Mock
+    private PortfolioReportRepository portfolioReportRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PortfolioReportJobServiceImpl portfolioReportJobService;
+
+    @AfterEach
+    void tearDown() {
+        portfolioReportJobService.shutdown();
+    }
+
+    @Test
+    void submit_ShouldReuseJobForIdenticalFiltersWhileRunning() throws InterruptedException {
+        // Arrange - o primeiro job fica preso no repositório até o latch ser liberado
+        createService(30);
+        CountDownLatch release = new CountDownLatch(1);
+        when(portfolioReportRepository.aggregate(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new PortfolioReportDTO();
+        });
+
+        // Act
+        ReportJobDTO first = portfolioReportJobService.submit(filter(1L));
+        ReportJobDTO second = portfolioReportJobService.submit(filter(1L));
+        ReportJobDTO other = portfolioReportJobService.submit(filter(2L));
+        release.countDown();
+
+        // Assert
+        assertEquals(first.getId(), second.getId());
+        assertNotEquals(first.getId(), other.getId());
+        assertEquals(State.COMPLETED, awaitFinished(first.getId()).getState());
+        assertEquals(State.COMPLETED, awaitFinished(other.getId()).getState());
+        verify(portfolioReportRepository, times(2)).aggregate(any());
+    }
+
+    @Test
+    void getJob_ShouldFailAfterResultExpires() throws InterruptedException {
+        // Arrange - TTL zero: o resultado expira assim que o job termina
+        createService(0);
+        when(portfolioReportRepository.aggregate(any())).thenReturn(new PortfolioReportDTO());
+        ReportJobDTO job = portfolioReportJobService.submit(filter(1L));
+
+        // Act & Assert
+        awaitExpired(job.getId());
+        assertThrows(ResourceNotFoundException.class, () -> portfolioReportJobService.getJob(job.getId()));
+    }
+
+    @Test
+    void submit_ShouldRejectInvalidPeriod() {
+        // Arrange
+        createService(30);
+        PortfolioReportFilterDTO filter = filter(null);
+        filter.setStartDateFrom(LocalDate.of(2025, 6, 1));
+        filter.setStartDateTo(LocalDate.of(2025, 1, 1));
+
+        // Act & Assert
+        assertThrows(CustomException.class, () -> portfolioReportJobService.submit(filter));
+        verifyNoInteractions(portfolioReportRepository);
+    }
+
+    @Test
+    void submit_WhenQueueIsFull_ShouldRespondServiceUnavailableWithRetryAfter() throws InterruptedException {
+        // Arrange - uma thread ocupada e uma vaga na fila, já preenchida
+        ReportJobProperties properties = new ReportJobProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setRetryAfterSeconds(7);
+        createService(properties);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(portfolioReportRepository.aggregate(any())).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new PortfolioReportDTO();
+        });
+        portfolioReportJobService.submit(filter(1L));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        ReportJobDTO queued = portfolioReportJobService.submit(filter(2L));
+
+        // Act
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> portfolioReportJobService.submit(filter(3L)));
+        release.countDown();
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        assertEquals("7", exception.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        // O pedido recusado não fica registrado: o mesmo filtro pode ser reenviado depois
+        awaitFinished(queued.getId());
+        assertEquals(State.COMPLETED, awaitFinished(portfolioReportJobService.submit(filter(3L)).getId()).getState());
+    }
+
+    private void createService(long ttlMinutes) {
+        ReportJobProperties properties = new ReportJobProperties();
+        properties.setTtlMinutes(ttlMinutes);
+        createService(properties);
+    }
+
+    private void createService(ReportJobProperties properties) {
+        portfolioReportJobService = new PortfolioReportJobServiceImpl(
+                portfolioReportRepository, properties, transactionManager);
+    }
+
+    private ReportJobDTO awaitFinished(String id) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            ReportJobDTO job = portfolioReportJobService.getJob(id);
+            if (job.getState() == State.COMPLETED || job.getState() == State.FAILED) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        fail("Relatório não terminou a tempo");
+        return null;
+    }
+
+    private void awaitExpired(String id) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            try {
+                portfolioReportJobService.getJob(id);
+            } catch (ResourceNotFoundException e) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static PortfolioReportFilterDTO filter(Long managerId) {
+        PortfolioReportFilterDTO filter = new PortfolioReportFilterDTO();
+        filter.setManagerId(managerId);
+        return filter;
+    }
+}
@@ -0,0 +1,98 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.config.ReportSnapshotProperties;
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.dto.PortfolioTrendPointDTO;
+import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.repository.PortfolioSnapshotRepository;
+import com.br.codegroup.repository.PortfolioStats;
+import com.br.codegroup.service.impl.PortfolioSnapshotServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioSnapshotServiceImplTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Mock
+    private PortfolioSnapshotRepository portfolioSnapshotRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReportSnapshotProperties properties;
+    private PortfolioSnapshotServiceImpl portfolioSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReportSnapshotProperties();
+        properties.setMaxDays(366);
+        portfolioSnapshotService = new PortfolioSnapshotServiceImpl(
+                portfolioSnapshotRepository, properties, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        portfolioSnapshotService.shutdown();
+    }
+
+    @Test
+    void getTrend_ShouldMapSnapshotsInDateOrder() {
+        // Arrange
+        Map<LocalDate, PortfolioStats> snapshots = new LinkedHashMap<>();
+        snapshots.put(DAY, stats(2L, "100000", 0, 0, 3));
+        snapshots.put(DAY.plusDays(1), stats(1L, "50000", 2, 30, 4));
+        when(portfolioSnapshotRepository.findBetween(DAY, DAY.plusDays(1))).thenReturn(snapshots);
+
+        // Act
+        List<PortfolioTrendPointDTO> trend = portfolioSnapshotService.getTrend(DAY, DAY.plusDays(1));
+
+        // Assert
+        assertEquals(2, trend.size());
+        assertEquals(DAY, trend.get(0).getDate());
+        assertEquals(2L, trend.get(0).getReport().getProjectsByStatus().get(ProjectStatus.STARTED.getDisplayName()));
+        assertEquals(0.0, trend.get(0).getReport().getAverageDurationDays());
+        assertEquals(15.0, trend.get(1).getReport().getAverageDurationDays());
+        assertEquals(4L, trend.get(1).getReport().getUniqueMembersCount());
+    }
+
+    @Test
+    void getTrend_ShouldRejectInvalidOrTooLongPeriod() {
+        // Act & Assert
+        assertThrows(CustomException.class, () -> portfolioSnapshotService.getTrend(DAY, DAY.minusDays(1)));
+        assertThrows(CustomException.class, () -> portfolioSnapshotService.getTrend(DAY.minusDays(366), DAY));
+        verifyNoInteractions(portfolioSnapshotRepository);
+    }
+
+    @Test
+    void capture_ShouldCopyStatsForTheGivenDay() {
+        // Act
+        portfolioSnapshotService.capture(DAY);
+
+        // Assert
+        verify(portfolioSnapshotRepository).capture(eq(DAY), any());
+        verify(transactionManager).commit(any());
+    }
+
+    private static PortfolioStats stats(long started, String budget, long completed, long completedDays, long members) {
+        return new PortfolioStats(Map.of(ProjectStatus.STARTED, started, ProjectStatus.CANCELLED, 0L),
+                Map.of(ProjectStatus.STARTED, new BigDecimal(budget), ProjectStatus.CANCELLED, BigDecimal.ZERO),
+                completed, completedDays, members);
+    }
+}
@@ -0,0 +1,133 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.dto.PortfolioReconciliationDTO;
+import com.br.codegroup.dto.PortfolioReportDTO;
+import com.br.codegroup.repository.PortfolioStats;
+import com.br.codegroup.repository.PortfolioStatsDelta;
+import com.br.codegroup.repository.PortfolioStatsRepository;
+import com.br.codegroup.repository.ProjectStatsSnapshot;
+import com.br.codegroup.service.impl.PortfolioStatsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioStatsServiceImplTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private PortfolioStatsRepository portfolioStatsRepository;
+
+    private PortfolioStatsServiceImpl portfolioStatsService;
+
+    @BeforeEach
+    void setUp() {
+        portfolioStatsService = new PortfolioStatsServiceImpl(portfolioStatsRepository);
+    }
+
+    @Test
+    void recordChange_ToCompleted_ShouldMoveCountBudgetAndAddDuration() {
+        // Arrange
+        ProjectStatsSnapshot before = new ProjectStatsSnapshot(ProjectStatus.IN_PROGRESS,
+                new BigDecimal("1000.00"), START, null, Set.of(2L, 3L));
+        ProjectStatsSnapshot after = before.withStatus(ProjectStatus.COMPLETED, START.plusDays(30));
+
+        // Act
+        portfolioStatsService.recordChange(before, after);
+
+        // Assert
+        PortfolioStatsDelta delta = captureDelta();
+        assertEquals(Map.of(ProjectStatus.IN_PROGRESS, -1L, ProjectStatus.COMPLETED, 1L), delta.getCounts());
+        assertEquals(0, new BigDecimal("-1000.00").compareTo(delta.getBudgets().get(ProjectStatus.IN_PROGRESS)));
+        assertEquals(0, new BigDecimal("1000.00").compareTo(delta.getBudgets().get(ProjectStatus.COMPLETED)));
+        assertEquals(1, delta.getCompletedCount());
+        assertEquals(30, delta.getCompletedDurationDays());
+        // Mesmos membros antes e depois: nenhuma variação por membro
+        assertTrue(delta.getMemberProjects().isEmpty());
+    }
+
+    @Test
+    void recordChange_WithMemberSwapAndSameStatus_ShouldOnlyTouchChangedValues() {
+        // Arrange
+        ProjectStatsSnapshot before = new ProjectStatsSnapshot(ProjectStatus.UNDER_REVIEW,
+                new BigDecimal("500.00"), START, null, Set.of(2L, 3L));
+        ProjectStatsSnapshot after = new ProjectStatsSnapshot(ProjectStatus.UNDER_REVIEW,
+                new BigDecimal("500.00"), START, null, Set.of(3L, 4L));
+
+        // Act
+        portfolioStatsService.recordChange(before, after);
+
+        // Assert
+        PortfolioStatsDelta delta = captureDelta();
+        assertTrue(delta.getCounts().isEmpty());
+        assertTrue(delta.getBudgets().isEmpty());
+        assertEquals(Map.of(2L, -1L, 4L, 1L), delta.getMemberProjects());
+        assertEquals(List.of(2L, 4L), List.copyOf(delta.getMemberProjects().keySet()));
+    }
+
+    @Test
+    void getReport_ShouldKeepOnlyStatusesWithProjects() {
+        // Arrange
+        when(portfolioStatsRepository.find()).thenReturn(stats(5L, new BigDecimal("100000.00"), 4, 122, 25));
+
+        // Act
+        PortfolioReportDTO report = portfolioStatsService.getReport();
+
+        // Assert
+        assertEquals(Map.of("em análise", 5L), report.getProjectsByStatus());
+        assertEquals(Map.of("em análise", new BigDecimal("100000.00")), report.getBudgetByStatus());
+        assertEquals(30.5, report.getAverageDurationDays());
+        assertEquals(25L, report.getUniqueMembersCount());
+    }
+
+    @Test
+    void reconcile_WithDrift_ShouldReportDifferences() {
+        // Arrange
+        when(portfolioStatsRepository.find()).thenReturn(
+                stats(5L, new BigDecimal("100000.00"), 4, 122, 25),
+                stats(6L, new BigDecimal("100000"), 4, 122, 24));
+
+        // Act
+        PortfolioReconciliationDTO result = portfolioStatsService.reconcile();
+
+        // Assert
+        verify(portfolioStatsRepository).rebuild();
+        assertTrue(result.isDrift());
+        assertEquals(List.of("Quantidade em em análise: 5 -> 6", "Membros distintos: 25 -> 24"), result.getDifferences());
+        assertEquals(6L, result.getReport().getProjectsByStatus().get("em análise"));
+    }
+
+    private PortfolioStatsDelta captureDelta() {
+        ArgumentCaptor<PortfolioStatsDelta> captor = ArgumentCaptor.forClass(PortfolioStatsDelta.class);
+        verify(portfolioStatsRepository).apply(captor.capture());
+        return captor.getValue();
+    }
+
+    private static PortfolioStats stats(long underReview, BigDecimal underReviewBudget, long completedCount,
+                                        long completedDays, long distinctMembers) {
+        Map<ProjectStatus, Long> counts = new EnumMap<>(ProjectStatus.class);
+        Map<ProjectStatus, BigDecimal> budgets = new EnumMap<>(ProjectStatus.class);
+        for (ProjectStatus status : ProjectStatus.values()) {
+            counts.put(status, 0L);
+            budgets.put(status, BigDecimal.ZERO);
+        }
+        counts.put(ProjectStatus.UNDER_REVIEW, underReview);
+        budgets.put(ProjectStatus.UNDER_REVIEW, underReviewBudget);
+        return new PortfolioStats(counts, budgets, completedCount, completedDays, distinctMembers);
+    }
+}
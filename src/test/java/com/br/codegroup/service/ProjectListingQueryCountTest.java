@@ -0,0 +1,249 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.config.BulkImportProperties;
+import com.br.codegroup.domain.Member;
+import com.br.codegroup.domain.Project;
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.dto.CursorPageDTO;
+import com.br.codegroup.dto.ProjectCursorRequestDTO;
+import com.br.codegroup.dto.ProjectDTO;
+import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.mapper.ProjectMapper;
+import com.br.codegroup.repository.MemberCapacityRepository;
+import com.br.codegroup.repository.ProjectBatchRepository;
+import com.br.codegroup.service.impl.ProjectServiceImpl;
+import com.br.codegroup.workflow.CompleteProjectAction;
+import com.br.codegroup.workflow.ProjectWorkflow;
+import com.br.codegroup.workflow.WorkflowProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante que a listagem de projetos carrega uma página com um número fixo de consultas,
+ * independente de quantos projetos, gerentes e membros a página contém.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({ProjectServiceImpl.class, ProjectMapper.class, BulkImportProperties.class, ProjectWorkflow.class,
+        WorkflowProperties.class, CompleteProjectAction.class})
+class ProjectListingQueryCountTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private MemberService memberService;
+
+    @MockitoBean
+    private ProjectBatchRepository projectBatchRepository;
+
+    @MockitoBean
+    private StatusHistoryService statusHistoryService;
+
+    @MockitoBean
+    private PortfolioStatsService portfolioStatsService;
+
+    @MockitoBean
+    private Validator validator;
+
+    @MockitoBean
+    private MemberCapacityRepository memberCapacityRepository;
+
+    private Statistics statistics;
+    private Member firstEmployee;
+    private Project firstProject;
+
+    @BeforeEach
+    void setUp() {
+        // Vários gerentes e membros distintos: cada carga preguiçosa seria uma consulta extra
+        for (int i = 0; i < 15; i++) {
+            Member manager = persistMember("Gerente " + i, "gerente");
+            Member employee = persistMember("Funcionario " + i, "funcionario");
+            Member other = persistMember("Funcionario extra " + i, "funcionario");
+            if (firstEmployee == null) {
+                firstEmployee = employee;
+            }
+            Project project = persistProject("Projeto " + i, manager, new HashSet<>(List.of(employee, other, firstEmployee)));
+            if (firstProject == null) {
+                firstProject = project;
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAll_ShouldLoadPageWithPageCountAndMemberQueries() {
+        // Act
+        Page<ProjectDTO> page = projectService.findAll(PageRequest.of(0, PAGE_SIZE, Sort.by("name")), null);
+
+        // Assert - página, COUNT e IDs de membros
+        assertEquals(PAGE_SIZE, page.getNumberOfElements());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        page.forEach(dto -> {
+            assertNotNull(dto.getManagerName());
+            assertTrue(dto.getMemberIds().contains(firstEmployee.getId()));
+        });
+    }
+
+    @Test
+    void findByStatus_ShouldLoadLastPageWithPageAndMemberQueries() {
+        // Act
+        Page<ProjectDTO> page = projectService.findByStatus(ProjectStatus.UNDER_REVIEW, PageRequest.of(1, PAGE_SIZE));
+
+        // Assert
+        assertEquals(5, page.getNumberOfElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        page.forEach(dto -> assertFalse(dto.getMemberIds().isEmpty()));
+    }
+
+    @Test
+    void findByMemberId_ShouldLoadPageWithPageCountAndMemberQueries() {
+        // Act
+        Page<ProjectDTO> page = projectService.findByMemberId(firstEmployee.getId(), PageRequest.of(0, PAGE_SIZE));
+
+        // Assert
+        assertEquals(PAGE_SIZE, page.getNumberOfElements());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        page.forEach(dto -> assertNotNull(dto.getManagerName()));
+    }
+
+    @Test
+    void findAllByCursor_ShouldLoadPageWithPageAndMemberQueries() {
+        // Arrange
+        ProjectCursorRequestDTO request = new ProjectCursorRequestDTO();
+        request.setSort("name");
+        request.setSize(PAGE_SIZE);
+
+        // Act
+        CursorPageDTO<ProjectDTO> page = projectService.findAllByCursor(request);
+
+        // Assert - sem COUNT na paginação por cursor
+        assertEquals(PAGE_SIZE, page.getSize());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        page.getContent().forEach(dto -> assertNotNull(dto.getManagerName()));
+    }
+
+    @Test
+    void findAllWithFields_ShouldSkipManagerJoinAndMemberQuery() {
+        // Act
+        Page<Map<String, Object>> page = projectService.findAll(
+                PageRequest.of(0, PAGE_SIZE, Sort.by("name")), null, "name,status,riskClassification");
+
+        // Assert - página e COUNT; nada de membros
+        assertEquals(PAGE_SIZE, page.getNumberOfElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(15, page.getTotalElements());
+        page.forEach(row -> assertEquals(Set.of("id", "name", "status", "riskClassification"), row.keySet()));
+        assertEquals("Projeto 0", page.getContent().get(0).get("name"));
+    }
+
+    @Test
+    void findByMemberIdWithFields_ShouldLoadMemberIdsInOneQuery() {
+        // Act
+        Page<Map<String, Object>> page = projectService.findByMemberId(
+                firstEmployee.getId(), PageRequest.of(0, PAGE_SIZE), "managerName,memberIds");
+
+        // Assert
+        assertEquals(PAGE_SIZE, page.getNumberOfElements());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        page.forEach(row -> {
+            assertNotNull(row.get("managerName"));
+            assertTrue(((Set<?>) row.get("memberIds")).contains(firstEmployee.getId()));
+        });
+    }
+
+    @Test
+    void findByIdWithFields_ShouldRunSingleQuery() {
+        // Act
+        Map<String, Object> row = projectService.findById(firstProject.getId(), "name,description");
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(Set.of("id", "name", "description"), row.keySet());
+    }
+
+    @Test
+    void findAllByCursorWithFields_ShouldContinueFromSortKeyNotRequested() {
+        // Arrange
+        ProjectCursorRequestDTO request = new ProjectCursorRequestDTO();
+        request.setSort("name");
+        request.setSize(PAGE_SIZE);
+
+        // Act
+        CursorPageDTO<Map<String, Object>> first = projectService.findAllByCursor(request, "status");
+        request.setCursor(first.getNextCursor());
+        CursorPageDTO<Map<String, Object>> second = projectService.findAllByCursor(request, "status");
+
+        // Assert
+        assertTrue(first.isHasNext());
+        assertEquals(Set.of("id", "status"), first.getContent().get(0).keySet());
+        assertEquals(5, second.getSize());
+        assertFalse(second.isHasNext());
+    }
+
+    @Test
+    void findAllWithFields_ShouldRejectUnknownField() {
+        // Act & Assert
+        assertThrows(CustomException.class,
+                () -> projectService.findAll(PageRequest.of(0, PAGE_SIZE), null, "name,budget"));
+    }
+
+    private Member persistMember(String name, String assignment) {
+        Member member = new Member();
+        member.setName(name);
+        member.setAssignment(assignment);
+        entityManager.persist(member);
+        return member;
+    }
+
+    private Project persistProject(String name, Member manager, Set<Member> members) {
+        Project project = new Project();
+        project.setName(name);
+        project.setStartDate(LocalDate.now());
+        project.setExpectedEndDate(LocalDate.now().plusMonths(2));
+        project.setTotalBudget(BigDecimal.valueOf(50000));
+        project.setDescription("Descrição " + name);
+        project.setStatus(ProjectStatus.UNDER_REVIEW);
+        project.setManager(manager);
+        project.setMembers(members);
+        entityManager.persist(project);
+        return project;
+    }
+}
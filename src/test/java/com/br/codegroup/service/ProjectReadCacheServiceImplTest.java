@@ -0,0 +1,102 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.config.ProjectCacheProperties;
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.domain.ProjectsChangedEvent;
+import com.br.codegroup.dto.ProjectDTO;
+import com.br.codegroup.service.impl.ProjectReadCacheServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectReadCacheServiceImplTest {
+
+    @Mock
+    private ProjectService projectService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProjectReadCacheServiceImpl projectReadCacheService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        projectReadCacheService = new ProjectReadCacheServiceImpl(projectService,
+                new ObjectMapper().registerModule(new JavaTimeModule()), new ProjectCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void get_WhenCached_ShouldSkipDatabaseAndReuseSerializedJson() {
+        // Arrange
+        when(projectService.findById(1L)).thenReturn(project("Portal", ProjectStatus.PLANNED, 0L));
+
+        // Act
+        ProjectReadCacheService.CachedProject first = projectReadCacheService.get(1L);
+        ProjectReadCacheService.CachedProject second = projectReadCacheService.get(1L);
+
+        // Assert
+        assertSame(first, second);
+        assertTrue(new String(first.json(), StandardCharsets.UTF_8).contains("\"name\":\"Portal\""));
+        assertEquals("LOW_RISK", first.riskClassification());
+        assertEquals("\"0\"", first.eTag());
+        verify(projectService, times(1)).findById(1L);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "project.read").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void onProjectsChanged_ShouldInvalidateAndChangeETag() {
+        // Arrange
+        when(projectService.findById(1L)).thenReturn(
+                project("Portal", ProjectStatus.PLANNED, 0L),
+                project("Portal", ProjectStatus.IN_PROGRESS, 1L));
+        String before = projectReadCacheService.get(1L).eTag();
+
+        // Act
+        projectReadCacheService.onProjectsChanged(new ProjectsChangedEvent(Set.of(1L)));
+        ProjectReadCacheService.CachedProject after = projectReadCacheService.get(1L);
+
+        // Assert
+        assertNotEquals(before, after.eTag());
+        assertTrue(new String(after.json(), StandardCharsets.UTF_8).contains("IN_PROGRESS"));
+        verify(projectService, times(2)).findById(1L);
+    }
+
+    @Test
+    void get_WhenWriteCommitsDuringLoad_ShouldNotKeepStaleEntry() {
+        // Arrange - a escrita é confirmada enquanto a versão antiga ainda está sendo lida
+        when(projectService.findById(1L)).thenAnswer(invocation -> {
+            projectReadCacheService.onProjectsChanged(new ProjectsChangedEvent(Set.of(1L)));
+            return project("Portal", ProjectStatus.PLANNED, 0L);
+        });
+
+        // Act
+        projectReadCacheService.get(1L);
+        projectReadCacheService.get(1L);
+
+        // Assert
+        verify(projectService, times(2)).findById(1L);
+    }
+
+    private ProjectDTO project(String name, ProjectStatus status, Long version) {
+        ProjectDTO project = new ProjectDTO();
+        project.setId(1L);
+        project.setName(name);
+        project.setStatus(status);
+        project.setRiskClassification("LOW_RISK");
+        project.setMemberIds(Set.of(2L));
+        project.setVersion(version);
+        return project;
+    }
+}
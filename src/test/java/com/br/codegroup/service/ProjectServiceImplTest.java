@@ -1,28 +1,50 @@
 package com.br.codegroup.service;
 
+import com.br.codegroup.config.BulkImportProperties;
 import com.br.codegroup.domain.Member;
 import com.br.codegroup.domain.Project;
 import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.dto.BulkImportResultDTO;
+import com.br.codegroup.dto.BulkStatusUpdateRequestDTO;
+import com.br.codegroup.dto.BulkStatusUpdateResultDTO;
+import com.br.codegroup.dto.CursorPageDTO;
 import com.br.codegroup.dto.PortfolioReportDTO;
+import com.br.codegroup.dto.ProjectCursorRequestDTO;
 import com.br.codegroup.dto.ProjectDTO;
 import com.br.codegroup.dto.ProjectRequestDTO;
+import com.br.codegroup.exception.ConflictException;
 import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.exception.PreconditionFailedException;
 import com.br.codegroup.exception.ResourceNotFoundException;
+import com.br.codegroup.mapper.ProjectMapper;
+import com.br.codegroup.repository.MemberCapacityRepository;
+import com.br.codegroup.repository.ProjectBatchRepository;
+import com.br.codegroup.repository.ProjectKeysetQuery;
 import com.br.codegroup.repository.ProjectRepository;
+import com.br.codegroup.repository.ProjectSortKey;
+import com.br.codegroup.repository.ProjectStatsSnapshot;
 import com.br.codegroup.service.MemberService;
 import com.br.codegroup.service.impl.ProjectServiceImpl;
+import com.br.codegroup.workflow.CompleteProjectAction;
+import com.br.codegroup.workflow.ProjectWorkflow;
+import com.br.codegroup.workflow.WorkflowProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.*;
+import jakarta.validation.Validator;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -37,8 +59,36 @@ class ProjectServiceImplTest {
     @Mock
     private MemberService memberService;
 
+    @Spy
+    private ProjectMapper projectMapper = new ProjectMapper();
+
+    @Mock
+    private ProjectBatchRepository projectBatchRepository;
+
+    @Spy
+    private BulkImportProperties bulkImportProperties = new BulkImportProperties();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Validator validator;
+
+    @Spy
+    private ProjectWorkflow projectWorkflow = new ProjectWorkflow(new WorkflowProperties(), List.of(),
+            List.of(new CompleteProjectAction()));
+
+    @Mock
+    private StatusHistoryService statusHistoryService;
+
     @Mock
-    private ModelMapper modelMapper;
+    private PortfolioStatsService portfolioStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private MemberCapacityRepository memberCapacityRepository;
 
     @InjectMocks
     private ProjectServiceImpl projectService;
@@ -110,11 +160,9 @@ class ProjectServiceImplTest {
     @Test
     void createProject_WithValidData_ShouldReturnProjectDTO() {
         // Arrange
-        when(memberService.findById(1L)).thenReturn(manager);
-        when(memberService.findById(2L)).thenReturn(employee);
+        when(memberService.findAllById(Set.of(1L, 2L))).thenReturn(List.of(manager, employee));
+        when(memberCapacityRepository.findActiveProjectCounts(Set.of(2L))).thenReturn(new HashMap<>(Map.of(2L, 1L)));
         when(projectRepository.save(any(Project.class))).thenReturn(project);
-        when(modelMapper.map(any(ProjectRequestDTO.class), eq(Project.class))).thenReturn(project);
-        when(modelMapper.map(any(Project.class), eq(ProjectDTO.class))).thenReturn(projectDTO);
 
         // Act
         ProjectDTO result = projectService.createProject(projectRequestDTO);
@@ -123,18 +171,37 @@ class ProjectServiceImplTest {
         assertNotNull(result);
         assertEquals("Projeto Teste", result.getName());
         verify(projectRepository, times(1)).save(any(Project.class));
-        // 4 chamadas: validateManager (1x), validateEmployee (1x), e no createProject (2x)
-        verify(memberService, times(4)).findById(anyLong());
+        // Gerente e membros carregados em uma única consulta e reaproveitados
+        verify(memberService, times(1)).findAllById(anyCollection());
+        verify(memberService, never()).findById(anyLong());
+        verify(memberCapacityRepository).applyDeltas(Map.of(2L, 1), 3);
+        verify(portfolioStatsService).recordChange(isNull(), any(ProjectStatsSnapshot.class));
+    }
+
+    @Test
+    void createProject_WhenLastSlotTakenConcurrently_ShouldThrowWithoutSaving() {
+        // Arrange - a leitura viu uma vaga, mas outra requisição a reservou antes
+        when(memberService.findAllById(Set.of(1L, 2L))).thenReturn(List.of(manager, employee));
+        when(memberCapacityRepository.findActiveProjectCounts(Set.of(2L))).thenReturn(new HashMap<>(Map.of(2L, 2L)));
+        when(memberCapacityRepository.applyDeltas(Map.of(2L, 1), 3)).thenReturn(List.of(2L));
+
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            projectService.createProject(projectRequestDTO);
+        });
+
+        assertEquals("Membro com ID 2 já está em 3 projetos ativos", exception.getMessage());
+        verify(projectRepository, never()).save(any(Project.class));
     }
 
     @Test
     void createProject_WithInvalidManager_ShouldThrowCustomException() {
         // Arrange
         Member notManager = new Member();
-        notManager.setId(3L);
+        notManager.setId(1L);
         notManager.setAssignment("funcionario");
 
-        when(memberService.findById(1L)).thenReturn(notManager);
+        when(memberService.findAllById(Set.of(1L, 2L))).thenReturn(List.of(notManager, employee));
 
         // Act & Assert
         CustomException exception = assertThrows(CustomException.class, () -> {
@@ -149,11 +216,10 @@ class ProjectServiceImplTest {
     void createProject_WithInvalidEmployee_ShouldThrowCustomException() {
         // Arrange
         Member notEmployee = new Member();
-        notEmployee.setId(3L);
+        notEmployee.setId(2L);
         notEmployee.setAssignment("gerente");
 
-        when(memberService.findById(1L)).thenReturn(manager);
-        when(memberService.findById(2L)).thenReturn(notEmployee);
+        when(memberService.findAllById(Set.of(1L, 2L))).thenReturn(List.of(manager, notEmployee));
 
         // Act & Assert
         CustomException exception = assertThrows(CustomException.class, () -> {
@@ -171,8 +237,6 @@ class ProjectServiceImplTest {
         invalidRequest.setManagerId(1L);
         invalidRequest.setMemberIds(Set.of()); // Lista vazia
 
-        when(memberService.findById(1L)).thenReturn(manager);
-
         // Act & Assert
         CustomException exception = assertThrows(CustomException.class, () -> {
             projectService.createProject(invalidRequest);
@@ -189,8 +253,6 @@ class ProjectServiceImplTest {
         invalidRequest.setManagerId(1L);
         invalidRequest.setMemberIds(Set.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L)); // 11 membros
 
-        when(memberService.findById(1L)).thenReturn(manager);
-
         // Act & Assert
         CustomException exception = assertThrows(CustomException.class, () -> {
             projectService.createProject(invalidRequest);
@@ -200,11 +262,102 @@ class ProjectServiceImplTest {
         verify(projectRepository, never()).save(any(Project.class));
     }
 
+    @Test
+    void createProject_WithSeveralInvalidMembers_ShouldReportAllInOneException() {
+        // Arrange
+        Member busyEmployee = new Member();
+        busyEmployee.setId(3L);
+        busyEmployee.setAssignment("funcionario");
+
+        Member otherManager = new Member();
+        otherManager.setId(4L);
+        otherManager.setAssignment("gerente");
+
+        projectRequestDTO.setMemberIds(Set.of(2L, 3L, 4L));
+
+        when(memberService.findAllById(Set.of(1L, 2L, 3L, 4L)))
+                .thenReturn(List.of(manager, employee, busyEmployee, otherManager));
+        when(memberCapacityRepository.findActiveProjectCounts(Set.of(2L, 3L, 4L)))
+                .thenReturn(new HashMap<>(Map.of(3L, 3L)));
+
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            projectService.createProject(projectRequestDTO);
+        });
+
+        assertEquals("Membro com ID 3 já está em 3 projetos ativos; O membro com ID 4 não é um funcionário",
+                exception.getMessage());
+        verify(projectRepository, never()).save(any(Project.class));
+    }
+
+    @Test
+    void createProject_WithUnknownMembers_ShouldThrowResourceNotFoundException() {
+        // Arrange
+        projectRequestDTO.setMemberIds(Set.of(2L, 8L, 9L));
+
+        when(memberService.findAllById(Set.of(1L, 2L, 8L, 9L))).thenReturn(List.of(manager, employee));
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+            projectService.createProject(projectRequestDTO);
+        });
+
+        assertEquals("Membros não encontrados com IDs: [8, 9]", exception.getMessage());
+        verify(projectRepository, never()).save(any(Project.class));
+    }
+
+    @Test
+    void importProjects_WithInvalidRows_ShouldImportValidRowsAndReportFailures() {
+        // Arrange
+        ProjectRequestDTO withoutMembers = new ProjectRequestDTO();
+        withoutMembers.setManagerId(1L);
+        withoutMembers.setMemberIds(Set.of());
+
+        when(memberService.findAllById(Set.of(1L, 2L))).thenReturn(List.of(manager, employee));
+        when(memberCapacityRepository.findActiveProjectCounts(Set.of(2L))).thenReturn(new HashMap<>(Map.of(2L, 2L)));
+        when(projectBatchRepository.nextProjectIds(1)).thenReturn(List.of(100L));
+
+        // Act - a terceira linha esgota a capacidade do membro consumida pela primeira
+        BulkImportResultDTO result = projectService.importProjects(
+                Arrays.asList(projectRequestDTO, null, withoutMembers, projectRequestDTO), false);
+
+        // Assert
+        assertEquals(4, result.getTotal());
+        assertEquals(1, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(100L, result.getRows().get(0).getProjectId());
+        assertEquals("Linha inválida: não foi possível interpretar o JSON", result.getRows().get(1).getError());
+        assertEquals("O projeto deve ter pelo menos 1 membro", result.getRows().get(2).getError());
+        assertEquals("Membro com ID 2 já está em 3 projetos ativos", result.getRows().get(3).getError());
+        verify(memberService, times(1)).findAllById(anyCollection());
+        verify(projectBatchRepository, times(1)).insertAll(anyList());
+        verify(projectRepository, never()).save(any(Project.class));
+    }
+
+    @Test
+    void importProjects_AllOrNothingWithInvalidRow_ShouldNotWriteAnything() {
+        // Arrange
+        ProjectRequestDTO withoutMembers = new ProjectRequestDTO();
+        withoutMembers.setManagerId(1L);
+        withoutMembers.setMemberIds(Set.of());
+
+        when(memberService.findAllById(Set.of(1L, 2L))).thenReturn(List.of(manager, employee));
+
+        // Act
+        BulkImportResultDTO result = projectService.importProjects(
+                Arrays.asList(projectRequestDTO, withoutMembers), true);
+
+        // Assert
+        assertEquals(0, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals("Importação cancelada: o lote contém linhas inválidas", result.getRows().get(0).getError());
+        verify(projectBatchRepository, never()).insertAll(anyList());
+    }
+
     @Test
     void findById_WithExistingId_ShouldReturnProjectDTO() {
         // Arrange
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(modelMapper.map(any(Project.class), eq(ProjectDTO.class))).thenReturn(projectDTO);
 
         // Act
         ProjectDTO result = projectService.findById(1L);
@@ -231,6 +384,60 @@ class ProjectServiceImplTest {
 
 
 
+    @Test
+    void findAllByCursor_ShouldReturnNextCursorPointingAfterLastRow() {
+        // Arrange
+        Project second = createCompleteProject(ProjectStatus.UNDER_REVIEW);
+        second.setId(2L);
+        second.setName("Projeto | B");
+        Project third = createCompleteProject(ProjectStatus.UNDER_REVIEW);
+        third.setId(3L);
+
+        ProjectCursorRequestDTO firstRequest = new ProjectCursorRequestDTO();
+        firstRequest.setSort("name");
+        firstRequest.setSize(2);
+
+        ArgumentCaptor<ProjectKeysetQuery> captor = ArgumentCaptor.forClass(ProjectKeysetQuery.class);
+        when(projectRepository.findByKeyset(captor.capture()))
+                .thenReturn(new ArrayList<>(List.of(project, second, third)))
+                .thenReturn(new ArrayList<>(List.of(third)));
+
+        // Act
+        CursorPageDTO<ProjectDTO> firstPage = projectService.findAllByCursor(firstRequest);
+
+        ProjectCursorRequestDTO nextRequest = new ProjectCursorRequestDTO();
+        nextRequest.setCursor(firstPage.getNextCursor());
+        nextRequest.setSize(2);
+        CursorPageDTO<ProjectDTO> lastPage = projectService.findAllByCursor(nextRequest);
+
+        // Assert
+        assertEquals(2, firstPage.getSize());
+        assertTrue(firstPage.isHasNext());
+        assertNotNull(firstPage.getNextCursor());
+        assertFalse(lastPage.isHasNext());
+        assertNull(lastPage.getNextCursor());
+
+        ProjectKeysetQuery seek = captor.getAllValues().get(1);
+        assertEquals(ProjectSortKey.NAME, seek.getSortKey());
+        assertTrue(seek.isAscending());
+        assertEquals("Projeto | B", seek.getLastValue());
+        assertEquals(2L, seek.getLastId());
+        assertEquals(3, seek.getLimit());
+        verify(projectRepository, never()).count();
+    }
+
+    @Test
+    void findAll_WithUnindexedSort_ShouldThrowCustomException() {
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            projectService.findAll(PageRequest.of(0, 10, Sort.by("description")), null);
+        });
+
+        assertEquals("Ordenação não suportada pelo campo: description. Use id, name ou startDate",
+                exception.getMessage());
+        verify(projectRepository, never()).findAll(any(Pageable.class));
+    }
+
     @Test
     void deleteProject_WithDeletableStatus_ShouldDeleteProject() {
         // Arrange
@@ -241,8 +448,9 @@ class ProjectServiceImplTest {
         // Act
         projectService.deleteProject(1L);
 
-        // Assert
+        // Assert - o projeto ainda ativo devolve a vaga do membro
         verify(projectRepository, times(1)).delete(deletableProject);
+        verify(memberCapacityRepository).applyDeltas(Map.of(2L, -1), 3);
     }
 
     @Test
@@ -268,15 +476,16 @@ class ProjectServiceImplTest {
         Project existingProject = createCompleteProject(ProjectStatus.UNDER_REVIEW);
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(existingProject));
-        when(projectRepository.save(any(Project.class))).thenReturn(existingProject);
-        when(modelMapper.map(any(Project.class), eq(ProjectDTO.class))).thenReturn(projectDTO);
+        when(projectRepository.saveAndFlush(any(Project.class))).thenReturn(existingProject);
 
         // Act
         ProjectDTO result = projectService.updateProjectStatus(1L, ProjectStatus.REVIEW_COMPLETED);
 
         // Assert
         assertNotNull(result);
-        verify(projectRepository, times(1)).save(existingProject);
+        verify(projectRepository, times(1)).saveAndFlush(existingProject);
+        verify(statusHistoryService).recordTransition(1L, ProjectStatus.UNDER_REVIEW, ProjectStatus.REVIEW_COMPLETED, null);
+        verifyNoInteractions(memberCapacityRepository);
     }
 
     @Test
@@ -292,7 +501,8 @@ class ProjectServiceImplTest {
         });
 
         assertEquals("Transição de status inválida. A sequência deve ser respeitada", exception.getMessage());
-        verify(projectRepository, never()).save(any(Project.class));
+        verify(projectRepository, never()).saveAndFlush(any(Project.class));
+        verifyNoInteractions(statusHistoryService);
     }
 
     @Test
@@ -301,8 +511,7 @@ class ProjectServiceImplTest {
         Project existingProject = createCompleteProject(ProjectStatus.IN_PROGRESS);
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(existingProject));
-        when(projectRepository.save(any(Project.class))).thenReturn(existingProject);
-        when(modelMapper.map(any(Project.class), eq(ProjectDTO.class))).thenReturn(projectDTO);
+        when(projectRepository.saveAndFlush(any(Project.class))).thenReturn(existingProject);
 
         // Act
         projectService.updateProjectStatus(1L, ProjectStatus.COMPLETED);
@@ -310,7 +519,213 @@ class ProjectServiceImplTest {
         // Assert
         assertNotNull(existingProject.getActualEndDate());
         assertEquals(LocalDate.now(), existingProject.getActualEndDate());
-        verify(projectRepository, times(1)).save(existingProject);
+        verify(projectRepository, times(1)).saveAndFlush(existingProject);
+        verify(portfolioStatsService).recordChange(
+                argThat(before -> before.status() == ProjectStatus.IN_PROGRESS && !before.countsAsCompleted()),
+                argThat(ProjectStatsSnapshot::countsAsCompleted));
+        verify(memberCapacityRepository).applyDeltas(Map.of(2L, -1), 3);
+    }
+
+    @Test
+    void updateProject_WithStaleIfMatch_ShouldThrowPreconditionFailedWithoutSaving() {
+        // Arrange
+        Project existingProject = createCompleteProject(ProjectStatus.UNDER_REVIEW);
+        existingProject.setVersion(3L);
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(existingProject));
+
+        // Act & Assert
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class, () ->
+                projectService.updateProject(1L, projectRequestDTO, 2L));
+
+        assertEquals("Projeto 1 está na versão 3, não na versão 2 informada em If-Match", exception.getMessage());
+        verify(projectRepository, never()).saveAndFlush(any(Project.class));
+        verifyNoInteractions(memberCapacityRepository);
+    }
+
+    @Test
+    void updateProjectStatus_WhenConcurrentWriteKeepsStatus_ShouldRetryTransition() {
+        // Arrange - outra escrita alterou só a descrição entre a leitura e o UPDATE
+        Project stale = createCompleteProject(ProjectStatus.UNDER_REVIEW);
+        Project fresh = createCompleteProject(ProjectStatus.UNDER_REVIEW);
+        fresh.setDescription("Descrição alterada");
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(stale), Optional.of(fresh));
+        when(projectRepository.saveAndFlush(any(Project.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Project.class, 1L))
+                .thenReturn(fresh);
+
+        // Act
+        ProjectDTO result = projectService.updateProjectStatus(1L, ProjectStatus.REVIEW_COMPLETED);
+
+        // Assert
+        assertEquals(ProjectStatus.REVIEW_COMPLETED, result.getStatus());
+        assertEquals("Descrição alterada", result.getDescription());
+        verify(projectRepository, times(2)).saveAndFlush(any(Project.class));
+    }
+
+    @Test
+    void updateProjectStatus_WhenStatusChangedConcurrently_ShouldThrowConflict() {
+        // Arrange - outra transição venceu a corrida
+        when(projectRepository.findById(1L)).thenReturn(
+                Optional.of(createCompleteProject(ProjectStatus.UNDER_REVIEW)),
+                Optional.of(createCompleteProject(ProjectStatus.REVIEW_COMPLETED)));
+        when(projectRepository.saveAndFlush(any(Project.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Project.class, 1L));
+
+        // Act & Assert
+        ConflictException exception = assertThrows(ConflictException.class, () ->
+                projectService.updateProjectStatus(1L, ProjectStatus.REVIEW_COMPLETED));
+
+        assertEquals("Status do projeto alterado concorrentemente", exception.getMessage());
+        verify(projectRepository, times(1)).saveAndFlush(any(Project.class));
+    }
+
+    @Test
+    void updateProjectStatus_WithIfMatchAndConcurrentWrite_ShouldThrowPreconditionFailedWithoutRetry() {
+        // Arrange
+        Project existingProject = createCompleteProject(ProjectStatus.UNDER_REVIEW);
+        existingProject.setVersion(5L);
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(existingProject));
+        when(projectRepository.saveAndFlush(any(Project.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Project.class, 1L));
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () ->
+                projectService.updateProjectStatus(1L, ProjectStatus.REVIEW_COMPLETED, null, 5L));
+        verify(projectRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void updateProjectsStatus_WithIds_ShouldApplyOneUpdatePerSourceStatus() {
+        // Arrange
+        BulkStatusUpdateRequestDTO request = new BulkStatusUpdateRequestDTO();
+        request.setIds(List.of(1L, 2L, 3L, 4L, 99L));
+        request.setNewStatus(ProjectStatus.REVIEW_COMPLETED);
+
+        when(projectRepository.findStatusesByIds(request.getIds())).thenReturn(Arrays.asList(
+                new Object[]{1L, ProjectStatus.UNDER_REVIEW},
+                new Object[]{2L, ProjectStatus.UNDER_REVIEW},
+                new Object[]{3L, ProjectStatus.IN_PROGRESS},
+                new Object[]{4L, ProjectStatus.UNDER_REVIEW}));
+        when(projectRepository.updateStatusInBulk(eq(List.of(1L, 2L, 4L)), eq(ProjectStatus.UNDER_REVIEW),
+                eq(ProjectStatus.REVIEW_COMPLETED), any())).thenReturn(3);
+
+        // Act
+        BulkStatusUpdateResultDTO result = projectService.updateProjectsStatus(request);
+
+        // Assert
+        assertEquals(5, result.getTotal());
+        assertEquals(3, result.getAccepted());
+        assertEquals(2, result.getRejected());
+        assertTrue(result.getResults().get(0).isAccepted());
+        assertEquals("Transição de status inválida. A sequência deve ser respeitada",
+                result.getResults().get(2).getError());
+        assertEquals("Projeto não encontrado com ID: 99", result.getResults().get(4).getError());
+        verify(projectRepository, times(1)).updateStatusInBulk(anyCollection(), any(), any(), any());
+        verify(projectRepository, never()).save(any(Project.class));
+        verify(statusHistoryService).recordTransitions(Map.of(
+                1L, ProjectStatus.UNDER_REVIEW,
+                2L, ProjectStatus.UNDER_REVIEW,
+                4L, ProjectStatus.UNDER_REVIEW), ProjectStatus.REVIEW_COMPLETED, null);
+    }
+
+    @Test
+    void updateProjectsStatus_ToCompleted_ShouldSetActualEndDate() {
+        // Arrange
+        BulkStatusUpdateRequestDTO request = new BulkStatusUpdateRequestDTO();
+        request.setManagerId(1L);
+        request.setNewStatus(ProjectStatus.COMPLETED);
+
+        when(projectRepository.findStatusesByFilter(null, 1L)).thenReturn(Arrays.asList(
+                new Object[]{1L, ProjectStatus.IN_PROGRESS},
+                new Object[]{2L, ProjectStatus.PLANNED}));
+        when(projectRepository.completeInBulk(eq(List.of(1L)), eq(ProjectStatus.IN_PROGRESS),
+                eq(ProjectStatus.COMPLETED), eq(LocalDate.now()), any())).thenReturn(1);
+        when(projectRepository.findMemberIdsByProjectIds(List.of(1L))).thenReturn(Arrays.asList(
+                new Object[]{1L, 2L},
+                new Object[]{1L, 5L}));
+
+        // Act
+        BulkStatusUpdateResultDTO result = projectService.updateProjectsStatus(request);
+
+        // Assert
+        assertEquals(1, result.getAccepted());
+        assertEquals(1, result.getRejected());
+        verify(projectRepository, never()).updateStatusInBulk(anyCollection(), any(), any(), any());
+        verify(memberCapacityRepository).applyDeltas(Map.of(2L, -1, 5L, -1), 3);
+    }
+
+    @Test
+    void updateProjectsStatus_WhenConcurrentRequestReachedTargetFirst_ShouldRejectRowNotUpdated() {
+        // Arrange - o projeto 2 foi cancelado por outra requisição entre a leitura e o UPDATE
+        BulkStatusUpdateRequestDTO request = new BulkStatusUpdateRequestDTO();
+        request.setIds(List.of(1L, 2L));
+        request.setNewStatus(ProjectStatus.CANCELLED);
+
+        when(projectRepository.findStatusesByIds(request.getIds())).thenReturn(Arrays.asList(
+                new Object[]{1L, ProjectStatus.IN_PROGRESS},
+                new Object[]{2L, ProjectStatus.IN_PROGRESS}));
+        when(projectRepository.updateStatusInBulk(eq(List.of(1L, 2L)), eq(ProjectStatus.IN_PROGRESS),
+                eq(ProjectStatus.CANCELLED), any())).thenReturn(1);
+        when(projectRepository.findIdsUpdatedAt(eq(List.of(1L, 2L)), any())).thenReturn(List.of(1L));
+        when(projectRepository.findMemberIdsByProjectIds(List.of(1L))).thenReturn(
+                Collections.singletonList(new Object[]{1L, 5L}));
+
+        // Act
+        BulkStatusUpdateResultDTO result = projectService.updateProjectsStatus(request);
+
+        // Assert
+        assertEquals(1, result.getAccepted());
+        assertEquals("Status do projeto alterado concorrentemente", result.getResults().get(1).getError());
+        verify(statusHistoryService).recordTransitions(
+                Map.of(1L, ProjectStatus.IN_PROGRESS), ProjectStatus.CANCELLED, null);
+        verify(projectRepository).findStatsFieldsByIds(Set.of(1L));
+        verify(memberCapacityRepository).applyDeltas(Map.of(5L, -1), 3);
+    }
+
+    @Test
+    void updateProjectsStatus_WithGuardAndStatusChangedSinceRead_ShouldRejectRowAsConcurrent() {
+        // Arrange - o projeto 1 foi concluído entre a leitura dos status e a carga para as guardas
+        BulkStatusUpdateRequestDTO request = new BulkStatusUpdateRequestDTO();
+        request.setIds(List.of(1L, 2L));
+        request.setNewStatus(ProjectStatus.CANCELLED);
+
+        when(projectRepository.findStatusesByIds(request.getIds())).thenReturn(Arrays.asList(
+                new Object[]{1L, ProjectStatus.IN_PROGRESS},
+                new Object[]{2L, ProjectStatus.IN_PROGRESS}));
+        project.setStatus(ProjectStatus.COMPLETED);
+        Project other = new Project();
+        other.setId(2L);
+        other.setStatus(ProjectStatus.IN_PROGRESS);
+        when(projectRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(project, other));
+        doReturn(true).when(projectWorkflow).hasGuards(ProjectStatus.CANCELLED);
+        doReturn("Bloqueado pela guarda").when(projectWorkflow).checkGuards(other, ProjectStatus.CANCELLED);
+
+        // Act
+        BulkStatusUpdateResultDTO result = projectService.updateProjectsStatus(request);
+
+        // Assert
+        assertEquals(0, result.getAccepted());
+        assertEquals("Status do projeto alterado concorrentemente", result.getResults().get(0).getError());
+        assertEquals("Bloqueado pela guarda", result.getResults().get(1).getError());
+        verify(projectWorkflow, never()).checkGuards(project, ProjectStatus.CANCELLED);
+        verify(projectRepository, never()).updateStatusInBulk(anyCollection(), any(), any(), any());
+    }
+
+    @Test
+    void updateProjectsStatus_WithoutIdsOrFilter_ShouldThrowCustomException() {
+        // Arrange
+        BulkStatusUpdateRequestDTO request = new BulkStatusUpdateRequestDTO();
+        request.setNewStatus(ProjectStatus.CANCELLED);
+
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            projectService.updateProjectsStatus(request);
+        });
+
+        assertEquals("Informe os IDs dos projetos ou um filtro por status ou gerente", exception.getMessage());
     }
 
     @Test
@@ -342,62 +757,41 @@ class ProjectServiceImplTest {
     @Test
     void isMemberAvailableForProject_WithAvailableMember_ShouldReturnTrue() {
         // Arrange
-        when(projectRepository.countActiveProjectsByMemberId(1L)).thenReturn(2L);
+        when(memberCapacityRepository.findActiveProjectCount(1L)).thenReturn(2);
 
         // Act
         boolean result = projectService.isMemberAvailableForProject(1L);
 
         // Assert
         assertTrue(result);
-        verify(projectRepository, times(1)).countActiveProjectsByMemberId(1L);
+        verify(memberCapacityRepository, times(1)).findActiveProjectCount(1L);
     }
 
     @Test
     void isMemberAvailableForProject_WithUnavailableMember_ShouldReturnFalse() {
         // Arrange
-        when(projectRepository.countActiveProjectsByMemberId(1L)).thenReturn(3L);
+        when(memberCapacityRepository.findActiveProjectCount(1L)).thenReturn(3);
 
         // Act
         boolean result = projectService.isMemberAvailableForProject(1L);
 
         // Assert
         assertFalse(result);
-        verify(projectRepository, times(1)).countActiveProjectsByMemberId(1L);
+        verify(memberCapacityRepository, times(1)).findActiveProjectCount(1L);
     }
 
     @Test
-    void generatePortfolioReport_ShouldReturnReportDTO() {
+    void generatePortfolioReport_ShouldReadMaintainedStats() {
         // Arrange
-        List<Object[]> countList = Arrays.asList(
-                new Object[]{ProjectStatus.UNDER_REVIEW, 5L},
-                new Object[]{ProjectStatus.STARTED, 3L}
-        );
-
-        List<Object[]> budgetList = Arrays.asList(
-                new Object[]{ProjectStatus.UNDER_REVIEW, BigDecimal.valueOf(100000)},
-                new Object[]{ProjectStatus.STARTED, BigDecimal.valueOf(200000)}
-        );
-
-        when(projectRepository.countProjectsByStatus()).thenReturn(countList);
-        when(projectRepository.sumBudgetByStatus()).thenReturn(budgetList);
-        when(projectRepository.averageDurationOfFinishedProjects()).thenReturn(30.5);
-        when(projectRepository.countDistinctMembersInProjects()).thenReturn(25L);
+        PortfolioReportDTO report = new PortfolioReportDTO();
+        report.setUniqueMembersCount(25L);
+        when(portfolioStatsService.getReport()).thenReturn(report);
 
         // Act
         PortfolioReportDTO result = projectService.generatePortfolioReport();
 
         // Assert
-        assertNotNull(result);
-        assertEquals(5L, result.getProjectsByStatus().get("em análise"));
-        assertEquals(3L, result.getProjectsByStatus().get("iniciado"));
-        assertEquals(BigDecimal.valueOf(100000), result.getBudgetByStatus().get("em análise"));
-        assertEquals(BigDecimal.valueOf(200000), result.getBudgetByStatus().get("iniciado"));
-        assertEquals(30.5, result.getAverageDurationDays());
-        assertEquals(25L, result.getUniqueMembersCount());
-
-        verify(projectRepository, times(1)).countProjectsByStatus();
-        verify(projectRepository, times(1)).sumBudgetByStatus();
-        verify(projectRepository, times(1)).averageDurationOfFinishedProjects();
-        verify(projectRepository, times(1)).countDistinctMembersInProjects();
+        assertSame(report, result);
+        verifyNoInteractions(projectRepository);
     }
 }
\ No newline at end of file
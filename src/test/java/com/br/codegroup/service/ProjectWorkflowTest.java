@@ -0,0 +1,114 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.domain.Project;
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.workflow.CompleteProjectAction;
+import com.br.codegroup.workflow.ProjectWorkflow;
+import com.br.codegroup.workflow.TransitionGuard;
+import com.br.codegroup.workflow.WorkflowProperties;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectWorkflowTest {
+
+    private final ProjectWorkflow defaultWorkflow = new ProjectWorkflow(new WorkflowProperties(), List.of(),
+            List.of(new CompleteProjectAction()));
+
+    @Test
+    void canTransition_WithDefaultConfiguration_ShouldFollowLinearSequence() {
+        assertTrue(defaultWorkflow.canTransition(ProjectStatus.UNDER_REVIEW, ProjectStatus.REVIEW_COMPLETED));
+        assertTrue(defaultWorkflow.canTransition(ProjectStatus.IN_PROGRESS, ProjectStatus.COMPLETED));
+        assertFalse(defaultWorkflow.canTransition(ProjectStatus.UNDER_REVIEW, ProjectStatus.IN_PROGRESS));
+        assertFalse(defaultWorkflow.canTransition(ProjectStatus.REVIEW_COMPLETED, ProjectStatus.UNDER_REVIEW));
+        assertFalse(defaultWorkflow.canTransition(ProjectStatus.COMPLETED, ProjectStatus.COMPLETED));
+        assertTrue(defaultWorkflow.canTransition(ProjectStatus.COMPLETED, ProjectStatus.CANCELLED));
+        assertTrue(defaultWorkflow.canTransition(ProjectStatus.CANCELLED, ProjectStatus.CANCELLED));
+    }
+
+    @Test
+    void nextStatuses_ShouldIncludeAnyTimeStatuses() {
+        assertEquals(EnumSet.of(ProjectStatus.PLANNED, ProjectStatus.CANCELLED),
+                defaultWorkflow.nextStatuses(ProjectStatus.STARTED));
+        assertEquals(EnumSet.of(ProjectStatus.CANCELLED), defaultWorkflow.nextStatuses(ProjectStatus.COMPLETED));
+        assertThrows(UnsupportedOperationException.class,
+                () -> defaultWorkflow.nextStatuses(ProjectStatus.STARTED).add(ProjectStatus.COMPLETED));
+    }
+
+    @Test
+    void isLocked_ShouldUseConfiguredStatuses() {
+        assertTrue(defaultWorkflow.isLocked(ProjectStatus.STARTED));
+        assertTrue(defaultWorkflow.isLocked(ProjectStatus.IN_PROGRESS));
+        assertTrue(defaultWorkflow.isLocked(ProjectStatus.COMPLETED));
+        assertFalse(defaultWorkflow.isLocked(ProjectStatus.UNDER_REVIEW));
+        assertFalse(defaultWorkflow.isLocked(ProjectStatus.CANCELLED));
+    }
+
+    @Test
+    void canTransition_WithCustomTransitions_ShouldAllowConfiguredShortcut() {
+        WorkflowProperties properties = new WorkflowProperties();
+        properties.getTransitions().put(ProjectStatus.REVIEW_APPROVED,
+                EnumSet.of(ProjectStatus.STARTED, ProjectStatus.PLANNED));
+        ProjectWorkflow workflow = new ProjectWorkflow(properties, List.of(), List.of());
+
+        assertTrue(workflow.canTransition(ProjectStatus.REVIEW_APPROVED, ProjectStatus.PLANNED));
+        assertEquals(Set.of(ProjectStatus.STARTED, ProjectStatus.PLANNED, ProjectStatus.CANCELLED),
+                workflow.nextStatuses(ProjectStatus.REVIEW_APPROVED));
+    }
+
+    @Test
+    void transition_ToCompleted_ShouldApplyAction() {
+        Project project = new Project();
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+
+        defaultWorkflow.transition(project, ProjectStatus.COMPLETED);
+
+        assertEquals(ProjectStatus.COMPLETED, project.getStatus());
+        assertEquals(LocalDate.now(), project.getActualEndDate());
+    }
+
+    @Test
+    void transition_WithFailingGuard_ShouldThrowCustomExceptionAndKeepStatus() {
+        TransitionGuard budgetGuard = new TransitionGuard() {
+            @Override
+            public ProjectStatus target() {
+                return ProjectStatus.STARTED;
+            }
+
+            @Override
+            public String check(Project project) {
+                return project.getTotalBudget() == null ? "Projeto sem orçamento não pode ser iniciado" : null;
+            }
+        };
+        ProjectWorkflow workflow = new ProjectWorkflow(new WorkflowProperties(), List.of(budgetGuard), List.of());
+
+        Project project = new Project();
+        project.setStatus(ProjectStatus.REVIEW_APPROVED);
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> workflow.transition(project, ProjectStatus.STARTED));
+        assertEquals("Projeto sem orçamento não pode ser iniciado", exception.getMessage());
+        assertEquals(ProjectStatus.REVIEW_APPROVED, project.getStatus());
+
+        project.setTotalBudget(new BigDecimal("1000.00"));
+        workflow.transition(project, ProjectStatus.STARTED);
+        assertEquals(ProjectStatus.STARTED, project.getStatus());
+    }
+
+    @Test
+    void transition_WithInvalidSequence_ShouldThrowCustomException() {
+        Project project = new Project();
+        project.setStatus(ProjectStatus.UNDER_REVIEW);
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> defaultWorkflow.transition(project, ProjectStatus.IN_PROGRESS));
+        assertEquals("Transição de status inválida. A sequência deve ser respeitada", exception.getMessage());
+    }
+}
@@ -0,0 +1,145 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.config.RiskProperties;
+import com.br.codegroup.domain.Project;
+import com.br.codegroup.domain.RiskClassification;
+import com.br.codegroup.domain.RiskPolicy;
+import com.br.codegroup.dto.RiskEvaluationRequestDTO;
+import com.br.codegroup.dto.RiskEvaluationResultDTO;
+import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.repository.ProjectRepository;
+import com.br.codegroup.service.impl.RiskCalculatorServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class RiskCalculatorServiceImplTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 15);
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private RiskProperties riskProperties;
+    private RiskCalculatorServiceImpl riskCalculatorService;
+
+    @BeforeEach
+    void setUp() {
+        riskProperties = new RiskProperties();
+        riskCalculatorService = new RiskCalculatorServiceImpl(projectRepository, RiskPolicy.DEFAULT, riskProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RiskPolicy.activate(RiskPolicy.DEFAULT);
+    }
+
+    @Test
+    void calculateRisk_AtBoundaries_ShouldKeepInclusiveLimits() {
+        // Assert
+        assertEquals("Baixo risco", riskCalculatorService.calculateRisk(new BigDecimal("100000.00"), START, START.plusMonths(3)));
+        assertEquals("Médio risco", riskCalculatorService.calculateRisk(new BigDecimal("100000.01"), START, START.plusMonths(3)));
+        assertEquals("Médio risco", riskCalculatorService.calculateRisk(new BigDecimal("1000"), START, START.plusMonths(6)));
+        assertEquals("Alto risco", riskCalculatorService.calculateRisk(new BigDecimal("1000"), START, START.plusMonths(7)));
+        assertEquals("Alto risco", riskCalculatorService.calculateRisk(new BigDecimal("500000.001"), START, START.plusMonths(1)));
+    }
+
+    @Test
+    void calculateRisk_WithBudgetInMediumBandAndLongDeadline_ShouldKeepMediumPrecedence() {
+        // Faixa média é avaliada antes da alta, como na regra original
+        assertEquals("Médio risco", riskCalculatorService.calculateRisk(new BigDecimal("300000"), START, START.plusMonths(12)));
+    }
+
+    @Test
+    void calculateRiskClassification_ShouldUseActivePolicy() {
+        // Arrange
+        Project project = new Project();
+        project.setTotalBudget(new BigDecimal("150000"));
+        project.setStartDate(START);
+        project.setExpectedEndDate(START.plusMonths(2));
+
+        // Act
+        project.calculateRiskClassification();
+        RiskClassification withDefault = project.getRiskClassification();
+        RiskPolicy.activate(new RiskPolicy(new BigDecimal("200000"), new BigDecimal("500000"), 3, 6));
+        project.calculateRiskClassification();
+
+        // Assert
+        assertEquals(RiskClassification.MEDIUM_RISK, withDefault);
+        assertEquals(RiskClassification.LOW_RISK, project.getRiskClassification());
+    }
+
+    @Test
+    void riskPolicy_WithLowLimitAboveMedium_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RiskPolicy(new BigDecimal("600000"), new BigDecimal("500000"), 3, 6));
+    }
+
+    @Test
+    void evaluate_ShouldReturnOneResultPerScenarioInOrder() {
+        // Arrange
+        RiskEvaluationRequestDTO negative = scenario(new BigDecimal("-1"), 2);
+        RiskEvaluationRequestDTO incomplete = new RiskEvaluationRequestDTO();
+
+        // Act
+        List<RiskEvaluationResultDTO> results = riskCalculatorService.evaluate(Arrays.asList(
+                scenario(new BigDecimal("50000"), 2),
+                negative,
+                scenario(new BigDecimal("900000"), 2),
+                incomplete,
+                null));
+
+        // Assert
+        assertEquals(5, results.size());
+        assertEquals("LOW_RISK", results.get(0).getRiskClassification());
+        assertEquals("Baixo risco", results.get(0).getDisplayName());
+        assertEquals("O orçamento não pode ser negativo", results.get(1).getError());
+        assertEquals("HIGH_RISK", results.get(2).getRiskClassification());
+        assertNotNull(results.get(3).getError());
+        assertNotNull(results.get(4).getError());
+        assertEquals(4, results.get(4).getIndex());
+    }
+
+    @Test
+    void evaluate_WithBudgetAboveColumnRange_ShouldRejectOnlyThatScenario() {
+        // Act - 1e20 não cabe em centavos (long) nem em NUMERIC(15,2)
+        List<RiskEvaluationResultDTO> results = riskCalculatorService.evaluate(Arrays.asList(
+                scenario(new BigDecimal("1e20"), 2),
+                scenario(RiskPolicy.MAX_BUDGET, 2)));
+
+        // Assert
+        assertEquals("O orçamento não pode ser maior que 9999999999999.99", results.get(0).getError());
+        assertNull(results.get(0).getRiskClassification());
+        assertEquals("HIGH_RISK", results.get(1).getRiskClassification());
+    }
+
+    @Test
+    void evaluate_AboveMaxBatchSize_ShouldThrowCustomException() {
+        // Arrange
+        riskProperties.setMaxBatchSize(2);
+
+        // Act & Assert
+        assertThrows(CustomException.class, () -> riskCalculatorService.evaluate(
+                Collections.nCopies(3, scenario(BigDecimal.ONE, 1))));
+    }
+
+    private RiskEvaluationRequestDTO scenario(BigDecimal budget, int months) {
+        RiskEvaluationRequestDTO scenario = new RiskEvaluationRequestDTO();
+        scenario.setBudget(budget);
+        scenario.setStartDate(START);
+        scenario.setExpectedEndDate(START.plusMonths(months));
+        return scenario;
+    }
+}
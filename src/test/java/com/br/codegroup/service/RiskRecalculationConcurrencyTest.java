@@ -0,0 +1,148 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.config.RiskConfig;
+import com.br.codegroup.config.RiskProperties;
+import com.br.codegroup.domain.Member;
+import com.br.codegroup.domain.Project;
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.domain.RiskClassification;
+import com.br.codegroup.dto.RiskRecalculationStatusDTO;
+import com.br.codegroup.dto.RiskRecalculationStatusDTO.State;
+import com.br.codegroup.repository.MemberRepository;
+import com.br.codegroup.repository.ProjectRepository;
+import com.br.codegroup.repository.ProjectRiskRepository;
+import com.br.codegroup.service.impl.RiskRecalculationServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Reclassificação contra um banco real: uma edição confirmada entre a leitura do bloco e a
+ * gravação não pode ter o risco sobrescrito com o valor calculado a partir dos dados antigos.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({RiskRecalculationServiceImpl.class, ProjectRiskRepository.class, RiskConfig.class, RiskProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RiskRecalculationConcurrencyTest {
+
+    @Autowired
+    private RiskRecalculationService riskRecalculationService;
+
+    @Autowired
+    private RiskProperties riskProperties;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoSpyBean
+    private ProjectRiskRepository projectRiskRepository;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM project_members");
+        jdbcTemplate.update("DELETE FROM projects");
+        jdbcTemplate.update("DELETE FROM members");
+        riskProperties.getRecalculation().setPauseMs(0);
+
+        Member manager = new Member();
+        manager.setName("Gerente");
+        manager.setAssignment("gerente");
+        manager = memberRepository.save(manager);
+
+        Project project = new Project();
+        project.setName("Portal");
+        project.setStartDate(LocalDate.of(2025, 1, 1));
+        project.setExpectedEndDate(LocalDate.of(2025, 3, 1));
+        project.setTotalBudget(new BigDecimal("50000"));
+        project.setStatus(ProjectStatus.UNDER_REVIEW);
+        project.setManager(manager);
+        projectId = projectRepository.save(project).getId();
+
+        // Classificação gravada por uma política anterior: a reclassificação vai querer LOW_RISK
+        jdbcTemplate.update("UPDATE projects SET risk_classification = 'HIGH_RISK' WHERE id = ?", projectId);
+    }
+
+    @Test
+    void start_WhenProjectEditedBetweenReadAndWrite_ShouldKeepClassificationFromTheEdit() throws Exception {
+        // Arrange - um PUT eleva o orçamento (e o risco) logo depois que o bloco foi lido
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        doAnswer(invocation -> {
+            Object rows = invocation.callRealMethod();
+            transactionTemplate.executeWithoutResult(tx -> projectRepository.findById(projectId)
+                    .orElseThrow()
+                    .setTotalBudget(new BigDecimal("900000")));
+            return rows;
+        }).when(projectRiskRepository).findChunkAfter(eq(0L), anyInt());
+
+        // Act
+        riskRecalculationService.start(null);
+        RiskRecalculationStatusDTO status = awaitFinished();
+
+        // Assert
+        assertEquals(State.COMPLETED, status.getState());
+        assertEquals(0, status.getUpdated());
+        assertEquals(1, status.getSkipped());
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT total_budget, risk_classification, version FROM projects WHERE id = ?", projectId);
+        assertEquals(0, new BigDecimal("900000").compareTo((BigDecimal) row.get("total_budget")));
+        assertEquals(RiskClassification.HIGH_RISK.name(), row.get("risk_classification"));
+        assertEquals(1L, ((Number) row.get("version")).longValue());
+    }
+
+    @Test
+    void start_WithoutConcurrentEdit_ShouldRewriteStaleClassification() throws Exception {
+        // Act
+        riskRecalculationService.start(null);
+        RiskRecalculationStatusDTO status = awaitFinished();
+
+        // Assert
+        assertEquals(1, status.getUpdated());
+        assertEquals(0, status.getSkipped());
+        assertEquals(RiskClassification.LOW_RISK.name(), jdbcTemplate.queryForObject(
+                "SELECT risk_classification FROM projects WHERE id = ?", String.class, projectId));
+    }
+
+    private RiskRecalculationStatusDTO awaitFinished() throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            RiskRecalculationStatusDTO status = riskRecalculationService.getStatus();
+            if (status.getState() != State.RUNNING) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        fail("A reclassificação não terminou a tempo");
+        return null;
+    }
+}
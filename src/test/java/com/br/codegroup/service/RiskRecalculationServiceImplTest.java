@@ -0,0 +1,161 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.config.RiskProperties;
+import com.br.codegroup.domain.ProjectsChangedEvent;
+import com.br.codegroup.domain.RiskClassification;
+import com.br.codegroup.domain.RiskPolicy;
+import com.br.codegroup.dto.RiskRecalculationStatusDTO;
+import com.br.codegroup.dto.RiskRecalculationStatusDTO.State;
+import com.br.codegroup.repository.ProjectRiskChange;
+import com.br.codegroup.repository.ProjectRiskRepository;
+import com.br.codegroup.repository.ProjectRiskRow;
+import com.br.codegroup.service.impl.RiskRecalculationServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RiskRecalculationServiceImplTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private ProjectRiskRepository projectRiskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private RiskProperties riskProperties;
+    private RiskRecalculationServiceImpl riskRecalculationService;
+
+    @BeforeEach
+    void setUp() {
+        riskProperties = new RiskProperties();
+        riskProperties.getRecalculation().setChunkSize(2);
+        riskProperties.getRecalculation().setPauseMs(0);
+        riskRecalculationService = new RiskRecalculationServiceImpl(
+                projectRiskRepository, RiskPolicy.DEFAULT, riskProperties, transactionManager, eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        riskRecalculationService.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void start_ShouldWriteOnlyChangedRowsChunkByChunk() throws InterruptedException {
+        // Arrange - o segundo projeto já está correto; os outros estão desatualizados
+        when(projectRiskRepository.findChunkAfter(0L, 2)).thenReturn(List.of(
+                row(1L, "50000", 2, RiskClassification.HIGH_RISK),
+                row(2L, "50000", 2, RiskClassification.LOW_RISK)));
+        when(projectRiskRepository.findChunkAfter(2L, 2)).thenReturn(List.of(
+                row(3L, "900000", 2, RiskClassification.MEDIUM_RISK)));
+        when(projectRiskRepository.updateRiskClassifications(anyList(), any()))
+                .thenReturn(List.of(1L), List.of(3L));
+
+        // Act
+        riskRecalculationService.start(null);
+        RiskRecalculationStatusDTO status = awaitFinished();
+
+        // Assert
+        assertEquals(State.COMPLETED, status.getState());
+        assertEquals(3, status.getScanned());
+        assertEquals(2, status.getUpdated());
+        assertEquals(0, status.getSkipped());
+        assertEquals(3L, status.getLastProcessedId());
+
+        ArgumentCaptor<List<ProjectRiskChange>> captor = ArgumentCaptor.forClass(List.class);
+        verify(projectRiskRepository, times(2)).updateRiskClassifications(captor.capture(), any());
+        assertEquals(List.of(new ProjectRiskChange(1L, 4L, RiskClassification.LOW_RISK)), captor.getAllValues().get(0));
+        assertEquals(List.of(new ProjectRiskChange(3L, 4L, RiskClassification.HIGH_RISK)), captor.getAllValues().get(1));
+    }
+
+    @Test
+    void start_WhenRowChangedSinceRead_ShouldSkipItAndNotPublishIt() throws InterruptedException {
+        // Arrange - o projeto 2 foi editado entre a leitura e a gravação; o UPDATE com versão não o alcança
+        when(projectRiskRepository.findChunkAfter(0L, 2)).thenReturn(List.of(
+                row(1L, "50000", 2, RiskClassification.HIGH_RISK),
+                row(2L, "50000", 2, RiskClassification.HIGH_RISK)));
+        when(projectRiskRepository.findChunkAfter(2L, 2)).thenReturn(List.of());
+        when(projectRiskRepository.updateRiskClassifications(anyList(), any())).thenReturn(List.of(1L));
+
+        // Act
+        riskRecalculationService.start(null);
+        RiskRecalculationStatusDTO status = awaitFinished();
+
+        // Assert
+        assertEquals(State.COMPLETED, status.getState());
+        assertEquals(1, status.getUpdated());
+        assertEquals(1, status.getSkipped());
+        verify(eventPublisher).publishEvent(new ProjectsChangedEvent(Set.of(1L)));
+    }
+
+    @Test
+    void start_WithFromId_ShouldResumeAfterThatId() throws InterruptedException {
+        // Arrange
+        when(projectRiskRepository.findChunkAfter(40L, 2)).thenReturn(List.of());
+
+        // Act
+        riskRecalculationService.start(40L);
+        RiskRecalculationStatusDTO status = awaitFinished();
+
+        // Assert
+        assertEquals(State.COMPLETED, status.getState());
+        assertEquals(40L, status.getFromId());
+        assertEquals(0, status.getScanned());
+        verify(projectRiskRepository, never()).updateRiskClassifications(anyList(), any());
+    }
+
+    @Test
+    void start_WhenChunkFails_ShouldKeepLastCommittedIdForResume() throws InterruptedException {
+        // Arrange
+        when(projectRiskRepository.findChunkAfter(0L, 2)).thenReturn(List.of(
+                row(1L, "50000", 2, RiskClassification.LOW_RISK),
+                row(2L, "50000", 2, RiskClassification.LOW_RISK)));
+        when(projectRiskRepository.findChunkAfter(2L, 2)).thenThrow(new IllegalStateException("conexão perdida"));
+
+        // Act
+        riskRecalculationService.start(null);
+        RiskRecalculationStatusDTO status = awaitFinished();
+
+        // Assert
+        assertEquals(State.FAILED, status.getState());
+        assertEquals(2L, status.getLastProcessedId());
+        assertEquals("conexão perdida", status.getError());
+    }
+
+    private RiskRecalculationStatusDTO awaitFinished() throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            RiskRecalculationStatusDTO status = riskRecalculationService.getStatus();
+            if (status.getState() != State.RUNNING) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        fail("A reclassificação não terminou a tempo");
+        return null;
+    }
+
+    private ProjectRiskRow row(long id, String budget, int months, RiskClassification stored) {
+        return new ProjectRiskRow(id, new BigDecimal(budget), START, START.plusMonths(months), stored, 4L);
+    }
+}
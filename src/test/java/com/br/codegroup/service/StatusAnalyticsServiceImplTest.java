@@ -0,0 +1,138 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.config.AnalyticsProperties;
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.dto.CycleTimeReportDTO;
+import com.br.codegroup.dto.FunnelReportDTO;
+import com.br.codegroup.dto.FunnelStageDTO;
+import com.br.codegroup.dto.StatusCycleTimeDTO;
+import com.br.codegroup.exception.CustomException;
+import com.br.codegroup.repository.StatusAnalyticsRepository;
+import com.br.codegroup.repository.StatusTransitionStats;
+import com.br.codegroup.service.impl.StatusAnalyticsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatusAnalyticsServiceImplTest {
+
+    private static final double DAY = 86400.0;
+
+    @Mock
+    private StatusAnalyticsRepository statusAnalyticsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AnalyticsProperties analyticsProperties;
+    private StatusAnalyticsServiceImpl statusAnalyticsService;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        analyticsProperties = new AnalyticsProperties();
+        analyticsProperties.setRollupGraceMinutes(0);
+        statusAnalyticsService = new StatusAnalyticsServiceImpl(statusAnalyticsRepository, analyticsProperties,
+                transactionManager);
+        today = LocalDate.now();
+    }
+
+    @Test
+    void getCycleTime_ShouldMergeRolledUpDaysWithLiveWindow() {
+        // Arrange
+        LocalDate from = today.minusDays(9);
+        when(statusAnalyticsRepository.findRolledUpUntil()).thenReturn(Optional.of(today));
+        when(statusAnalyticsRepository.sumDaily(from, today)).thenReturn(List.of(
+                new StatusTransitionStats(ProjectStatus.REVIEW_COMPLETED, ProjectStatus.REVIEW_APPROVED, 3, 9 * DAY, 5 * DAY)));
+        when(statusAnalyticsRepository.computeLive(today.atStartOfDay(), today.plusDays(1).atStartOfDay())).thenReturn(List.of(
+                new StatusTransitionStats(ProjectStatus.REVIEW_COMPLETED, ProjectStatus.REVIEW_APPROVED, 1, 3 * DAY, 3 * DAY),
+                new StatusTransitionStats(ProjectStatus.REVIEW_COMPLETED, ProjectStatus.CANCELLED, 1, 8 * DAY, 8 * DAY)));
+
+        // Act
+        CycleTimeReportDTO report = statusAnalyticsService.getCycleTime(from, today);
+
+        // Assert
+        assertEquals(1, report.getStatuses().size());
+        StatusCycleTimeDTO reviewCompleted = report.getStatuses().get(0);
+        assertEquals(ProjectStatus.REVIEW_COMPLETED, reviewCompleted.getStatus());
+        assertEquals(5, reviewCompleted.getTransitions());
+        assertEquals(4.0, reviewCompleted.getAverageDays(), 1e-9);
+        assertEquals(8.0, reviewCompleted.getMaxDays(), 1e-9);
+
+        // Outliers: mais de 2 x 4 dias no status monitorado
+        verify(statusAnalyticsRepository).findStuck(eq(ProjectStatus.REVIEW_COMPLETED),
+                argThat(before -> before.isBefore(LocalDateTime.now().minusDays(7))
+                        && before.isAfter(LocalDateTime.now().minusDays(9))),
+                eq(20), any());
+        verify(statusAnalyticsRepository, never()).lockRolledUpUntil();
+    }
+
+    @Test
+    void getFunnel_ShouldComputeConversionPerStage() {
+        // Arrange
+        LocalDate from = today.minusDays(30);
+        when(statusAnalyticsRepository.findRolledUpUntil()).thenReturn(Optional.of(today));
+        when(statusAnalyticsRepository.sumDaily(from, today)).thenReturn(List.of(
+                new StatusTransitionStats(ProjectStatus.UNDER_REVIEW, ProjectStatus.REVIEW_COMPLETED, 10, 0, 0),
+                new StatusTransitionStats(ProjectStatus.REVIEW_COMPLETED, ProjectStatus.REVIEW_APPROVED, 6, 0, 0),
+                new StatusTransitionStats(ProjectStatus.REVIEW_COMPLETED, ProjectStatus.CANCELLED, 2, 0, 0)));
+
+        // Act
+        FunnelReportDTO report = statusAnalyticsService.getFunnel(from, today.minusDays(1));
+
+        // Assert
+        FunnelStageDTO reviewCompleted = report.getStages().stream()
+                .filter(stage -> stage.getStatus() == ProjectStatus.REVIEW_COMPLETED)
+                .findFirst().orElseThrow();
+        assertEquals(10, reviewCompleted.getEntered());
+        assertEquals(8, reviewCompleted.getExited());
+        assertEquals(6, reviewCompleted.getAdvanced());
+        assertEquals(2, reviewCompleted.getCancelled());
+        assertEquals(0.75, reviewCompleted.getConversionRate(), 1e-9);
+
+        FunnelStageDTO approved = report.getStages().stream()
+                .filter(stage -> stage.getStatus() == ProjectStatus.REVIEW_APPROVED)
+                .findFirst().orElseThrow();
+        assertNull(approved.getConversionRate());
+        assertEquals(3, report.getTransitions().size());
+        verify(statusAnalyticsRepository, never()).computeLive(any(), any());
+    }
+
+    @Test
+    void rollUp_WithPendingDays_ShouldConsolidateFromFirstChange() {
+        // Arrange
+        LocalDate firstChange = today.minusDays(3);
+        when(statusAnalyticsRepository.findRolledUpUntil()).thenReturn(Optional.empty());
+        when(statusAnalyticsRepository.lockRolledUpUntil()).thenReturn(Optional.empty());
+        when(statusAnalyticsRepository.findFirstChangeDay()).thenReturn(Optional.of(firstChange));
+
+        // Act
+        LocalDate rolledUpUntil = statusAnalyticsService.rollUp();
+
+        // Assert
+        assertEquals(today, rolledUpUntil);
+        verify(statusAnalyticsRepository).rollUp(firstChange, today);
+    }
+
+    @Test
+    void getCycleTime_WithInvertedPeriod_ShouldThrowCustomException() {
+        CustomException exception = assertThrows(CustomException.class,
+                () -> statusAnalyticsService.getCycleTime(today, today.minusDays(1)));
+
+        assertEquals("Período inválido: a data inicial deve ser anterior ou igual à final", exception.getMessage());
+        verifyNoInteractions(statusAnalyticsRepository);
+    }
+}
@@ -0,0 +1,188 @@
+package com.br.codegroup.service;
+
+import com.br.codegroup.config.StatusHistoryProperties;
+import com.br.codegroup.domain.ProjectStatus;
+import com.br.codegroup.repository.StatusHistoryEntry;
+import com.br.codegroup.repository.StatusHistoryRepository;
+import com.br.codegroup.service.impl.StatusHistoryServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatusHistoryServiceImplTest {
+
+    @Mock
+    private StatusHistoryRepository statusHistoryRepository;
+
+    private StatusHistoryProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private StatusHistoryServiceImpl statusHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StatusHistoryProperties();
+        properties.setBatchSize(2);
+        // Intervalo longo: as descargas do teste são explícitas
+        properties.setFlushIntervalMs(60_000);
+        meterRegistry = new SimpleMeterRegistry();
+        statusHistoryService = new StatusHistoryServiceImpl(statusHistoryRepository, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        statusHistoryService.shutdown();
+    }
+
+    @Test
+    void recordTransition_InsideTransaction_ShouldEnqueueOnlyAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        statusHistoryService.recordTransition(1L, ProjectStatus.UNDER_REVIEW, ProjectStatus.REVIEW_COMPLETED, "ok");
+
+        // Assert
+        assertEquals(0, statusHistoryService.getQueueSize());
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, statusHistoryService.getQueueSize());
+        assertEquals(1.0, meterRegistry.get("status.history.queue.size").gauge().value());
+        verifyNoInteractions(statusHistoryRepository);
+    }
+
+    @Test
+    void flush_ShouldWriteInBatchesAndResolveActor() {
+        // Arrange
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("manager", null, List.of()));
+        properties.setBatchSize(10);
+        Map<Long, ProjectStatus> previous = new LinkedHashMap<>();
+        previous.put(1L, ProjectStatus.UNDER_REVIEW);
+        previous.put(2L, ProjectStatus.UNDER_REVIEW);
+        previous.put(3L, ProjectStatus.PLANNED);
+        when(statusHistoryRepository.findMemberIdsByUsernames(Set.of("manager"))).thenReturn(Map.of("manager", 4L));
+
+        statusHistoryService.recordTransitions(previous, ProjectStatus.CANCELLED, "Encerramento do contrato");
+        properties.setBatchSize(2);
+
+        // Act
+        int flushed = statusHistoryService.flush();
+
+        // Assert
+        assertEquals(3, flushed);
+        assertEquals(0, statusHistoryService.getQueueSize());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StatusHistoryEntry>> batches = ArgumentCaptor.forClass(List.class);
+        verify(statusHistoryRepository, times(2)).insertAll(batches.capture(), eq(Map.of("manager", 4L)));
+        assertEquals(2, batches.getAllValues().get(0).size());
+        assertEquals(1, batches.getAllValues().get(1).size());
+
+        StatusHistoryEntry entry = batches.getAllValues().get(1).get(0);
+        assertEquals(3L, entry.projectId());
+        assertEquals(ProjectStatus.PLANNED, entry.previousStatus());
+        assertEquals(ProjectStatus.CANCELLED, entry.newStatus());
+        assertEquals("Encerramento do contrato", entry.reason());
+        assertEquals(2L, meterRegistry.get("status.history.flush").timer().count());
+        assertEquals(3.0, meterRegistry.get("status.history.written").counter().count());
+    }
+
+    @Test
+    void shutdown_ShouldDrainPendingEntries() throws InterruptedException {
+        // Arrange
+        properties.setBatchSize(100);
+        statusHistoryService.recordTransition(1L, ProjectStatus.PLANNED, ProjectStatus.IN_PROGRESS, null);
+
+        // Act
+        statusHistoryService.shutdown();
+
+        // Assert
+        assertEquals(0, statusHistoryService.getQueueSize());
+        verify(statusHistoryRepository).insertAll(argThat(batch -> batch.size() == 1), anyMap());
+    }
+
+    @Test
+    void flush_WhenBatchFails_ShouldKeepItForRetry() {
+        // Arrange
+        properties.setBatchSize(100);
+        when(statusHistoryRepository.insertAll(anyList(), anyMap()))
+                .thenThrow(new DataAccessResourceFailureException("banco indisponível"))
+                .thenReturn(new int[]{1});
+        statusHistoryService.recordTransition(1L, ProjectStatus.PLANNED, ProjectStatus.IN_PROGRESS, null);
+
+        // Act
+        int firstFlush = statusHistoryService.flush();
+        int queuedAfterFailure = statusHistoryService.getQueueSize();
+        int secondFlush = statusHistoryService.flush();
+
+        // Assert
+        assertEquals(0, firstFlush);
+        assertEquals(1, queuedAfterFailure);
+        assertEquals(1, secondFlush);
+        assertEquals(0, statusHistoryService.getQueueSize());
+        verify(statusHistoryRepository, times(2)).insertAll(
+                argThat(batch -> batch.size() == 1 && batch.get(0).projectId() == 1L), anyMap());
+        assertEquals(1.0, meterRegistry.get("status.history.failed").counter().count());
+        assertEquals(1.0, meterRegistry.get("status.history.written").counter().count());
+        assertEquals(0.0, meterRegistry.get("status.history.retry.size").gauge().value());
+    }
+
+    @Test
+    void flush_WhenRetriesAreExhausted_ShouldDropBatch() {
+        // Arrange
+        properties.setBatchSize(100);
+        properties.setMaxAttempts(2);
+        when(statusHistoryRepository.insertAll(anyList(), anyMap()))
+                .thenThrow(new DataAccessResourceFailureException("banco indisponível"));
+        statusHistoryService.recordTransition(1L, ProjectStatus.PLANNED, ProjectStatus.IN_PROGRESS, null);
+
+        // Act
+        statusHistoryService.flush();
+        statusHistoryService.flush();
+        statusHistoryService.flush();
+
+        // Assert
+        verify(statusHistoryRepository, times(2)).insertAll(anyList(), anyMap());
+        assertEquals(0, statusHistoryService.getQueueSize());
+        assertEquals(1.0, meterRegistry.get("status.history.dropped").counter().count());
+    }
+
+    @Test
+    void recordTransition_AfterShutdown_ShouldWriteOnCallerThread() throws InterruptedException {
+        // Arrange
+        properties.setBatchSize(1);
+        statusHistoryService.shutdown();
+
+        // Act
+        assertDoesNotThrow(() ->
+                statusHistoryService.recordTransition(1L, ProjectStatus.PLANNED, ProjectStatus.IN_PROGRESS, null));
+
+        // Assert
+        assertEquals(0, statusHistoryService.getQueueSize());
+        verify(statusHistoryRepository).insertAll(argThat(batch -> batch.size() == 1), anyMap());
+    }
+}